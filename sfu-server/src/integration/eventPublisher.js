@@ -1,6 +1,8 @@
 const fs = require('fs');
 const path = require('path');
 const { postEvent } = require('./springClient');
+const { createSpringChannel } = require('./springChannel');
+const { createSpringStream } = require('./springStream');
 const logger = require('../metrics/logger');
 
 const queue = [];
@@ -10,6 +12,15 @@ const RETRY_MAX = Number(process.env.EVENT_RETRY_MAX || 5);
 const RETRY_BASE_MS = Number(process.env.EVENT_RETRY_BASE_MS || 500);
 const RETRY_MAX_MS = Number(process.env.EVENT_RETRY_MAX_MS || 10000);
 
+const channel = createChannel(process.env.SPRING_EVENT_TRANSPORT);
+
+function createChannel(transport) {
+  const onDrop = (payload, err) => writeToDlq(payload, err);
+  if (transport === 'ws') return createSpringChannel({ onDrop });
+  if (transport === 'stream') return createSpringStream({ onDrop });
+  return null;
+}
+
 async function publishEvent(event) {
   if (!event || !event.roomId || !event.eventType) {
     return null;
@@ -21,6 +32,10 @@ async function publishEvent(event) {
     roomId: event.roomId,
     payload: event.payload || {}
   };
+  if (channel) {
+    channel.send(payload);
+    return payload.eventId;
+  }
   enqueue({ payload, attempts: 0 });
   processQueue();
   return payload.eventId;
@@ -37,7 +52,7 @@ async function processQueue() {
     const entry = queue.shift();
     try {
       const result = await postEvent(entry.payload);
-      if (result && (result.status === 200 || result.status === 201)) {
+      if (result && (result.status === 200 || result.status === 201 || result.status === 202)) {
         logger.debug('spring event acknowledged', {
           eventType: entry.payload.eventType,
           status: result.status
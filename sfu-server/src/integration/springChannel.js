@@ -0,0 +1,145 @@
+const WebSocket = require('ws');
+const logger = require('../metrics/logger');
+
+const FRAME_MAX_EVENTS = Number(process.env.EVENT_CHANNEL_FRAME_MAX || 100);
+// Spring event-channel.max-frame-bytes보다 크면 안 된다. 넘는 프레임은 1009로 연결이 끊긴다.
+const FRAME_MAX_BYTES = Number(process.env.EVENT_CHANNEL_FRAME_MAX_BYTES || 256 * 1024);
+// {"seq":...,"events":[...]} 봉투 몫
+const FRAME_ENVELOPE_BYTES = 64;
+const MAX_BACKLOG = Number(process.env.EVENT_CHANNEL_MAX_BACKLOG || 10000);
+const RECONNECT_BASE_MS = Number(process.env.EVENT_RETRY_BASE_MS || 500);
+const RECONNECT_MAX_MS = Number(process.env.EVENT_RETRY_MAX_MS || 10000);
+
+// Spring /api/events/ws 채널. seq는 연결마다 1부터 다시 시작하고,
+// ack 되지 않은 이벤트는 재연결 시 backlog 앞으로 되돌려 다시 보낸다(서버는 eventId로 중복 제거).
+function createSpringChannel({ onDrop } = {}) {
+  const backlog = [];
+  let inflight = [];
+  let ws = null;
+  let ready = false;
+  let nextSeq = 1;
+  let sendLimit = 0;
+  let reconnectAttempts = 0;
+  let reconnectTimer = null;
+
+  function channelUrl() {
+    const baseUrl = process.env.SPRING_EVENT_BASE_URL;
+    if (!baseUrl) return null;
+    return `${baseUrl.replace(/^http/, 'ws')}/api/events/ws`;
+  }
+
+  function connect() {
+    const url = channelUrl();
+    if (!url || ws) return;
+    const token = process.env.INTERNAL_API_TOKEN || '';
+    ws = new WebSocket(url, {
+      headers: token ? { 'X-Server-Token': token } : {}
+    });
+    ws.on('open', () => {
+      reconnectAttempts = 0;
+      nextSeq = 1;
+      sendLimit = 0;
+      logger.info('spring event channel connected', { url });
+    });
+    ws.on('message', (data) => handleAck(data));
+    ws.on('close', (code, reason) => {
+      logger.warn('spring event channel closed', { code, reason: reason.toString() });
+      resetConnection();
+    });
+    ws.on('error', (err) => {
+      logger.warn('spring event channel error', { message: err.message });
+    });
+  }
+
+  function resetConnection() {
+    ws = null;
+    ready = false;
+    if (inflight.length > 0) {
+      backlog.unshift(...inflight.map((entry) => entry.payload));
+      inflight = [];
+    }
+    scheduleReconnect();
+  }
+
+  function scheduleReconnect() {
+    if (reconnectTimer) return;
+    reconnectAttempts += 1;
+    const base = Math.min(RECONNECT_BASE_MS * 2 ** (reconnectAttempts - 1), RECONNECT_MAX_MS);
+    const delay = base + Math.floor(Math.random() * 200);
+    reconnectTimer = setTimeout(() => {
+      reconnectTimer = null;
+      connect();
+    }, delay);
+  }
+
+  function handleAck(data) {
+    let message;
+    try {
+      message = JSON.parse(data.toString());
+    } catch (err) {
+      logger.warn('spring event channel sent malformed ack', { message: err.message });
+      return;
+    }
+    if (message.type !== 'ack') return;
+
+    const acked = [];
+    while (inflight.length > 0 && inflight[0].seq <= message.ack) {
+      acked.push(inflight.shift());
+    }
+    for (const rejected of message.rejected || []) {
+      const entry = acked.find((item) => item.seq === rejected.index);
+      logger.error('spring event rejected', { eventId: rejected.eventId, error: rejected.error });
+      if (entry && onDrop) {
+        onDrop(entry.payload, new Error(rejected.error || 'rejected'));
+      }
+    }
+    sendLimit = Math.max(sendLimit, message.ack + message.credit);
+    ready = true;
+    pump();
+  }
+
+  function pump() {
+    if (!ready || !ws || ws.readyState !== WebSocket.OPEN) return;
+    while (backlog.length > 0) {
+      const allowed = sendLimit - (nextSeq - 1);
+      if (allowed <= 0) return;
+      const maxCount = Math.min(allowed, FRAME_MAX_EVENTS);
+      const seq = nextSeq;
+      const parts = [];
+      let bytes = FRAME_ENVELOPE_BYTES;
+      while (parts.length < maxCount && backlog.length > 0) {
+        const json = JSON.stringify(backlog[0]);
+        const size = Buffer.byteLength(json) + 1;
+        if (parts.length > 0 && bytes + size > FRAME_MAX_BYTES) break;
+        bytes += size;
+        parts.push(json);
+        inflight.push({ seq: seq + parts.length - 1, payload: backlog.shift() });
+      }
+      nextSeq += parts.length;
+      ws.send(`{"seq":${seq},"events":[${parts.join(',')}]}`);
+    }
+  }
+
+  function send(payload) {
+    const bytes = Buffer.byteLength(JSON.stringify(payload));
+    if (bytes + 1 + FRAME_ENVELOPE_BYTES > FRAME_MAX_BYTES) {
+      logger.error('spring event too large for channel frame', { eventType: payload.eventType, bytes });
+      if (onDrop) onDrop(payload, new Error(`event exceeds ${FRAME_MAX_BYTES} byte frame`));
+      return;
+    }
+    if (backlog.length + inflight.length >= MAX_BACKLOG) {
+      logger.error('spring event channel backlog full', { eventType: payload.eventType });
+      if (onDrop) onDrop(payload, new Error('event channel backlog full'));
+      return;
+    }
+    backlog.push(payload);
+    connect();
+    pump();
+  }
+
+  return { send };
+}
+
+module.exports = {
+  createSpringChannel
+};
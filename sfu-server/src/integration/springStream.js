@@ -0,0 +1,173 @@
+const http = require('http');
+const https = require('https');
+const logger = require('../metrics/logger');
+
+// Spring RoomEventIngestService.MAX_STREAM_LINE_BYTES와 맞춘다. 더 긴 줄은 서버가 400으로 스트림째 거절한다.
+const MAX_LINE_BYTES = Number(process.env.EVENT_STREAM_MAX_LINE_BYTES || 1024 * 1024);
+const MAX_BACKLOG = Number(process.env.EVENT_CHANNEL_MAX_BACKLOG || 10000);
+const IDLE_CLOSE_MS = Number(process.env.EVENT_STREAM_IDLE_MS || 30000);
+const RECONNECT_BASE_MS = Number(process.env.EVENT_RETRY_BASE_MS || 500);
+const RECONNECT_MAX_MS = Number(process.env.EVENT_RETRY_MAX_MS || 10000);
+
+// Spring POST /api/events:stream 클라이언트. 요청 하나를 열어 두고 이벤트를 한 줄씩 쓰며, 서버는 줄마다 ack 한 줄을 돌려준다.
+// ack의 index는 요청마다 0부터 다시 매겨지고, ack 받지 못한 이벤트는 재연결 시 backlog 앞으로 되돌려 다시 보낸다.
+function createSpringStream({ onDrop } = {}) {
+  const backlog = [];
+  // 응답을 기다리는 요청들. 유휴로 끝낸 요청도 마지막 ack를 받을 때까지 남는다.
+  const connections = new Set();
+  let active = null;
+  let idleTimer = null;
+  let reconnectAttempts = 0;
+  let reconnectTimer = null;
+
+  function streamUrl() {
+    const baseUrl = process.env.SPRING_EVENT_BASE_URL;
+    if (!baseUrl) return null;
+    return new URL('/api/events:stream', baseUrl);
+  }
+
+  function open() {
+    const url = streamUrl();
+    if (!url || active || reconnectTimer) return;
+    const token = process.env.INTERNAL_API_TOKEN || '';
+    const client = url.protocol === 'https:' ? https : http;
+    const connection = {
+      request: client.request(url, {
+        method: 'POST',
+        headers: {
+          'Content-Type': 'application/x-ndjson',
+          Accept: 'application/x-ndjson',
+          ...(token ? { 'X-Server-Token': token } : {})
+        }
+      }),
+      inflight: new Map(),
+      nextIndex: 0
+    };
+    connection.request.on('response', (response) => handleResponse(connection, response));
+    connection.request.on('error', (err) => {
+      logger.warn('spring event stream error', { message: err.message });
+      closed(connection);
+    });
+    connections.add(connection);
+    active = connection;
+  }
+
+  function handleResponse(connection, response) {
+    if (response.statusCode !== 200) {
+      let body = '';
+      response.on('data', (chunk) => { body += chunk; });
+      response.on('end', () => {
+        logger.error('spring event stream rejected', { status: response.statusCode, body });
+        closed(connection);
+      });
+      return;
+    }
+    reconnectAttempts = 0;
+    let buffered = '';
+    response.setEncoding('utf8');
+    response.on('data', (chunk) => {
+      buffered += chunk;
+      let newline;
+      while ((newline = buffered.indexOf('\n')) >= 0) {
+        handleAck(connection, buffered.slice(0, newline));
+        buffered = buffered.slice(newline + 1);
+      }
+    });
+    response.on('end', () => closed(connection));
+    response.on('error', () => closed(connection));
+  }
+
+  function handleAck(connection, line) {
+    if (!line.trim()) return;
+    let ack;
+    try {
+      ack = JSON.parse(line);
+    } catch (err) {
+      logger.warn('spring event stream sent malformed ack', { message: err.message });
+      return;
+    }
+    const payload = connection.inflight.get(ack.index);
+    connection.inflight.delete(ack.index);
+    if (ack.status === 'INVALID') {
+      logger.error('spring event rejected', { eventId: ack.eventId, error: ack.error });
+      if (payload && onDrop) onDrop(payload, new Error(ack.error || 'rejected'));
+    }
+  }
+
+  // 요청이 끝나거나 끊기면 ack 받지 못한 이벤트를 순서대로 되돌리고(서버는 eventId로 중복 제거), 남은 것이 있으면 다시 연다.
+  function closed(connection) {
+    if (!connections.delete(connection)) return;
+    if (active === connection) {
+      active = null;
+      clearTimeout(idleTimer);
+      idleTimer = null;
+    }
+    if (connection.inflight.size > 0) {
+      backlog.unshift(...connection.inflight.values());
+      connection.inflight.clear();
+      scheduleReconnect();
+    }
+  }
+
+  function scheduleReconnect() {
+    if (reconnectTimer) return;
+    reconnectAttempts += 1;
+    const base = Math.min(RECONNECT_BASE_MS * 2 ** (reconnectAttempts - 1), RECONNECT_MAX_MS);
+    const delay = base + Math.floor(Math.random() * 200);
+    reconnectTimer = setTimeout(() => {
+      reconnectTimer = null;
+      pump();
+    }, delay);
+  }
+
+  function pump() {
+    if (backlog.length === 0) return;
+    open();
+    if (!active) return;
+    const connection = active;
+    while (backlog.length > 0) {
+      const payload = backlog.shift();
+      connection.inflight.set(connection.nextIndex, payload);
+      connection.nextIndex += 1;
+      connection.request.write(JSON.stringify(payload) + '\n');
+    }
+    // 한동안 보낼 것이 없으면 요청을 끝내 서버 스레드를 돌려준다. 남은 ack는 응답이 끝날 때까지 받는다.
+    clearTimeout(idleTimer);
+    idleTimer = setTimeout(() => {
+      idleTimer = null;
+      if (active === connection) {
+        active = null;
+        connection.request.end();
+      }
+    }, IDLE_CLOSE_MS);
+  }
+
+  function inflightCount() {
+    let count = 0;
+    for (const connection of connections) count += connection.inflight.size;
+    return count;
+  }
+
+  function send(payload) {
+    const bytes = Buffer.byteLength(JSON.stringify(payload));
+    if (bytes > MAX_LINE_BYTES) {
+      logger.error('spring event too large for stream', { eventType: payload.eventType, bytes });
+      if (onDrop) onDrop(payload, new Error(`event exceeds ${MAX_LINE_BYTES} bytes`));
+      return;
+    }
+    if (backlog.length + inflightCount() >= MAX_BACKLOG) {
+      logger.error('spring event stream backlog full', { eventType: payload.eventType });
+      if (onDrop) onDrop(payload, new Error('event stream backlog full'));
+      return;
+    }
+    backlog.push(payload);
+    pump();
+  }
+
+  return { send };
+}
+
+module.exports = {
+  createSpringStream,
+  MAX_LINE_BYTES
+};
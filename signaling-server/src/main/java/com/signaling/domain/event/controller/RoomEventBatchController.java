@@ -0,0 +1,34 @@
+package com.signaling.domain.event.controller;
+
+import com.signaling.domain.event.dto.RoomEventBatchResponse;
+import com.signaling.domain.event.dto.RoomEventRequest;
+import com.signaling.domain.event.service.RoomEventIngestService;
+import com.signaling.global.config.BinaryBodies;
+import java.util.List;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@BinaryBodies
+public class RoomEventBatchController {
+
+    private final RoomEventIngestService roomEventIngestService;
+
+    public RoomEventBatchController(RoomEventIngestService roomEventIngestService) {
+        this.roomEventIngestService = roomEventIngestService;
+    }
+
+    @PostMapping("/api/rooms/{roomId}/events:batch")
+    public ResponseEntity<RoomEventBatchResponse> createRoomEvents(@PathVariable String roomId,
+            @RequestBody List<RoomEventRequest> requests) {
+        return ResponseEntity.ok(roomEventIngestService.ingestBatch(roomId, requests));
+    }
+
+    @PostMapping("/api/events:batch")
+    public ResponseEntity<RoomEventBatchResponse> createEvents(@RequestBody List<RoomEventRequest> requests) {
+        return ResponseEntity.ok(roomEventIngestService.ingestBatch(null, requests));
+    }
+}
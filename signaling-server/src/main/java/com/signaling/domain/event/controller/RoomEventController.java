@@ -1,83 +1,185 @@
 package com.signaling.domain.event.controller;
 
+import com.signaling.domain.event.controller.RoomEventPaging.Cursor;
 import com.signaling.domain.event.entity.RoomEvent;
+import com.signaling.domain.event.dto.RoomEventField;
 import com.signaling.domain.event.dto.RoomEventPageResponse;
 import com.signaling.domain.event.dto.RoomEventRequest;
 import com.signaling.domain.event.dto.RoomEventResponse;
+import com.signaling.domain.event.dto.RoomEventTotalMode;
 import com.signaling.domain.event.entity.RoomEventType;
+import com.signaling.domain.event.service.RoomEventCountService;
+import com.signaling.domain.event.service.RoomEventIngestService;
+import com.signaling.domain.event.service.RoomEventPageCache;
 import com.signaling.domain.event.service.RoomEventService;
+import com.signaling.domain.event.service.RoomEventWaiters;
+import com.signaling.domain.event.sse.RoomEventStreamHub;
+import com.signaling.global.config.BinaryBodies;
 import jakarta.validation.Valid;
 import java.net.URI;
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.format.annotation.DateTimeFormat;
-import org.springframework.web.server.ResponseStatusException;
 
 @RestController
+@BinaryBodies
 @RequestMapping("/api/rooms/{roomId}/events")
 public class RoomEventController {
 
+    private static final long MAX_WAIT_MS = 30_000;
+
     private final RoomEventService roomEventService;
+    private final RoomEventIngestService roomEventIngestService;
+    private final RoomEventCountService roomEventCountService;
+    private final RoomEventPageCache roomEventPageCache;
+    private final RoomEventStreamHub roomEventStreamHub;
+    private final RoomEventWaiters roomEventWaiters;
 
-    public RoomEventController(RoomEventService roomEventService) {
+    public RoomEventController(RoomEventService roomEventService, RoomEventIngestService roomEventIngestService,
+            RoomEventCountService roomEventCountService, RoomEventPageCache roomEventPageCache,
+            RoomEventStreamHub roomEventStreamHub, RoomEventWaiters roomEventWaiters) {
         this.roomEventService = roomEventService;
+        this.roomEventIngestService = roomEventIngestService;
+        this.roomEventCountService = roomEventCountService;
+        this.roomEventPageCache = roomEventPageCache;
+        this.roomEventStreamHub = roomEventStreamHub;
+        this.roomEventWaiters = roomEventWaiters;
     }
 
     @GetMapping
-    public ResponseEntity<RoomEventPageResponse> listEvents(
+    public ResponseEntity<?> listEvents(
+            @PathVariable String roomId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(required = false) List<RoomEventType> types,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "next") String direction,
+            @RequestParam(required = false, defaultValue = "exact") String includeTotal,
+            @RequestParam(required = false) List<String> fields,
+            @RequestParam(required = false) Boolean includePayload,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            WebRequest webRequest) {
+        RoomEventTotalMode totalMode = RoomEventPaging.parseTotalMode(includeTotal);
+        Set<RoomEventField> selected = RoomEventPaging.resolveFields(fields, includePayload);
+        int safeLimit = RoomEventPaging.clamp(limit, 1, 500, 100);
+        Cursor parsedCursor = RoomEventPaging.parseCursor(cursor);
+        boolean forward = RoomEventPaging.isForward(direction);
+        if (!prefersJson(accept) || !roomEventPageCache.isCacheable(roomId)) {
+            return ResponseEntity.ok(buildPage(roomId, from, to, types, safeLimit, parsedCursor, forward, totalMode,
+                    selected));
+        }
+
+        String filterKey = from + "|" + to + "|" + (types == null ? "" : types.stream().sorted().toList())
+                + "|" + (cursor == null ? "" : cursor.trim()) + "|" + forward + "|" + safeLimit
+                + "|" + totalMode + "|" + selected;
+        // 방의 버전은 DB에서 읽으므로, 다른 노드에 늦게 저장된 이벤트도 total과 상관없이 페이지를 다시 만들게 한다.
+        long version = roomEventCountService.version(roomId);
+        RoomEventPageCache.CachedPage page = roomEventPageCache.get(roomId, filterKey, version,
+                () -> buildPage(roomId, from, to, types, safeLimit, parsedCursor, forward, totalMode, selected));
+        if (webRequest.checkNotModified(page.getEtag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(page.getEtag()).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(page.getEtag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(page.getBody());
+    }
+
+    /**
+     * 롱 폴링. 커서 이후 이벤트가 없으면 waitMs까지 스레드 없이 기다렸다가, 새 이벤트가 커밋되면 한 번 다시 조회해 응답한다.
+     * 깨어날 때마다 다시 세지 않도록 includeTotal 기본값은 none이다.
+     */
+    @GetMapping(params = "waitMs")
+    public DeferredResult<RoomEventPageResponse> waitForEvents(
             @PathVariable String roomId,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
             @RequestParam(required = false) List<RoomEventType> types,
             @RequestParam(required = false) Integer limit,
             @RequestParam(required = false) String cursor,
-            @RequestParam(required = false, defaultValue = "next") String direction) {
-        int safeLimit = clamp(limit, 1, 500, 100);
-        Cursor parsedCursor = parseCursor(cursor);
-        boolean forward = !"prev".equalsIgnoreCase(direction);
-        List<RoomEvent> raw = roomEventService.search(
+            @RequestParam(required = false, defaultValue = "next") String direction,
+            @RequestParam(required = false, defaultValue = "none") String includeTotal,
+            @RequestParam(required = false) List<String> fields,
+            @RequestParam(required = false) Boolean includePayload,
+            @RequestParam long waitMs) {
+        RoomEventTotalMode totalMode = RoomEventPaging.parseTotalMode(includeTotal);
+        Set<RoomEventField> selected = RoomEventPaging.resolveFields(fields, includePayload);
+        int safeLimit = RoomEventPaging.clamp(limit, 1, 500, 100);
+        Cursor parsedCursor = RoomEventPaging.parseCursor(cursor);
+        boolean forward = RoomEventPaging.isForward(direction);
+        long safeWaitMs = Math.min(Math.max(waitMs, 0), MAX_WAIT_MS);
+        Supplier<RoomEventPageResponse> loader =
+                () -> buildPage(roomId, from, to, types, safeLimit, parsedCursor, forward, totalMode, selected);
+        if (!forward || safeWaitMs == 0) {
+            DeferredResult<RoomEventPageResponse> result = new DeferredResult<>();
+            result.setResult(loader.get());
+            return result;
+        }
+        Predicate<RoomEvent> matches = event ->
+                (types == null || types.isEmpty() || types.contains(event.getEventType()))
+                && (from == null || !event.getOccurredAt().isBefore(from))
+                && (to == null || !event.getOccurredAt().isAfter(to))
+                && (parsedCursor == null || parsedCursor.precedes(event));
+        return roomEventWaiters.await(roomId, safeWaitMs, matches, loader);
+    }
+
+    private RoomEventPageResponse buildPage(String roomId, Instant from, Instant to, List<RoomEventType> types,
+            int safeLimit, Cursor parsedCursor, boolean forward, RoomEventTotalMode totalMode,
+            Set<RoomEventField> selected) {
+        RoomEventCountService.Total total = roomEventCountService.count(roomId, from, to, types, totalMode);
+        List<RoomEventResponse> raw = roomEventService.search(
                 roomId,
                 from,
                 to,
                 types,
-                parsedCursor != null ? parsedCursor.time : null,
-                parsedCursor != null ? parsedCursor.id : null,
+                Cursor.timeOf(parsedCursor),
+                Cursor.idOf(parsedCursor),
                 forward,
-                safeLimit + 1
+                safeLimit + 1,
+                selected
         );
-        boolean hasMore = raw.size() > safeLimit;
-        if (hasMore) {
-            raw.remove(raw.size() - 1);
-        }
-        if (!forward) {
-            List<RoomEvent> reversed = new ArrayList<>(raw);
-            Collections.reverse(reversed);
-            raw = reversed;
-        }
-
-        List<RoomEventResponse> items = raw.stream()
-                .map(this::toResponse)
-                .toList();
+        RoomEventPageResponse response = RoomEventPaging.toPage(raw, safeLimit, forward, selected);
+        response.setTotal(total.getValue());
+        response.setTotalApproximate(total.isApproximate());
+        return response;
+    }
 
-        long total = roomEventService.count(roomId, from, to, types);
-        RoomEventPageResponse response = new RoomEventPageResponse();
-        response.setItems(items);
-        response.setTotal(total);
-        response.setHasNext(hasMore);
-        response.setNextCursor(items.isEmpty() ? null : encodeCursor(raw.get(raw.size() - 1)));
-        response.setPrevCursor(items.isEmpty() ? null : encodeCursor(raw.get(0)));
-        return ResponseEntity.ok(response);
+    /**
+     * 라이브 테일. cursor(또는 재연결 시 Last-Event-ID) 이후 이벤트를 먼저 재생하고, 이후 커밋되는 이벤트를 SSE로 보낸다.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents(
+            @PathVariable String roomId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) List<RoomEventType> types,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        Cursor parsedCursor = RoomEventPaging.parseCursor(
+                lastEventId != null && !lastEventId.isBlank() ? lastEventId : cursor);
+        return roomEventStreamHub.subscribe(roomId, types, Cursor.timeOf(parsedCursor), Cursor.idOf(parsedCursor));
     }
 
     @PostMapping
@@ -87,13 +189,11 @@ public class RoomEventController {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
         }
 
-        RoomEvent event = new RoomEvent(
-                request.getEventId(),
-                request.getEventType(),
-                request.getRoomId(),
-                request.getOccurredAt(),
-                request.getPayload()
-        );
+        RoomEvent event = roomEventIngestService.toEntity(request);
+        if (roomEventIngestService.isAsync()) {
+            roomEventIngestService.enqueue(List.of(request));
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(toResponse(event));
+        }
         var result = roomEventService.saveIfNotExists(event);
         RoomEventResponse response = toResponse(result.getEvent());
         if (result.isCreated()) {
@@ -103,14 +203,20 @@ public class RoomEventController {
         return ResponseEntity.ok(response);
     }
 
-    private int clamp(Integer value, int min, int max, int defaultValue) {
-        if (value == null) {
-            return defaultValue;
+    /**
+     * 캐시된 본문은 JSON이므로, CBOR/Smile을 우선 요청한 클라이언트는 캐시를 거치지 않는다.
+     */
+    private boolean prefersJson(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return true;
         }
-        if (value < min) {
-            return min;
+        try {
+            List<MediaType> mediaTypes = new ArrayList<>(MediaType.parseMediaTypes(accept));
+            mediaTypes.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+            return mediaTypes.isEmpty() || mediaTypes.get(0).isCompatibleWith(MediaType.APPLICATION_JSON);
+        } catch (InvalidMediaTypeException ex) {
+            return false;
         }
-        return Math.min(value, max);
     }
 
     private RoomEventResponse toResponse(RoomEvent event) {
@@ -123,35 +229,4 @@ public class RoomEventController {
         response.setPayload(event.getPayload());
         return response;
     }
-
-    private String encodeCursor(RoomEvent event) {
-        return event.getOccurredAt().toEpochMilli() + ":" + event.getId();
-    }
-
-    private Cursor parseCursor(String cursor) {
-        if (cursor == null || cursor.isBlank()) {
-            return null;
-        }
-        String[] parts = cursor.split(":", 2);
-        if (parts.length != 2) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor format");
-        }
-        try {
-            long millis = Long.parseLong(parts[0]);
-            long id = Long.parseLong(parts[1]);
-            return new Cursor(Instant.ofEpochMilli(millis), id);
-        } catch (NumberFormatException ex) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor format");
-        }
-    }
-
-    private static class Cursor {
-        private final Instant time;
-        private final long id;
-
-        private Cursor(Instant time, long id) {
-            this.time = time;
-            this.id = id;
-        }
-    }
 }
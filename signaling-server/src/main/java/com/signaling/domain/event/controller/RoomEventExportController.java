@@ -0,0 +1,65 @@
+package com.signaling.domain.event.controller;
+
+import com.signaling.domain.event.entity.RoomEventType;
+import com.signaling.domain.event.service.RoomEventExportService;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class RoomEventExportController {
+
+    private static final String NDJSON = "application/x-ndjson";
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private final RoomEventExportService roomEventExportService;
+
+    public RoomEventExportController(RoomEventExportService roomEventExportService) {
+        this.roomEventExportService = roomEventExportService;
+    }
+
+    @GetMapping(value = "/api/rooms/{roomId}/events/export", produces = NDJSON)
+    public void export(
+            @PathVariable String roomId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(required = false) List<RoomEventType> types,
+            @RequestParam(required = false) Boolean gzip,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletResponse response) throws IOException {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("'from' must not be after 'to'");
+        }
+        boolean compress = gzip != null
+                ? gzip
+                : acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+        response.setContentType(NDJSON);
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("room-" + roomId + "-events.ndjson")
+                .build()
+                .toString());
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (!compress) {
+            roomEventExportService.export(roomId, from, to, types, response.getOutputStream());
+            return;
+        }
+        response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        // syncFlush여야 주기적인 flush가 압축 버퍼에 갇히지 않고 클라이언트까지 내려간다.
+        OutputStream gzipOutput = new GZIPOutputStream(response.getOutputStream(), GZIP_BUFFER_SIZE, true);
+        roomEventExportService.export(roomId, from, to, types, gzipOutput);
+        gzipOutput.close();
+    }
+}
@@ -0,0 +1,112 @@
+package com.signaling.domain.event.controller;
+
+import com.signaling.domain.event.controller.RoomEventPaging.Cursor;
+import com.signaling.domain.event.dto.RoomEventBulkQueryRequest;
+import com.signaling.domain.event.dto.RoomEventBulkQueryResponse;
+import com.signaling.domain.event.dto.RoomEventField;
+import com.signaling.domain.event.dto.RoomEventPageResponse;
+import com.signaling.domain.event.dto.RoomEventResponse;
+import com.signaling.domain.event.dto.RoomEventTotalMode;
+import com.signaling.domain.event.entity.RoomEventType;
+import com.signaling.domain.event.repository.RoomEventSlice;
+import com.signaling.domain.event.service.RoomEventCountService;
+import com.signaling.domain.event.service.RoomEventService;
+import com.signaling.global.config.BinaryBodies;
+import jakarta.validation.Valid;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 방을 가리지 않는 이벤트 피드와 여러 방 일괄 조회. 커서 형식과 페이지 응답은 방 단위 목록과 같고, total은 요청할 때만 계산한다.
+ */
+@RestController
+@BinaryBodies
+public class RoomEventFeedController {
+
+    private final RoomEventService roomEventService;
+    private final RoomEventCountService roomEventCountService;
+
+    public RoomEventFeedController(RoomEventService roomEventService, RoomEventCountService roomEventCountService) {
+        this.roomEventService = roomEventService;
+        this.roomEventCountService = roomEventCountService;
+    }
+
+    @GetMapping("/api/events")
+    public ResponseEntity<RoomEventPageResponse> listEvents(
+            @RequestParam(required = false) List<RoomEventType> types,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "next") String direction,
+            @RequestParam(required = false, defaultValue = "none") String includeTotal,
+            @RequestParam(required = false) List<String> fields,
+            @RequestParam(required = false) Boolean includePayload) {
+        RoomEventTotalMode totalMode = RoomEventPaging.parseTotalMode(includeTotal);
+        Set<RoomEventField> selected = RoomEventPaging.resolveFields(fields, includePayload);
+        int safeLimit = RoomEventPaging.clamp(limit, 1, 500, 100);
+        Cursor parsedCursor = RoomEventPaging.parseCursor(cursor);
+        boolean forward = RoomEventPaging.isForward(direction);
+        List<RoomEventResponse> raw = roomEventService.searchAcrossRooms(
+                from,
+                to,
+                types,
+                Cursor.timeOf(parsedCursor),
+                Cursor.idOf(parsedCursor),
+                forward,
+                safeLimit + 1,
+                selected
+        );
+
+        RoomEventCountService.Total total = roomEventCountService.count(null, from, to, types, totalMode);
+        RoomEventPageResponse response = RoomEventPaging.toPage(raw, safeLimit, forward, selected);
+        response.setTotal(total.getValue());
+        response.setTotalApproximate(total.isApproximate());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 모더레이션 화면처럼 여러 방의 최근 이벤트를 한 번에 받는다. 방마다 limit/cursor/direction을 따로 줄 수 있다.
+     */
+    @PostMapping("/api/events:query")
+    public ResponseEntity<RoomEventBulkQueryResponse> queryRooms(
+            @Valid @RequestBody RoomEventBulkQueryRequest request) {
+        Set<RoomEventField> selected = RoomEventPaging.resolveFields(request.getFields(), request.getIncludePayload());
+        List<RoomEventSlice> slices = new ArrayList<>(request.getRooms().size());
+        Set<String> roomIds = new HashSet<>();
+        for (RoomEventBulkQueryRequest.Room room : request.getRooms()) {
+            if (!roomIds.add(room.getRoomId())) {
+                throw new IllegalArgumentException("Duplicate roomId: " + room.getRoomId());
+            }
+            Cursor parsedCursor = RoomEventPaging.parseCursor(room.getCursor());
+            slices.add(new RoomEventSlice(
+                    room.getRoomId(),
+                    Cursor.timeOf(parsedCursor),
+                    Cursor.idOf(parsedCursor),
+                    RoomEventPaging.isForward(room.getDirection()),
+                    RoomEventPaging.clamp(room.getLimit(), 1, 100, 20) + 1
+            ));
+        }
+
+        List<List<RoomEventResponse>> bySlice = roomEventService.searchRooms(slices, request.getTypes(), selected);
+        Map<String, RoomEventPageResponse> pages = new LinkedHashMap<>();
+        for (int i = 0; i < slices.size(); i++) {
+            RoomEventSlice slice = slices.get(i);
+            pages.put(slice.getRoomId(),
+                    RoomEventPaging.toPage(bySlice.get(i), slice.getLimitPlusOne() - 1, slice.isForward(), selected));
+        }
+        return ResponseEntity.ok(new RoomEventBulkQueryResponse(pages));
+    }
+}
@@ -0,0 +1,50 @@
+package com.signaling.domain.event.controller;
+
+import com.signaling.domain.event.dto.RoomEventBucketSize;
+import com.signaling.domain.event.dto.RoomEventHistogramResponse;
+import com.signaling.domain.event.entity.RoomEventType;
+import com.signaling.domain.event.service.RoomEventRollupService;
+import com.signaling.global.config.BinaryBodies;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 롤업 테이블만 읽는 이벤트 히스토그램. room_events는 조회하지 않으며, 시간/일 버킷은 컴팩터 주기만큼 늦을 수 있다.
+ */
+@RestController
+@BinaryBodies
+public class RoomEventHistogramController {
+
+    private final RoomEventRollupService roomEventRollupService;
+
+    public RoomEventHistogramController(RoomEventRollupService roomEventRollupService) {
+        this.roomEventRollupService = roomEventRollupService;
+    }
+
+    @GetMapping("/api/rooms/{roomId}/events/histogram")
+    public ResponseEntity<RoomEventHistogramResponse> roomHistogram(
+            @PathVariable String roomId,
+            @RequestParam(required = false, defaultValue = "1m") String bucket,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(required = false) List<RoomEventType> types) {
+        return ResponseEntity.ok(roomEventRollupService.histogram(roomId, RoomEventBucketSize.fromParam(bucket),
+                from, to, types));
+    }
+
+    @GetMapping("/api/events/histogram")
+    public ResponseEntity<RoomEventHistogramResponse> globalHistogram(
+            @RequestParam(required = false, defaultValue = "1m") String bucket,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(required = false) List<RoomEventType> types) {
+        return ResponseEntity.ok(roomEventRollupService.histogram(null, RoomEventBucketSize.fromParam(bucket),
+                from, to, types));
+    }
+}
@@ -0,0 +1,46 @@
+package com.signaling.domain.event.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.signaling.domain.event.service.RoomEventIngestService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class RoomEventIngestStreamController {
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    private final RoomEventIngestService roomEventIngestService;
+    private final ObjectMapper objectMapper;
+
+    public RoomEventIngestStreamController(RoomEventIngestService roomEventIngestService,
+            ObjectMapper objectMapper) {
+        this.roomEventIngestService = roomEventIngestService;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostMapping(value = "/api/events:stream", consumes = NDJSON, produces = NDJSON)
+    public void ingestStream(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType(NDJSON);
+        response.setCharacterEncoding("UTF-8");
+        try {
+            roomEventIngestService.ingestStream(request.getInputStream(), response.getOutputStream());
+        } catch (IllegalArgumentException ex) {
+            // ack를 이미 보냈으면 상태 코드를 바꿀 수 없으므로 연결을 끊는 것으로 알린다.
+            if (response.isCommitted()) {
+                throw ex;
+            }
+            // produces가 NDJSON이라 GlobalExceptionHandler의 JSON 본문을 쓸 수 없어 같은 모양으로 직접 쓴다.
+            response.resetBuffer();
+            response.setStatus(HttpStatus.BAD_REQUEST.value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), Map.of("error", String.valueOf(ex.getMessage())));
+        }
+    }
+}
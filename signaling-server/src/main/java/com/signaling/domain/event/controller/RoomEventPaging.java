@@ -0,0 +1,138 @@
+package com.signaling.domain.event.controller;
+
+import com.signaling.domain.event.dto.RoomEventField;
+import com.signaling.domain.event.dto.RoomEventFieldsResponse;
+import com.signaling.domain.event.dto.RoomEventPageResponse;
+import com.signaling.domain.event.dto.RoomEventResponse;
+import com.signaling.domain.event.dto.RoomEventTotalMode;
+import com.signaling.domain.event.entity.RoomEvent;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 이벤트 목록 API(방 단위 목록, 피드, 여러 방 일괄 조회)가 함께 쓰는 파라미터 해석과 페이지 조립.
+ * 커서는 "occurredAt 밀리초:id" 형식이다.
+ */
+final class RoomEventPaging {
+
+    private RoomEventPaging() {
+    }
+
+    static int clamp(Integer value, int min, int max, int defaultValue) {
+        if (value == null) {
+            return defaultValue;
+        }
+        if (value < min) {
+            return min;
+        }
+        return Math.min(value, max);
+    }
+
+    static boolean isForward(String direction) {
+        return !"prev".equalsIgnoreCase(direction);
+    }
+
+    /**
+     * fields가 없으면 전체 항목. includePayload는 fields 결과에 payload를 더하거나 뺀다.
+     */
+    static Set<RoomEventField> resolveFields(List<String> fields, Boolean includePayload) {
+        Set<RoomEventField> selected = EnumSet.allOf(RoomEventField.class);
+        if (fields != null && !fields.isEmpty()) {
+            selected = EnumSet.noneOf(RoomEventField.class);
+            for (String field : fields) {
+                selected.add(RoomEventField.fromParam(field.trim()));
+            }
+        }
+        if (includePayload != null) {
+            if (includePayload) {
+                selected.add(RoomEventField.PAYLOAD);
+            } else {
+                selected.remove(RoomEventField.PAYLOAD);
+            }
+        }
+        return selected;
+    }
+
+    static RoomEventTotalMode parseTotalMode(String includeTotal) {
+        try {
+            return RoomEventTotalMode.valueOf(includeTotal.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "includeTotal must be exact, approximate or none");
+        }
+    }
+
+    static Cursor parseCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String[] parts = cursor.split(":", 2);
+        if (parts.length != 2) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor format");
+        }
+        try {
+            long millis = Long.parseLong(parts[0]);
+            long id = Long.parseLong(parts[1]);
+            return new Cursor(Instant.ofEpochMilli(millis), id);
+        } catch (NumberFormatException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor format");
+        }
+    }
+
+    static String encodeCursor(RoomEventResponse event) {
+        return event.getOccurredAt().toEpochMilli() + ":" + event.getId();
+    }
+
+    /**
+     * limit + 1건까지 읽은 조회 결과로 페이지를 만든다. 남는 한 건은 hasNext로만 쓰고, 이전 방향이면 시간순으로 뒤집는다.
+     * 커서는 고른 항목과 상관없이 id/occurredAt으로 만든 뒤 고르지 않은 항목을 뺀다. total은 호출한 쪽이 채운다.
+     */
+    static RoomEventPageResponse toPage(List<RoomEventResponse> raw, int limit, boolean forward,
+            Set<RoomEventField> selected) {
+        boolean hasMore = raw.size() > limit;
+        List<RoomEventResponse> items = new ArrayList<>(hasMore ? raw.subList(0, limit) : raw);
+        if (!forward) {
+            Collections.reverse(items);
+        }
+        RoomEventPageResponse page = new RoomEventPageResponse();
+        page.setHasNext(hasMore);
+        page.setNextCursor(items.isEmpty() ? null : encodeCursor(items.get(items.size() - 1)));
+        page.setPrevCursor(items.isEmpty() ? null : encodeCursor(items.get(0)));
+        page.setItems(RoomEventFieldsResponse.select(items, selected));
+        return page;
+    }
+
+    static final class Cursor {
+        private final Instant time;
+        private final long id;
+
+        private Cursor(Instant time, long id) {
+            this.time = time;
+            this.id = id;
+        }
+
+        static Instant timeOf(Cursor cursor) {
+            return cursor != null ? cursor.time : null;
+        }
+
+        static Long idOf(Cursor cursor) {
+            return cursor != null ? cursor.id : null;
+        }
+
+        /**
+         * 커밋된 이벤트가 이 커서 뒤에 오는지. 커서와 같은 밀리초 단위로 비교한다.
+         */
+        boolean precedes(RoomEvent event) {
+            long millis = event.getOccurredAt().toEpochMilli();
+            long cursorMillis = time.toEpochMilli();
+            return millis > cursorMillis || (millis == cursorMillis && event.getId() > id);
+        }
+    }
+}
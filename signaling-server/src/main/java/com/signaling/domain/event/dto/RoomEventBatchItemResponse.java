@@ -0,0 +1,62 @@
+package com.signaling.domain.event.dto;
+
+public class RoomEventBatchItemResponse {
+
+    private int index;
+    private String eventId;
+    private RoomEventIngestStatus status;
+    private Long id;
+    private String error;
+
+    public RoomEventBatchItemResponse() {
+    }
+
+    public RoomEventBatchItemResponse(int index, String eventId, RoomEventIngestStatus status, Long id,
+            String error) {
+        this.index = index;
+        this.eventId = eventId;
+        this.status = status;
+        this.id = id;
+        this.error = error;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public String getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(String eventId) {
+        this.eventId = eventId;
+    }
+
+    public RoomEventIngestStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(RoomEventIngestStatus status) {
+        this.status = status;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
@@ -0,0 +1,52 @@
+package com.signaling.domain.event.dto;
+
+import java.util.List;
+
+public class RoomEventBatchResponse {
+
+    private List<RoomEventBatchItemResponse> items;
+    private int created;
+    private int accepted;
+    private int duplicates;
+    private int invalid;
+
+    public List<RoomEventBatchItemResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<RoomEventBatchItemResponse> items) {
+        this.items = items;
+    }
+
+    public int getCreated() {
+        return created;
+    }
+
+    public void setCreated(int created) {
+        this.created = created;
+    }
+
+    public int getAccepted() {
+        return accepted;
+    }
+
+    public void setAccepted(int accepted) {
+        this.accepted = accepted;
+    }
+
+    public int getDuplicates() {
+        return duplicates;
+    }
+
+    public void setDuplicates(int duplicates) {
+        this.duplicates = duplicates;
+    }
+
+    public int getInvalid() {
+        return invalid;
+    }
+
+    public void setInvalid(int invalid) {
+        this.invalid = invalid;
+    }
+}
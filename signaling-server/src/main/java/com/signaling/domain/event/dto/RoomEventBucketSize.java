@@ -0,0 +1,34 @@
+package com.signaling.domain.event.dto;
+
+import java.time.temporal.ChronoUnit;
+
+public enum RoomEventBucketSize {
+    MINUTE("1m", ChronoUnit.MINUTES),
+    HOUR("1h", ChronoUnit.HOURS),
+    DAY("1d", ChronoUnit.DAYS);
+
+    private final String paramName;
+    private final ChronoUnit unit;
+
+    RoomEventBucketSize(String paramName, ChronoUnit unit) {
+        this.paramName = paramName;
+        this.unit = unit;
+    }
+
+    public String getParamName() {
+        return paramName;
+    }
+
+    public ChronoUnit getUnit() {
+        return unit;
+    }
+
+    public static RoomEventBucketSize fromParam(String name) {
+        for (RoomEventBucketSize size : values()) {
+            if (size.paramName.equals(name)) {
+                return size;
+            }
+        }
+        throw new IllegalArgumentException("bucket must be 1m, 1h or 1d");
+    }
+}
@@ -0,0 +1,100 @@
+package com.signaling.domain.event.dto;
+
+import com.signaling.domain.event.entity.RoomEventType;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public class RoomEventBulkQueryRequest {
+
+    public static final int MAX_ROOMS = 200;
+
+    @NotEmpty
+    @Size(max = MAX_ROOMS)
+    private List<@Valid Room> rooms;
+
+    private List<RoomEventType> types;
+
+    private List<String> fields;
+
+    private Boolean includePayload;
+
+    public List<Room> getRooms() {
+        return rooms;
+    }
+
+    public void setRooms(List<Room> rooms) {
+        this.rooms = rooms;
+    }
+
+    public List<RoomEventType> getTypes() {
+        return types;
+    }
+
+    public void setTypes(List<RoomEventType> types) {
+        this.types = types;
+    }
+
+    public List<String> getFields() {
+        return fields;
+    }
+
+    public void setFields(List<String> fields) {
+        this.fields = fields;
+    }
+
+    public Boolean getIncludePayload() {
+        return includePayload;
+    }
+
+    public void setIncludePayload(Boolean includePayload) {
+        this.includePayload = includePayload;
+    }
+
+    public static class Room {
+
+        @NotBlank
+        @Size(max = 100)
+        private String roomId;
+
+        private Integer limit;
+
+        private String cursor;
+
+        private String direction;
+
+        public String getRoomId() {
+            return roomId;
+        }
+
+        public void setRoomId(String roomId) {
+            this.roomId = roomId;
+        }
+
+        public Integer getLimit() {
+            return limit;
+        }
+
+        public void setLimit(Integer limit) {
+            this.limit = limit;
+        }
+
+        public String getCursor() {
+            return cursor;
+        }
+
+        public void setCursor(String cursor) {
+            this.cursor = cursor;
+        }
+
+        public String getDirection() {
+            return direction;
+        }
+
+        public void setDirection(String direction) {
+            this.direction = direction;
+        }
+    }
+}
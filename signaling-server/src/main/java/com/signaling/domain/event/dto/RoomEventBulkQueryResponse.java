@@ -0,0 +1,24 @@
+package com.signaling.domain.event.dto;
+
+import java.util.Map;
+
+// 요청한 방 순서대로 roomId -> 페이지. total은 계산하지 않는다.
+public class RoomEventBulkQueryResponse {
+
+    private Map<String, RoomEventPageResponse> rooms;
+
+    public RoomEventBulkQueryResponse() {
+    }
+
+    public RoomEventBulkQueryResponse(Map<String, RoomEventPageResponse> rooms) {
+        this.rooms = rooms;
+    }
+
+    public Map<String, RoomEventPageResponse> getRooms() {
+        return rooms;
+    }
+
+    public void setRooms(Map<String, RoomEventPageResponse> rooms) {
+        this.rooms = rooms;
+    }
+}
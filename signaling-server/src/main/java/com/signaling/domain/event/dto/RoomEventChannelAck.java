@@ -0,0 +1,47 @@
+package com.signaling.domain.event.dto;
+
+import java.util.List;
+
+public class RoomEventChannelAck {
+
+    private long ack;
+    private int credit;
+    private List<RoomEventBatchItemResponse> rejected;
+
+    public RoomEventChannelAck() {
+    }
+
+    public RoomEventChannelAck(long ack, int credit, List<RoomEventBatchItemResponse> rejected) {
+        this.ack = ack;
+        this.credit = credit;
+        this.rejected = rejected;
+    }
+
+    public String getType() {
+        return "ack";
+    }
+
+    public long getAck() {
+        return ack;
+    }
+
+    public void setAck(long ack) {
+        this.ack = ack;
+    }
+
+    public int getCredit() {
+        return credit;
+    }
+
+    public void setCredit(int credit) {
+        this.credit = credit;
+    }
+
+    public List<RoomEventBatchItemResponse> getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(List<RoomEventBatchItemResponse> rejected) {
+        this.rejected = rejected;
+    }
+}
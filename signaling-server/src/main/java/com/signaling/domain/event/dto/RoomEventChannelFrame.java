@@ -0,0 +1,25 @@
+package com.signaling.domain.event.dto;
+
+import java.util.List;
+
+public class RoomEventChannelFrame {
+
+    private long seq;
+    private List<RoomEventRequest> events;
+
+    public long getSeq() {
+        return seq;
+    }
+
+    public void setSeq(long seq) {
+        this.seq = seq;
+    }
+
+    public List<RoomEventRequest> getEvents() {
+        return events;
+    }
+
+    public void setEvents(List<RoomEventRequest> events) {
+        this.events = events;
+    }
+}
@@ -0,0 +1,25 @@
+package com.signaling.domain.event.dto;
+
+public enum RoomEventField {
+    ID("id"),
+    EVENT_ID("eventId"),
+    EVENT_TYPE("eventType"),
+    OCCURRED_AT("occurredAt"),
+    ROOM_ID("roomId"),
+    PAYLOAD("payload");
+
+    private final String paramName;
+
+    RoomEventField(String paramName) {
+        this.paramName = paramName;
+    }
+
+    public static RoomEventField fromParam(String name) {
+        for (RoomEventField field : values()) {
+            if (field.paramName.equals(name)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unknown event field: " + name);
+    }
+}
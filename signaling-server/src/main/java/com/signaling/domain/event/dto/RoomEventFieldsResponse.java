@@ -0,0 +1,47 @@
+package com.signaling.domain.event.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * fields= 로 일부 항목만 고른 목록의 항목. 고르지 않은 항목은 응답에서 빠진다.
+ * 전체 항목을 고른 기본 요청은 RoomEventResponse를 그대로 써서 기존 응답 모양을 유지한다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class RoomEventFieldsResponse extends RoomEventResponse {
+
+    /**
+     * 조회 결과를 고른 항목만 남긴 목록으로 바꾼다. 커서를 만든 뒤에 불러야 한다(id/occurredAt이 빠질 수 있다).
+     */
+    public static List<RoomEventResponse> select(List<RoomEventResponse> items, Set<RoomEventField> fields) {
+        if (fields.size() == RoomEventField.values().length) {
+            return items;
+        }
+        List<RoomEventResponse> selected = new ArrayList<>(items.size());
+        for (RoomEventResponse item : items) {
+            RoomEventFieldsResponse response = new RoomEventFieldsResponse();
+            if (fields.contains(RoomEventField.ID)) {
+                response.setId(item.getId());
+            }
+            if (fields.contains(RoomEventField.EVENT_ID)) {
+                response.setEventId(item.getEventId());
+            }
+            if (fields.contains(RoomEventField.EVENT_TYPE)) {
+                response.setEventType(item.getEventType());
+            }
+            if (fields.contains(RoomEventField.OCCURRED_AT)) {
+                response.setOccurredAt(item.getOccurredAt());
+            }
+            if (fields.contains(RoomEventField.ROOM_ID)) {
+                response.setRoomId(item.getRoomId());
+            }
+            if (fields.contains(RoomEventField.PAYLOAD)) {
+                response.setPayload(item.getPayload());
+            }
+            selected.add(response);
+        }
+        return selected;
+    }
+}
@@ -0,0 +1,49 @@
+package com.signaling.domain.event.dto;
+
+import com.signaling.domain.event.entity.RoomEventType;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+
+public class RoomEventHistogramBucket {
+
+    private Instant start;
+    private long total;
+    private Map<RoomEventType, Long> counts = new EnumMap<>(RoomEventType.class);
+
+    public RoomEventHistogramBucket() {
+    }
+
+    public RoomEventHistogramBucket(Instant start) {
+        this.start = start;
+    }
+
+    public void add(RoomEventType type, long count) {
+        counts.merge(type, count, Long::sum);
+        total += count;
+    }
+
+    public Instant getStart() {
+        return start;
+    }
+
+    public void setStart(Instant start) {
+        this.start = start;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public Map<RoomEventType, Long> getCounts() {
+        return counts;
+    }
+
+    public void setCounts(Map<RoomEventType, Long> counts) {
+        this.counts = counts;
+    }
+}
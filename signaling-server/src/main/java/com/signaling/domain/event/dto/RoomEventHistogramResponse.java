@@ -0,0 +1,68 @@
+package com.signaling.domain.event.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.time.Instant;
+import java.util.List;
+
+// 이벤트가 없는 버킷은 buckets에 포함하지 않는다. 전체 방 기준이면 roomId가 없다.
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class RoomEventHistogramResponse {
+
+    private String roomId;
+    private String bucket;
+    private Instant from;
+    private Instant to;
+    private List<RoomEventHistogramBucket> buckets;
+
+    public RoomEventHistogramResponse() {
+    }
+
+    public RoomEventHistogramResponse(String roomId, String bucket, Instant from, Instant to,
+            List<RoomEventHistogramBucket> buckets) {
+        this.roomId = roomId;
+        this.bucket = bucket;
+        this.from = from;
+        this.to = to;
+        this.buckets = buckets;
+    }
+
+    public String getRoomId() {
+        return roomId;
+    }
+
+    public void setRoomId(String roomId) {
+        this.roomId = roomId;
+    }
+
+    public String getBucket() {
+        return bucket;
+    }
+
+    public void setBucket(String bucket) {
+        this.bucket = bucket;
+    }
+
+    public Instant getFrom() {
+        return from;
+    }
+
+    public void setFrom(Instant from) {
+        this.from = from;
+    }
+
+    public Instant getTo() {
+        return to;
+    }
+
+    public void setTo(Instant to) {
+        this.to = to;
+    }
+
+    public List<RoomEventHistogramBucket> getBuckets() {
+        return buckets;
+    }
+
+    public void setBuckets(List<RoomEventHistogramBucket> buckets) {
+        this.buckets = buckets;
+    }
+}
@@ -0,0 +1,8 @@
+package com.signaling.domain.event.dto;
+
+public enum RoomEventIngestStatus {
+    CREATED,
+    ACCEPTED,
+    DUPLICATE,
+    INVALID
+}
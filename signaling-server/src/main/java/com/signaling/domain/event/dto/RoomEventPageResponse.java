@@ -5,7 +5,8 @@ import java.util.List;
 public class RoomEventPageResponse {
 
     private List<RoomEventResponse> items;
-    private long total;
+    private Long total;
+    private boolean totalApproximate;
     private String nextCursor;
     private String prevCursor;
     private boolean hasNext;
@@ -18,14 +19,22 @@ public class RoomEventPageResponse {
         this.items = items;
     }
 
-    public long getTotal() {
+    public Long getTotal() {
         return total;
     }
 
-    public void setTotal(long total) {
+    public void setTotal(Long total) {
         this.total = total;
     }
 
+    public boolean isTotalApproximate() {
+        return totalApproximate;
+    }
+
+    public void setTotalApproximate(boolean totalApproximate) {
+        this.totalApproximate = totalApproximate;
+    }
+
     public String getNextCursor() {
         return nextCursor;
     }
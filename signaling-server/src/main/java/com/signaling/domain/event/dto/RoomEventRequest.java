@@ -1,14 +1,16 @@
 package com.signaling.domain.event.dto;
 
 import com.signaling.domain.event.entity.RoomEventType;
+import com.signaling.global.json.RawJson;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import java.time.Instant;
-import java.util.Map;
 
 public class RoomEventRequest {
 
     @NotBlank
+    @Size(max = 100)
     private String eventId;
 
     @NotNull
@@ -18,9 +20,10 @@ public class RoomEventRequest {
     private Instant occurredAt;
 
     @NotBlank
+    @Size(max = 100)
     private String roomId;
 
-    private Map<String, Object> payload;
+    private RawJson payload;
 
     public String getEventId() {
         return eventId;
@@ -54,11 +57,11 @@ public class RoomEventRequest {
         this.roomId = roomId;
     }
 
-    public Map<String, Object> getPayload() {
+    public RawJson getPayload() {
         return payload;
     }
 
-    public void setPayload(Map<String, Object> payload) {
+    public void setPayload(RawJson payload) {
         this.payload = payload;
     }
 }
@@ -1,9 +1,9 @@
 package com.signaling.domain.event.dto;
 
 import com.signaling.domain.event.entity.RoomEventType;
+import com.signaling.global.json.RawJson;
 
 import java.time.Instant;
-import java.util.Map;
 
 public class RoomEventResponse {
 
@@ -12,7 +12,7 @@ public class RoomEventResponse {
     private RoomEventType eventType;
     private Instant occurredAt;
     private String roomId;
-    private Map<String, Object> payload;
+    private RawJson payload;
 
     public Long getId() {
         return id;
@@ -54,11 +54,11 @@ public class RoomEventResponse {
         this.roomId = roomId;
     }
 
-    public Map<String, Object> getPayload() {
+    public RawJson getPayload() {
         return payload;
     }
 
-    public void setPayload(Map<String, Object> payload) {
+    public void setPayload(RawJson payload) {
         this.payload = payload;
     }
 }
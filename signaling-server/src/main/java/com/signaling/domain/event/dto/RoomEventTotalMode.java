@@ -0,0 +1,7 @@
+package com.signaling.domain.event.dto;
+
+public enum RoomEventTotalMode {
+    EXACT,
+    APPROXIMATE,
+    NONE
+}
@@ -1,19 +1,18 @@
 package com.signaling.domain.event.entity;
 
-import com.signaling.global.persistence.MapToJsonConverter;
+import com.signaling.global.id.SnowflakeId;
+import com.signaling.global.json.RawJson;
+import com.signaling.global.persistence.RawJsonConverter;
 import jakarta.persistence.Column;
 import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Lob;
 import jakarta.persistence.Table;
 import java.time.Instant;
-import java.util.Collections;
-import java.util.Map;
+import java.time.temporal.ChronoUnit;
 import java.util.Objects;
 
 @Entity
@@ -21,10 +20,10 @@ import java.util.Objects;
 public class RoomEvent {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
-    @Column(name = "event_id", nullable = false, unique = true, length = 100)
+    @Column(name = "event_id", nullable = false, length = 100)
     private String eventId;
 
     @Enumerated(EnumType.STRING)
@@ -38,20 +37,31 @@ public class RoomEvent {
     private Instant occurredAt;
 
     @Lob
-    @Convert(converter = MapToJsonConverter.class)
+    @Convert(converter = RawJsonConverter.class)
     @Column(name = "payload", columnDefinition = "json")
-    private Map<String, Object> payload = Collections.emptyMap();
+    private RawJson payload = RawJson.EMPTY_OBJECT;
 
     protected RoomEvent() {
     }
 
+    /**
+     * occurredAt은 DATETIME(6)에 맞춰 마이크로초로 자른다. 그대로 두면 MySQL은 나노초를 반올림해 저장하므로,
+     * 저장된 값과 자바에서 계산한 롤업 버킷·커서·중복 비교 값이 어긋날 수 있다.
+     */
     public RoomEvent(String eventId, RoomEventType eventType, String roomId, Instant occurredAt,
-            Map<String, Object> payload) {
+            RawJson payload) {
         this.eventId = Objects.requireNonNull(eventId, "eventId must not be null");
         this.eventType = Objects.requireNonNull(eventType, "eventType must not be null");
         this.roomId = Objects.requireNonNull(roomId, "roomId must not be null");
-        this.occurredAt = Objects.requireNonNull(occurredAt, "occurredAt must not be null");
-        this.payload = payload == null ? Collections.emptyMap() : payload;
+        this.occurredAt = Objects.requireNonNull(occurredAt, "occurredAt must not be null")
+                .truncatedTo(ChronoUnit.MICROS);
+        this.payload = payload == null ? RawJson.EMPTY_OBJECT : payload;
+    }
+
+    public RoomEvent withId(Long id) {
+        RoomEvent copy = new RoomEvent(eventId, eventType, roomId, occurredAt, payload);
+        copy.id = id;
+        return copy;
     }
 
     public Long getId() {
@@ -74,7 +84,7 @@ public class RoomEvent {
         return occurredAt;
     }
 
-    public Map<String, Object> getPayload() {
+    public RawJson getPayload() {
         return payload;
     }
 }
@@ -0,0 +1,210 @@
+package com.signaling.domain.event.repository;
+
+import com.signaling.global.persistence.JdbcTimestamps;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Pattern;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * room_events 파티션 DDL. 파티션 경계는 UTC 기준 occurred_at이다.
+ */
+@Repository
+public class RoomEventPartitionRepository {
+
+    private static final String LOCK_NAME = "room_events_partition_maintenance";
+    private static final String DETACHED_TABLE = "room_events_expired";
+    private static final Pattern PARTITION_NAME = Pattern.compile("[A-Za-z0-9_]+");
+    private static final DateTimeFormatter BOUND_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private static final String FIND_PARTITIONS_SQL = "SELECT PARTITION_NAME, PARTITION_DESCRIPTION "
+            + "FROM INFORMATION_SCHEMA.PARTITIONS "
+            + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'room_events' AND PARTITION_NAME IS NOT NULL "
+            + "ORDER BY PARTITION_ORDINAL_POSITION";
+
+    private static final String SUBTRACT_DETACHED_COUNTS_SQL = "UPDATE room_event_counts c JOIN ("
+            + "SELECT room_id, event_type, COUNT(*) AS expired FROM " + DETACHED_TABLE
+            + " GROUP BY room_id, event_type) e ON e.room_id = c.room_id AND e.event_type = c.event_type "
+            + "SET c.event_count = c.event_count - e.expired";
+
+    // 보관 테이블의 행을 카운터에서 뺐다는 표시. 빼기와 같은 트랜잭션에서 남겨, 중간에 멈춰도 두 번 빼지 않는다.
+    private static final String MARK_SUBTRACTED_SQL = "INSERT INTO room_event_partition_purges "
+            + "(table_name, subtracted_at) VALUES (?, UTC_TIMESTAMP(6))";
+
+    private static final String IS_SUBTRACTED_SQL = "SELECT COUNT(*) FROM room_event_partition_purges "
+            + "WHERE table_name = ?";
+
+    private static final String CLEAR_SUBTRACTED_SQL = "DELETE FROM room_event_partition_purges WHERE table_name = ?";
+
+    private static final String DELETE_IDS_SQL = "DELETE FROM room_event_ids WHERE occurred_at < ? "
+            + "ORDER BY occurred_at LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public RoomEventPartitionRepository(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 여러 노드가 같은 DDL을 동시에 내지 않도록 MySQL 이름 잠금을 잡고 실행한다. 다른 노드가 잡고 있으면 false.
+     * 잠금은 커넥션에 묶이므로 task가 끝날 때까지 이 커넥션을 붙잡아 둔다.
+     */
+    public boolean runExclusively(Runnable task) {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            try (PreparedStatement lock = connection.prepareStatement("SELECT GET_LOCK(?, 0)")) {
+                lock.setString(1, LOCK_NAME);
+                try (ResultSet rs = lock.executeQuery()) {
+                    if (!rs.next() || rs.getInt(1) != 1) {
+                        return false;
+                    }
+                }
+            }
+            try {
+                task.run();
+                return true;
+            } finally {
+                try (PreparedStatement release = connection.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+                    release.setString(1, LOCK_NAME);
+                    release.execute();
+                }
+            }
+        }));
+    }
+
+    /**
+     * 경계 순으로 돌려준다. 테이블이 파티션되어 있지 않으면 빈 목록이다.
+     */
+    public List<Partition> findPartitions() {
+        return jdbcTemplate.query(FIND_PARTITIONS_SQL, (rs, rowNum) -> new Partition(
+                rs.getString("PARTITION_NAME"), parseBound(rs.getString("PARTITION_DESCRIPTION"))));
+    }
+
+    /**
+     * 파티션의 행 수를 limit까지만 센다.
+     */
+    public long countRows(String partition, long limit) {
+        Long rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM (SELECT 1 FROM room_events PARTITION ("
+                + quote(partition) + ") LIMIT ?) AS partition_rows", Long.class, limit);
+        return rows == null ? 0L : rows;
+    }
+
+    /**
+     * MAXVALUE 파티션을 새 파티션들과 자기 자신으로 나눈다. 비어 있으면 메타데이터만 바뀌지만, 행이 있으면
+     * 그 행을 모두 새 파티션으로 복사하고 그동안 테이블 쓰기가 막힌다.
+     */
+    public void split(String futurePartition, List<Partition> added) {
+        StringBuilder sql = new StringBuilder("ALTER TABLE room_events REORGANIZE PARTITION ")
+                .append(quote(futurePartition)).append(" INTO (");
+        for (Partition partition : added) {
+            sql.append("PARTITION ").append(quote(partition.getName())).append(" VALUES LESS THAN ('")
+                    .append(BOUND_FORMAT.format(partition.getUpperBound().atOffset(ZoneOffset.UTC))).append("'), ");
+        }
+        sql.append("PARTITION ").append(quote(futurePartition)).append(" VALUES LESS THAN (MAXVALUE))");
+        jdbcTemplate.execute(sql.toString());
+    }
+
+    /**
+     * 파티션의 행을 빈 보관 테이블과 맞바꾼 뒤 빈 파티션을 지운다. 두 단계 모두 행을 옮기지 않는다.
+     * 보관 테이블은 purgeDetached가 카운터를 맞춘 뒤 지운다.
+     */
+    public void detach(String partition) {
+        // 지난 보관 테이블을 지운 직후 멈춰 남은 표시가 새 보관 테이블의 빼기를 건너뛰게 하지 않는다.
+        jdbcTemplate.update(CLEAR_SUBTRACTED_SQL, DETACHED_TABLE);
+        jdbcTemplate.execute("CREATE TABLE " + DETACHED_TABLE + " LIKE room_events");
+        jdbcTemplate.execute("ALTER TABLE " + DETACHED_TABLE + " REMOVE PARTITIONING");
+        jdbcTemplate.execute("ALTER TABLE room_events EXCHANGE PARTITION " + quote(partition)
+                + " WITH TABLE " + DETACHED_TABLE);
+        jdbcTemplate.execute("ALTER TABLE room_events DROP PARTITION " + quote(partition));
+    }
+
+    public boolean hasDetached() {
+        Integer tables = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES "
+                + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?", Integer.class, DETACHED_TABLE);
+        return tables != null && tables > 0;
+    }
+
+    /**
+     * 보관 테이블의 행을 카운터에서 빼고 테이블을 지운다. DROP은 DDL이라 빼기와 한 트랜잭션에 묶을 수 없으므로,
+     * 빼기와 완료 표시를 한 트랜잭션으로 커밋하고 표시가 있으면 빼기를 건너뛴다. 어느 단계에서 멈춰도 다시 부르면
+     * 카운터를 한 번만 뺀 상태로 끝난다.
+     */
+    public void purgeDetached() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Integer subtracted = jdbcTemplate.queryForObject(IS_SUBTRACTED_SQL, Integer.class, DETACHED_TABLE);
+            if (subtracted == null || subtracted == 0) {
+                jdbcTemplate.update(SUBTRACT_DETACHED_COUNTS_SQL);
+                jdbcTemplate.update(MARK_SUBTRACTED_SQL, DETACHED_TABLE);
+            }
+        });
+        jdbcTemplate.execute("DROP TABLE " + DETACHED_TABLE);
+        jdbcTemplate.update(CLEAR_SUBTRACTED_SQL, DETACHED_TABLE);
+    }
+
+    /**
+     * before 이전 event_id를 batchSize씩 나눠 지운다. 한 번의 큰 DELETE로 복제가 밀리지 않게 한다.
+     */
+    public long deleteIdsBefore(Instant before, int batchSize) {
+        long deleted = 0;
+        int batch;
+        do {
+            batch = jdbcTemplate.update(DELETE_IDS_SQL, ps -> {
+                JdbcTimestamps.bind(ps, 1, before);
+                ps.setInt(2, batchSize);
+            });
+            deleted += batch;
+        } while (batch >= batchSize);
+        return deleted;
+    }
+
+    private String quote(String partition) {
+        if (!PARTITION_NAME.matcher(partition).matches()) {
+            throw new IllegalArgumentException("Invalid partition name: " + partition);
+        }
+        return '`' + partition + '`';
+    }
+
+    // RANGE COLUMNS 경계는 '2026-11-01 00:00:00'처럼 따옴표 붙은 리터럴로, 마지막 파티션은 MAXVALUE로 나온다.
+    private Instant parseBound(String description) {
+        if (description == null || "MAXVALUE".equalsIgnoreCase(description)) {
+            return null;
+        }
+        String value = description.replace("'", "").trim();
+        LocalDateTime bound = value.length() > 10
+                ? LocalDateTime.parse(value.replace(' ', 'T'))
+                : LocalDate.parse(value).atStartOfDay();
+        return bound.toInstant(ZoneOffset.UTC);
+    }
+
+    public static class Partition {
+        private final String name;
+        private final Instant upperBound;
+
+        public Partition(String name, Instant upperBound) {
+            this.name = name;
+            this.upperBound = upperBound;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * 이 시각 미만의 행이 들어간다. MAXVALUE 파티션이면 null이다.
+         */
+        public Instant getUpperBound() {
+            return upperBound;
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package com.signaling.domain.event.repository;
 
 import com.signaling.domain.event.entity.RoomEvent;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface RoomEventRepository extends JpaRepository<RoomEvent, Long>, RoomEventRepositoryCustom {
     Optional<RoomEvent> findByEventId(String eventId);
+    List<RoomEvent> findAllByEventIdIn(Collection<String> eventIds);
 }
@@ -1,12 +1,29 @@
 package com.signaling.domain.event.repository;
 
+import com.signaling.domain.event.dto.RoomEventField;
+import com.signaling.domain.event.dto.RoomEventResponse;
 import com.signaling.domain.event.entity.RoomEvent;
 import com.signaling.domain.event.entity.RoomEventType;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.jdbc.core.RowCallbackHandler;
 
 public interface RoomEventRepositoryCustom {
-    List<RoomEvent> search(String roomId, Instant from, Instant to, List<RoomEventType> types,
-            Instant cursorTime, Long cursorId, boolean forward, int limitPlusOne);
+    List<RoomEventResponse> search(String roomId, Instant from, Instant to, List<RoomEventType> types,
+            Instant cursorTime, Long cursorId, boolean forward, int limitPlusOne, Set<RoomEventField> fields);
+    void streamAll(String roomId, Instant from, Instant to, List<RoomEventType> types, RowCallbackHandler handler);
+    List<List<RoomEventResponse>> searchRooms(List<RoomEventSlice> slices, List<RoomEventType> types,
+            Set<RoomEventField> fields);
     long count(String roomId, Instant from, Instant to, List<RoomEventType> types);
+    long countUpTo(String roomId, Instant from, Instant to, List<RoomEventType> types, int limit);
+    long sumTypeCounts(String roomId, List<RoomEventType> types);
+    void incrementTypeCounts(List<RoomEvent> createdEvents);
+    boolean insertIfAbsent(RoomEvent event);
+    Map<String, Long> insertAllIfAbsent(List<RoomEvent> events);
+    Map<String, Long> findCommittedIdsByEventIdIn(Collection<String> eventIds);
+    // Locking read: sees rows committed by a concurrent insert even after this transaction took its snapshot.
+    List<RoomEvent> findCommittedByEventIdIn(Collection<String> eventIds);
 }
@@ -1,32 +1,192 @@
 package com.signaling.domain.event.repository;
 
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.signaling.domain.event.dto.RoomEventField;
+import com.signaling.domain.event.dto.RoomEventResponse;
 import com.signaling.domain.event.entity.QRoomEvent;
 import com.signaling.domain.event.entity.RoomEvent;
 import com.signaling.domain.event.entity.RoomEventType;
+import com.signaling.global.config.EventPartitionProperties;
+import com.signaling.global.persistence.JdbcTimestamps;
+import com.signaling.global.persistence.RawJsonConverter;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.TreeMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.Expressions;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public class RoomEventRepositoryImpl implements RoomEventRepositoryCustom {
 
+    /**
+     * room_events는 occurred_at으로 파티셔닝되어 event_id에 유니크 키를 둘 수 없으므로, room_event_ids에 event_id를
+     * 먼저 잡는다. INSERT IGNORE는 드라이버의 found-rows 설정과 상관없이 중복이면 0을 돌려준다.
+     */
+    private static final String CLAIM_EVENT_ID_SQL = "INSERT IGNORE INTO room_event_ids (event_id, id, occurred_at) "
+            + "VALUES (?, ?, ?)";
+
+    private static final String INSERT_SQL = "INSERT INTO room_events "
+            + "(id, event_id, event_type, room_id, occurred_at, payload) VALUES (?, ?, ?, ?, ?, ?)";
+
+    /**
+     * 새 행은 row alias로 읽는다. VALUES(col)는 MySQL 8.0.20부터 deprecated다.
+     */
+    private static final String INCREMENT_COUNT_SQL = "INSERT INTO room_event_counts "
+            + "(room_id, event_type, event_count) VALUES (?, ?, ?) AS new "
+            + "ON DUPLICATE KEY UPDATE event_count = room_event_counts.event_count + new.event_count";
+
+    /**
+     * 저장된 행을 선점 행을 거쳐 (id, occurred_at) 기본 키로 읽으므로, 이벤트가 든 파티션 하나만 연다.
+     * FOR SHARE는 동시에 선점한 트랜잭션이 커밋할 때까지 기다렸다가 그 행을 본다.
+     */
+    private static final String FIND_COMMITTED_SQL = "SELECT e.id, e.event_id, e.event_type, e.room_id, "
+            + "e.occurred_at, e.payload FROM room_event_ids i "
+            + "JOIN room_events e ON e.id = i.id AND e.occurred_at = i.occurred_at "
+            + "WHERE i.event_id IN (:eventIds) FOR SHARE";
+
+    private static final int BATCH_SIZE = 500;
+    private static final int ROOMS_PER_QUERY = 50;
+
+    private static final RawJsonConverter PAYLOAD_CONVERTER = new RawJsonConverter();
+
     private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final EventPartitionProperties partitionProperties;
 
-    public RoomEventRepositoryImpl(JPAQueryFactory queryFactory) {
+    public RoomEventRepositoryImpl(JPAQueryFactory queryFactory, JdbcTemplate jdbcTemplate,
+            EventPartitionProperties partitionProperties) {
         this.queryFactory = queryFactory;
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.partitionProperties = partitionProperties;
+    }
+
+    @Override
+    public boolean insertIfAbsent(RoomEvent event) {
+        if (jdbcTemplate.update(CLAIM_EVENT_ID_SQL, ps -> bindClaim(ps, event)) == 0) {
+            return false;
+        }
+        jdbcTemplate.update(INSERT_SQL, ps -> bindInsert(ps, event));
+        return true;
+    }
+
+    @Override
+    public Map<String, Long> insertAllIfAbsent(List<RoomEvent> events) {
+        // rewriteBatchedStatements turns this into multi-row INSERTs; per-row counts are not reliable then,
+        // so claimed rows are resolved by reading the stored ids back and comparing them.
+        // Concurrent batches lock the event_id keys in the same order, so overlapping batches wait instead of
+        // deadlocking.
+        List<RoomEvent> sorted = events.stream()
+                .sorted(Comparator.comparing(RoomEvent::getEventId))
+                .toList();
+        jdbcTemplate.batchUpdate(CLAIM_EVENT_ID_SQL, sorted, BATCH_SIZE, this::bindClaim);
+        Map<String, Long> storedIds = findCommittedIdsByEventIdIn(
+                sorted.stream().map(RoomEvent::getEventId).toList());
+        List<RoomEvent> claimed = sorted.stream()
+                .filter(event -> event.getId().equals(storedIds.get(event.getEventId())))
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_SQL, claimed, BATCH_SIZE, this::bindInsert);
+        return storedIds;
+    }
+
+    @Override
+    public Map<String, Long> findCommittedIdsByEventIdIn(Collection<String> eventIds) {
+        Map<String, Long> ids = new HashMap<>();
+        if (eventIds.isEmpty()) {
+            return ids;
+        }
+        namedJdbcTemplate.query(
+                "SELECT event_id, id FROM room_event_ids WHERE event_id IN (:eventIds) FOR SHARE",
+                Map.of("eventIds", eventIds),
+                (RowCallbackHandler) rs -> ids.put(rs.getString("event_id"), rs.getLong("id")));
+        return ids;
+    }
+
+    @Override
+    public List<RoomEvent> findCommittedByEventIdIn(Collection<String> eventIds) {
+        if (eventIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return namedJdbcTemplate.query(FIND_COMMITTED_SQL, Map.of("eventIds", eventIds), (rs, rowNum) ->
+                new RoomEvent(rs.getString("event_id"), RoomEventType.valueOf(rs.getString("event_type")),
+                        rs.getString("room_id"), JdbcTimestamps.read(rs, "occurred_at"),
+                        PAYLOAD_CONVERTER.convertToEntityAttribute(rs.getString("payload")))
+                        .withId(rs.getLong("id")));
+    }
+
+    private void bindClaim(PreparedStatement ps, RoomEvent event) throws SQLException {
+        ps.setString(1, event.getEventId());
+        ps.setLong(2, event.getId());
+        JdbcTimestamps.bind(ps, 3, event.getOccurredAt());
+    }
+
+    /**
+     * 조회가 읽을 occurred_at 하한. from과 보존 하한 중 늦은 쪽이고, 둘 다 없으면 null이다.
+     * 구간은 요청의 from/to와 커서, 보존 하한으로만 잡고 파생 테이블인 롤업은 읽지 않는다.
+     * 파티션은 하한보다 하루 더 지난 뒤에 지워지므로 지워질 파티션은 읽지 않고, 지우기 전후로 결과가 같다.
+     */
+    private Instant lowerBound(Instant from) {
+        Instant floor = partitionProperties.retentionFloor(Instant.now());
+        return floor != null && (from == null || from.isBefore(floor)) ? floor : from;
+    }
+
+    private void bindInsert(PreparedStatement ps, RoomEvent event) throws SQLException {
+        ps.setLong(1, event.getId());
+        ps.setString(2, event.getEventId());
+        ps.setString(3, event.getEventType().name());
+        ps.setString(4, event.getRoomId());
+        JdbcTimestamps.bind(ps, 5, event.getOccurredAt());
+        ps.setString(6, PAYLOAD_CONVERTER.convertToDatabaseColumn(event.getPayload()));
     }
 
     @Override
-    public List<RoomEvent> search(String roomId, Instant from, Instant to, List<RoomEventType> types,
-            Instant cursorTime, Long cursorId, boolean forward, int limitPlusOne) {
+    public List<RoomEventResponse> search(String roomId, Instant from, Instant to, List<RoomEventType> types,
+            Instant cursorTime, Long cursorId, boolean forward, int limitPlusOne, Set<RoomEventField> fields) {
         QRoomEvent event = QRoomEvent.roomEvent;
-        var query = queryFactory.selectFrom(event);
-        BooleanBuilder where = new BooleanBuilder(event.roomId.eq(roomId));
+        // 엔티티를 영속성 컨텍스트에 올리지 않고 필요한 컬럼만 DTO로 읽는다. id/occurredAt은 커서 때문에 항상 읽는다.
+        List<Expression<?>> columns = new ArrayList<>(List.of(event.id, event.occurredAt));
+        if (fields.contains(RoomEventField.EVENT_ID)) {
+            columns.add(event.eventId);
+        }
+        if (fields.contains(RoomEventField.EVENT_TYPE)) {
+            columns.add(event.eventType);
+        }
+        if (fields.contains(RoomEventField.ROOM_ID)) {
+            columns.add(event.roomId);
+        }
+        if (fields.contains(RoomEventField.PAYLOAD)) {
+            columns.add(event.payload);
+        }
+        var query = queryFactory
+                .select(Projections.bean(RoomEventResponse.class, columns.toArray(new Expression<?>[0])))
+                .from(event);
+        // roomId가 없으면 전체 방 피드다. 호출 쪽에서 타입을 하나씩 넘겨 (event_type, occurred_at) 인덱스 순서를 그대로 쓴다.
+        BooleanBuilder where = new BooleanBuilder();
+        if (roomId != null) {
+            where.and(event.roomId.eq(roomId));
+        }
 
-        if (from != null) {
-            where.and(event.occurredAt.goe(from));
+        Instant lower = lowerBound(from);
+        if (lower != null) {
+            where.and(event.occurredAt.goe(lower));
         }
         if (to != null) {
             where.and(event.occurredAt.loe(to));
@@ -35,16 +195,15 @@ public class RoomEventRepositoryImpl implements RoomEventRepositoryCustom {
             where.and(event.eventType.in(types));
         }
         if (cursorTime != null && cursorId != null) {
+            // 행 값 비교만으로는 구버전 MySQL이 범위 스캔을 못 잡는 경우가 있어, occurred_at 단일 경계를 중복으로 건다.
             if (forward) {
-                where.and(
-                        event.occurredAt.gt(cursorTime)
-                                .or(event.occurredAt.eq(cursorTime).and(event.id.gt(cursorId)))
-                );
+                where.and(event.occurredAt.goe(cursorTime));
+                where.and(Expressions.booleanTemplate("({0}, {1}) > ({2}, {3})",
+                        event.occurredAt, event.id, cursorTime, cursorId));
             } else {
-                where.and(
-                        event.occurredAt.lt(cursorTime)
-                                .or(event.occurredAt.eq(cursorTime).and(event.id.lt(cursorId)))
-                );
+                where.and(event.occurredAt.loe(cursorTime));
+                where.and(Expressions.booleanTemplate("({0}, {1}) < ({2}, {3})",
+                        event.occurredAt, event.id, cursorTime, cursorId));
             }
         }
 
@@ -58,15 +217,174 @@ public class RoomEventRepositoryImpl implements RoomEventRepositoryCustom {
                 .fetch();
     }
 
+    @Override
+    public List<List<RoomEventResponse>> searchRooms(List<RoomEventSlice> slices, List<RoomEventType> types,
+            Set<RoomEventField> fields) {
+        List<List<RoomEventResponse>> results = new ArrayList<>(slices.size());
+        for (int start = 0; start < slices.size(); start += ROOMS_PER_QUERY) {
+            results.addAll(searchRoomChunk(slices.subList(start, Math.min(slices.size(), start + ROOMS_PER_QUERY)),
+                    types, fields));
+        }
+        return results;
+    }
+
+    /**
+     * 방마다 (room_id, occurred_at, id) 인덱스를 limit에서 끊는 하위 쿼리를 UNION ALL로 묶는다.
+     * 윈도 함수로 방별 상위 N개를 고르면 대상 방의 행을 모두 읽어야 해서 쓰지 않는다.
+     * UNION ALL 결과 순서는 보장되지 않으므로, 행마다 slice 번호를 실어 slice별로 나눈 뒤 각 방향으로 정렬한다.
+     * room_id 대신 slice 번호로 나누므로 콜레이션 때문에 요청과 대소문자가 다른 room_id가 와도 제자리에 들어간다.
+     */
+    private List<List<RoomEventResponse>> searchRoomChunk(List<RoomEventSlice> slices, List<RoomEventType> types,
+            Set<RoomEventField> fields) {
+        StringBuilder columns = new StringBuilder("id, occurred_at, room_id");
+        if (fields.contains(RoomEventField.EVENT_ID)) {
+            columns.append(", event_id");
+        }
+        if (fields.contains(RoomEventField.EVENT_TYPE)) {
+            columns.append(", event_type");
+        }
+        if (fields.contains(RoomEventField.PAYLOAD)) {
+            columns.append(", payload");
+        }
+        boolean filterTypes = types != null && !types.isEmpty();
+        String typeFilter = filterTypes
+                ? " AND event_type IN (" + String.join(", ", Collections.nCopies(types.size(), "?")) + ")"
+                : "";
+
+        Instant lower = lowerBound(null);
+
+        StringBuilder sql = new StringBuilder();
+        for (int ordinal = 0; ordinal < slices.size(); ordinal++) {
+            RoomEventSlice slice = slices.get(ordinal);
+            if (sql.length() > 0) {
+                sql.append(" UNION ALL ");
+            }
+            sql.append("(SELECT ").append(ordinal).append(" AS slice_ordinal, ").append(columns)
+                    .append(" FROM room_events WHERE room_id = ?").append(typeFilter);
+            if (lower != null) {
+                sql.append(" AND occurred_at >= ?");
+            }
+            if (slice.getCursorTime() != null && slice.getCursorId() != null) {
+                sql.append(slice.isForward()
+                        ? " AND occurred_at >= ? AND (occurred_at, id) > (?, ?)"
+                        : " AND occurred_at <= ? AND (occurred_at, id) < (?, ?)");
+            }
+            sql.append(slice.isForward()
+                    ? " ORDER BY occurred_at, id LIMIT ?)"
+                    : " ORDER BY occurred_at DESC, id DESC LIMIT ?)");
+        }
+
+        List<List<RoomEventResponse>> bySlice = new ArrayList<>(slices.size());
+        for (int i = 0; i < slices.size(); i++) {
+            bySlice.add(new ArrayList<>());
+        }
+        jdbcTemplate.query(sql.toString(), ps -> {
+            int index = 1;
+            for (RoomEventSlice slice : slices) {
+                ps.setString(index++, slice.getRoomId());
+                if (filterTypes) {
+                    for (RoomEventType type : types) {
+                        ps.setString(index++, type.name());
+                    }
+                }
+                if (lower != null) {
+                    JdbcTimestamps.bind(ps, index++, lower);
+                }
+                if (slice.getCursorTime() != null && slice.getCursorId() != null) {
+                    JdbcTimestamps.bind(ps, index++, slice.getCursorTime());
+                    JdbcTimestamps.bind(ps, index++, slice.getCursorTime());
+                    ps.setLong(index++, slice.getCursorId());
+                }
+                ps.setInt(index++, slice.getLimitPlusOne());
+            }
+        }, (RowCallbackHandler) rs -> {
+            RoomEventResponse response = new RoomEventResponse();
+            response.setId(rs.getLong("id"));
+            response.setOccurredAt(JdbcTimestamps.read(rs, "occurred_at"));
+            response.setRoomId(rs.getString("room_id"));
+            if (fields.contains(RoomEventField.EVENT_ID)) {
+                response.setEventId(rs.getString("event_id"));
+            }
+            if (fields.contains(RoomEventField.EVENT_TYPE)) {
+                response.setEventType(RoomEventType.valueOf(rs.getString("event_type")));
+            }
+            if (fields.contains(RoomEventField.PAYLOAD)) {
+                response.setPayload(PAYLOAD_CONVERTER.convertToEntityAttribute(rs.getString("payload")));
+            }
+            bySlice.get(rs.getInt("slice_ordinal")).add(response);
+        });
+
+        Comparator<RoomEventResponse> order = Comparator.comparing(RoomEventResponse::getOccurredAt)
+                .thenComparing(RoomEventResponse::getId);
+        for (int i = 0; i < slices.size(); i++) {
+            bySlice.get(i).sort(slices.get(i).isForward() ? order : order.reversed());
+        }
+        return bySlice;
+    }
+
+    @Override
+    public void streamAll(String roomId, Instant from, Instant to, List<RoomEventType> types,
+            RowCallbackHandler handler) {
+        Instant lower = lowerBound(from);
+        StringBuilder sql = new StringBuilder(
+                "SELECT id, event_id, event_type, room_id, occurred_at, payload FROM room_events WHERE room_id = ?");
+        if (lower != null) {
+            sql.append(" AND occurred_at >= ?");
+        }
+        if (to != null) {
+            sql.append(" AND occurred_at <= ?");
+        }
+        if (types != null && !types.isEmpty()) {
+            sql.append(" AND event_type IN (").append(String.join(", ", Collections.nCopies(types.size(), "?")))
+                    .append(')');
+        }
+        sql.append(" ORDER BY occurred_at, id");
+
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(sql.toString(),
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                // Connector/J는 forward-only + Integer.MIN_VALUE 조합일 때만 행을 한 건씩 스트리밍한다.
+                ps.setFetchSize(Integer.MIN_VALUE);
+                int index = 1;
+                ps.setString(index++, roomId);
+                if (lower != null) {
+                    JdbcTimestamps.bind(ps, index++, lower);
+                }
+                if (to != null) {
+                    JdbcTimestamps.bind(ps, index++, to);
+                }
+                if (types != null) {
+                    for (RoomEventType type : types) {
+                        ps.setString(index++, type.name());
+                    }
+                }
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        handler.processRow(rs);
+                    }
+                } catch (RuntimeException | SQLException ex) {
+                    // 스트리밍 결과셋은 닫을 때 남은 행을 끝까지 읽어 버리므로, 중단 시에는 쿼리부터 취소한다.
+                    ps.cancel();
+                    throw ex;
+                }
+            }
+            return null;
+        });
+    }
+
     @Override
     public long count(String roomId, Instant from, Instant to, List<RoomEventType> types) {
         QRoomEvent event = QRoomEvent.roomEvent;
         var query = queryFactory.select(event.id.count())
-                .from(event)
-                .where(event.roomId.eq(roomId));
+                .from(event);
 
-        if (from != null) {
-            query.where(event.occurredAt.goe(from));
+        if (roomId != null) {
+            query.where(event.roomId.eq(roomId));
+        }
+
+        Instant lower = lowerBound(from);
+        if (lower != null) {
+            query.where(event.occurredAt.goe(lower));
         }
         if (to != null) {
             query.where(event.occurredAt.loe(to));
@@ -78,4 +396,63 @@ public class RoomEventRepositoryImpl implements RoomEventRepositoryCustom {
         Long result = query.fetchOne();
         return result == null ? 0L : result;
     }
+
+    @Override
+    public long countUpTo(String roomId, Instant from, Instant to, List<RoomEventType> types, int limit) {
+        // (room_id, occurred_at) 인덱스만으로 끝나는 id 조회를 limit에서 끊는다.
+        QRoomEvent event = QRoomEvent.roomEvent;
+        BooleanBuilder where = new BooleanBuilder();
+        if (roomId != null) {
+            where.and(event.roomId.eq(roomId));
+        }
+        Instant lower = lowerBound(from);
+        if (lower != null) {
+            where.and(event.occurredAt.goe(lower));
+        }
+        if (to != null) {
+            where.and(event.occurredAt.loe(to));
+        }
+        if (types != null && !types.isEmpty()) {
+            where.and(event.eventType.in(types));
+        }
+        return queryFactory.select(event.id)
+                .from(event)
+                .where(where)
+                .limit(limit)
+                .fetch()
+                .size();
+    }
+
+    @Override
+    public long sumTypeCounts(String roomId, List<RoomEventType> types) {
+        Map<String, Object> params = new HashMap<>();
+        String sql = "SELECT COALESCE(SUM(event_count), 0) FROM room_event_counts WHERE 1 = 1";
+        if (roomId != null) {
+            sql += " AND room_id = :roomId";
+            params.put("roomId", roomId);
+        }
+        if (types != null && !types.isEmpty()) {
+            sql += " AND event_type IN (:types)";
+            params.put("types", types.stream().map(Enum::name).toList());
+        }
+        Long total = namedJdbcTemplate.queryForObject(sql, params, Long.class);
+        return total == null ? 0L : total;
+    }
+
+    @Override
+    public void incrementTypeCounts(List<RoomEvent> createdEvents) {
+        // 정렬된 순서로 갱신해 같은 방의 카운터 행을 잡는 트랜잭션끼리 교착되지 않게 한다.
+        Map<String, long[]> increments = new TreeMap<>();
+        for (RoomEvent event : createdEvents) {
+            increments.computeIfAbsent(event.getRoomId() + '\u0000' + event.getEventType().name(),
+                    key -> new long[1])[0]++;
+        }
+        List<Map.Entry<String, long[]>> rows = new ArrayList<>(increments.entrySet());
+        jdbcTemplate.batchUpdate(INCREMENT_COUNT_SQL, rows, BATCH_SIZE, (ps, row) -> {
+            String[] key = row.getKey().split("\u0000", 2);
+            ps.setString(1, key[0]);
+            ps.setString(2, key[1]);
+            ps.setLong(3, row.getValue()[0]);
+        });
+    }
 }
@@ -0,0 +1,188 @@
+package com.signaling.domain.event.repository;
+
+import com.signaling.domain.event.dto.RoomEventBucketSize;
+import com.signaling.domain.event.entity.RoomEvent;
+import com.signaling.domain.event.entity.RoomEventType;
+import com.signaling.global.persistence.JdbcTimestamps;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class RoomEventRollupRepository {
+
+    private static final String INCREMENT_MINUTE_SQL = "INSERT INTO room_event_rollups "
+            + "(bucket_size, room_id, bucket_start, event_type, event_count) VALUES ('MINUTE', ?, ?, ?, ?) AS new "
+            + "ON DUPLICATE KEY UPDATE event_count = room_event_rollups.event_count + new.event_count";
+
+    // 잠금 없는 스냅샷 읽기다. INSERT ... SELECT로 합치면 REPEATABLE READ에서 읽은 분 단위 행에 공유 잠금이 걸려
+    // 같은 구간의 저장 트랜잭션이 막힌다. 키 순서로 돌려받아 그 순서대로 갱신한다.
+    private static final String SUM_SOURCE_SQL = "SELECT room_id, event_type, SUM(event_count) AS event_count "
+            + "FROM room_event_rollups WHERE bucket_size = ? AND bucket_start >= ? AND bucket_start < ? "
+            + "GROUP BY room_id, event_type ORDER BY room_id, event_type";
+
+    // 더 작은 버킷의 합으로 통째로 다시 쓰므로 여러 노드가 같은 구간을 동시에 다시 계산해도 결과가 같다.
+    private static final String REPLACE_SQL = "INSERT INTO room_event_rollups "
+            + "(bucket_size, room_id, bucket_start, event_type, event_count) VALUES (?, ?, ?, ?, ?) AS new "
+            + "ON DUPLICATE KEY UPDATE event_count = new.event_count";
+
+    private static final String DELETE_BEFORE_SQL = "DELETE FROM room_event_rollups "
+            + "WHERE bucket_size = ? AND bucket_start < ? ORDER BY bucket_start LIMIT ?";
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RoomEventRollupRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void incrementMinutes(List<RoomEvent> createdEvents) {
+        // room_event_counts와 같은 이유로 키 순서대로 갱신한다.
+        Map<String, long[]> increments = new TreeMap<>();
+        for (RoomEvent event : createdEvents) {
+            Instant minute = event.getOccurredAt().truncatedTo(ChronoUnit.MINUTES);
+            increments.computeIfAbsent(event.getRoomId() + '\u0000' + minute.getEpochSecond() + '\u0000'
+                    + event.getEventType().name(), key -> new long[1])[0]++;
+        }
+        List<Map.Entry<String, long[]>> rows = new ArrayList<>(increments.entrySet());
+        jdbcTemplate.batchUpdate(INCREMENT_MINUTE_SQL, rows, BATCH_SIZE, (ps, row) -> {
+            String[] key = row.getKey().split("\u0000", 3);
+            ps.setString(1, key[0]);
+            JdbcTimestamps.bind(ps, 2, Instant.ofEpochSecond(Long.parseLong(key[1])));
+            ps.setString(3, key[2]);
+            ps.setLong(4, row.getValue()[0]);
+        });
+    }
+
+    /**
+     * [start, start + size) 구간의 size 버킷을 바로 아래 단위 버킷의 합으로 다시 만든다. MINUTE는 대상이 아니다.
+     * 합계를 먼저 읽고 따로 덮어쓰므로 그 사이 올라간 분 단위 값은 다음 컴팩션에서 반영된다.
+     */
+    public void rebuild(RoomEventBucketSize size, Instant start) {
+        RoomEventBucketSize source = size == RoomEventBucketSize.DAY ? RoomEventBucketSize.HOUR
+                : RoomEventBucketSize.MINUTE;
+        Instant end = start.plus(1, size.getUnit());
+        List<Sum> sums = jdbcTemplate.query(SUM_SOURCE_SQL, ps -> {
+            ps.setString(1, source.name());
+            JdbcTimestamps.bind(ps, 2, start);
+            JdbcTimestamps.bind(ps, 3, end);
+        }, (rs, rowNum) -> new Sum(rs.getString("room_id"), rs.getString("event_type"), rs.getLong("event_count")));
+        if (sums.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(REPLACE_SQL, sums, BATCH_SIZE, (ps, sum) -> {
+            ps.setString(1, size.name());
+            ps.setString(2, sum.roomId);
+            JdbcTimestamps.bind(ps, 3, start);
+            ps.setString(4, sum.eventType);
+            ps.setLong(5, sum.count);
+        });
+    }
+
+    /**
+     * 파티션과 함께 지워진 구간의 버킷을 batchSize씩 나눠 지운다. before는 파티션 경계라서 어느 단위의 버킷도
+     * 걸치지 않는다.
+     */
+    public long deleteBefore(Instant before, int batchSize) {
+        long deleted = 0;
+        for (RoomEventBucketSize size : RoomEventBucketSize.values()) {
+            int batch;
+            do {
+                batch = jdbcTemplate.update(DELETE_BEFORE_SQL, ps -> {
+                    ps.setString(1, size.name());
+                    JdbcTimestamps.bind(ps, 2, before);
+                    ps.setInt(3, batchSize);
+                });
+                deleted += batch;
+            } while (batch >= batchSize);
+        }
+        return deleted;
+    }
+
+    /**
+     * roomId가 null이면 모든 방을 합산한다. bucket_start 순으로 돌려준다.
+     */
+    public List<Row> findBuckets(String roomId, RoomEventBucketSize size, Instant from, Instant to,
+            List<RoomEventType> types) {
+        StringBuilder sql = new StringBuilder(roomId == null
+                ? "SELECT bucket_start, event_type, SUM(event_count) AS event_count FROM room_event_rollups"
+                : "SELECT bucket_start, event_type, event_count FROM room_event_rollups");
+        sql.append(" WHERE bucket_size = ? AND bucket_start >= ? AND bucket_start < ?");
+        if (roomId != null) {
+            sql.append(" AND room_id = ?");
+        }
+        if (types != null && !types.isEmpty()) {
+            sql.append(" AND event_type IN (").append(String.join(", ", Collections.nCopies(types.size(), "?")))
+                    .append(')');
+        }
+        if (roomId == null) {
+            sql.append(" GROUP BY bucket_start, event_type");
+        }
+        sql.append(" ORDER BY bucket_start");
+
+        return jdbcTemplate.query(sql.toString(), ps -> {
+            int index = 1;
+            ps.setString(index++, size.name());
+            JdbcTimestamps.bind(ps, index++, from);
+            JdbcTimestamps.bind(ps, index++, to);
+            if (roomId != null) {
+                ps.setString(index++, roomId);
+            }
+            if (types != null) {
+                for (RoomEventType type : types) {
+                    ps.setString(index++, type.name());
+                }
+            }
+        }, (rs, rowNum) -> toRow(rs));
+    }
+
+    private Row toRow(ResultSet rs) throws SQLException {
+        return new Row(JdbcTimestamps.read(rs, "bucket_start"), RoomEventType.valueOf(rs.getString("event_type")),
+                rs.getLong("event_count"));
+    }
+
+    private static final class Sum {
+        private final String roomId;
+        private final String eventType;
+        private final long count;
+
+        private Sum(String roomId, String eventType, long count) {
+            this.roomId = roomId;
+            this.eventType = eventType;
+            this.count = count;
+        }
+    }
+
+    public static class Row {
+        private final Instant bucketStart;
+        private final RoomEventType eventType;
+        private final long count;
+
+        public Row(Instant bucketStart, RoomEventType eventType, long count) {
+            this.bucketStart = bucketStart;
+            this.eventType = eventType;
+            this.count = count;
+        }
+
+        public Instant getBucketStart() {
+            return bucketStart;
+        }
+
+        public RoomEventType getEventType() {
+            return eventType;
+        }
+
+        public long getCount() {
+            return count;
+        }
+    }
+}
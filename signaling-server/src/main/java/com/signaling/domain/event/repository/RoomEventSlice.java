@@ -0,0 +1,43 @@
+package com.signaling.domain.event.repository;
+
+import java.time.Instant;
+
+/**
+ * 여러 방을 한 번에 조회할 때 방 하나에 대한 커서와 limit.
+ */
+public class RoomEventSlice {
+
+    private final String roomId;
+    private final Instant cursorTime;
+    private final Long cursorId;
+    private final boolean forward;
+    private final int limitPlusOne;
+
+    public RoomEventSlice(String roomId, Instant cursorTime, Long cursorId, boolean forward, int limitPlusOne) {
+        this.roomId = roomId;
+        this.cursorTime = cursorTime;
+        this.cursorId = cursorId;
+        this.forward = forward;
+        this.limitPlusOne = limitPlusOne;
+    }
+
+    public String getRoomId() {
+        return roomId;
+    }
+
+    public Instant getCursorTime() {
+        return cursorTime;
+    }
+
+    public Long getCursorId() {
+        return cursorId;
+    }
+
+    public boolean isForward() {
+        return forward;
+    }
+
+    public int getLimitPlusOne() {
+        return limitPlusOne;
+    }
+}
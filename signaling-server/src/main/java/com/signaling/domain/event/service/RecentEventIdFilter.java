@@ -0,0 +1,151 @@
+package com.signaling.domain.event.service;
+
+import com.signaling.domain.event.entity.RoomEvent;
+import com.signaling.global.config.EventDedupeProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.springframework.stereotype.Component;
+
+/**
+ * DB 앞단의 eventId 중복 필터. 최근 윈도 안의 eventId는 저장된 이벤트와 함께 정확히 기억해 DB 없이 중복으로 응답하고,
+ * 윈도를 벗어난 eventId는 블룸 필터에 남겨 "이미 봤을 수도 있음"만 판단한다.
+ */
+@Component
+public class RecentEventIdFilter {
+
+    private final boolean enabled;
+    private final long windowMillis;
+    private final int maxEntries;
+    private final int bloomExpectedInsertions;
+    private final double bloomFalsePositiveRate;
+
+    private final Map<String, Entry> recent = new ConcurrentHashMap<>();
+    private final Queue<Entry> order = new ConcurrentLinkedQueue<>();
+    private volatile EventIdBloomFilter currentBloom;
+    private volatile EventIdBloomFilter previousBloom;
+
+    private final Counter recentHits;
+    private final Counter bloomPositives;
+    private final Counter bloomNegatives;
+    private final Counter bloomFalsePositives;
+
+    public RecentEventIdFilter(EventDedupeProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.windowMillis = properties.getRecentWindowSeconds() * 1000;
+        this.maxEntries = properties.getRecentMaxEntries();
+        this.bloomExpectedInsertions = properties.getBloomExpectedInsertions();
+        this.bloomFalsePositiveRate = properties.getBloomFalsePositiveRate();
+        this.currentBloom = newBloom();
+        this.previousBloom = newBloom();
+
+        this.recentHits = counter(meterRegistry, "recent_hit");
+        this.bloomPositives = counter(meterRegistry, "bloom_positive");
+        this.bloomNegatives = counter(meterRegistry, "bloom_negative");
+        this.bloomFalsePositives = counter(meterRegistry, "bloom_false_positive");
+        Gauge.builder("room_events.dedupe.recent_size", recent, Map::size)
+                .description("eventIds held in the exact recent window")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 최근 윈도 안에서 저장이 확인된 이벤트를 돌려준다. 없으면 null.
+     */
+    public RoomEvent findRecent(String eventId) {
+        if (!enabled) {
+            return null;
+        }
+        Entry entry = recent.get(eventId);
+        if (entry == null || isExpired(entry, System.currentTimeMillis())) {
+            return null;
+        }
+        recentHits.increment();
+        return entry.event;
+    }
+
+    /**
+     * 윈도 밖에서 본 적이 있을 수도 있는지 판단한다. false면 이 노드에서는 처음 보는 eventId다.
+     */
+    public boolean mightHaveSeen(String eventId) {
+        if (!enabled) {
+            return true;
+        }
+        boolean positive = currentBloom.mightContain(eventId) || previousBloom.mightContain(eventId);
+        (positive ? bloomPositives : bloomNegatives).increment();
+        return positive;
+    }
+
+    public void recordFalsePositive() {
+        bloomFalsePositives.increment();
+    }
+
+    public void remember(RoomEvent event) {
+        if (!enabled) {
+            return;
+        }
+        Entry entry = new Entry(event, System.currentTimeMillis());
+        // 이미 기억하는 eventId는 순서 큐에 다시 넣지 않는다. 넣으면 큐만 커지고 evict가 지울 항목을 찾지 못한다.
+        if (recent.putIfAbsent(event.getEventId(), entry) == null) {
+            order.add(entry);
+        }
+        evict(entry.seenAt);
+    }
+
+    // 테스트에서 순서 큐가 맵과 같이 유지되는지 확인한다.
+    int queuedEntries() {
+        return order.size();
+    }
+
+    private void evict(long now) {
+        Entry head;
+        while ((head = order.peek()) != null && (recent.size() > maxEntries || isExpired(head, now))) {
+            if (!order.remove(head)) {
+                continue;
+            }
+            recent.remove(head.event.getEventId(), head);
+            archive(head.event.getEventId());
+        }
+    }
+
+    private void archive(String eventId) {
+        EventIdBloomFilter bloom = currentBloom;
+        if (bloom.isFull()) {
+            synchronized (this) {
+                if (currentBloom == bloom) {
+                    previousBloom = bloom;
+                    currentBloom = newBloom();
+                }
+                bloom = currentBloom;
+            }
+        }
+        bloom.put(eventId);
+    }
+
+    private boolean isExpired(Entry entry, long now) {
+        return now - entry.seenAt > windowMillis;
+    }
+
+    private EventIdBloomFilter newBloom() {
+        return new EventIdBloomFilter(bloomExpectedInsertions, bloomFalsePositiveRate);
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("room_events.dedupe")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static final class Entry {
+        private final RoomEvent event;
+        private final long seenAt;
+
+        private Entry(RoomEvent event, long seenAt) {
+            this.event = event;
+            this.seenAt = seenAt;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.signaling.domain.event.service;
+
+import com.signaling.domain.event.dto.RoomEventTotalMode;
+import com.signaling.domain.event.entity.RoomEvent;
+import com.signaling.domain.event.entity.RoomEventType;
+import com.signaling.domain.event.repository.RoomEventRepository;
+import com.signaling.domain.room.entity.RoomState;
+import com.signaling.domain.room.repository.RoomRepository;
+import com.signaling.global.config.EventPartitionProperties;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.stereotype.Service;
+
+/**
+ * 이벤트 목록의 total 계산. 기간 조건도 보존 기간도 없으면 room_event_counts 합계로 끝나고,
+ * 그 밖에는 목록과 같은 보존 하한을 건 COUNT로 세어 종료된 방에 한해 결과를 메모리에 캐시한다.
+ * 캐시는 방의 버전이 같을 때만 쓰므로 다른 노드에 저장된 이벤트도 반영된다.
+ * APPROXIMATE는 APPROXIMATE_LIMIT까지만 세고, 넘으면 그 값을 하한으로 돌려준다.
+ */
+@Service
+public class RoomEventCountService {
+
+    static final int APPROXIMATE_LIMIT = 10_000;
+    private static final int CACHED_ROOMS = 1_000;
+    private static final int CACHED_FILTERS_PER_ROOM = 64;
+
+    private final RoomEventRepository roomEventRepository;
+    private final RoomRepository roomRepository;
+    private final EventPartitionProperties partitionProperties;
+
+    // roomId -> 버전별 (필터 키 -> count). 방 단위 LRU이며 버전이 바뀌거나 이 노드에서 저장되면 통째로 버린다.
+    private final Map<String, RoomCounts> closedRoomCounts = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, RoomCounts> eldest) {
+            return size() > CACHED_ROOMS;
+        }
+    };
+
+    public RoomEventCountService(RoomEventRepository roomEventRepository, RoomRepository roomRepository,
+            EventPartitionProperties partitionProperties) {
+        this.roomEventRepository = roomEventRepository;
+        this.roomRepository = roomRepository;
+        this.partitionProperties = partitionProperties;
+    }
+
+    /**
+     * 방의 이벤트가 바뀌었는지 보는 버전. room_event_counts 합계라서 저장과 같은 트랜잭션에서 오르고,
+     * 파티션 삭제 때 내려간다. 어느 노드가 저장했든 DB에서 읽으므로 노드 로컬 캐시의 검증에 쓴다.
+     */
+    public long version(String roomId) {
+        return roomEventRepository.sumTypeCounts(roomId, null);
+    }
+
+    /**
+     * roomId가 null이면 전체 방 기준으로 센다. 이 경우는 캐시하지 않는다.
+     * 트랜잭션 없이 쿼리마다 새 스냅샷으로 읽는다. 읽기 트랜잭션이 먼저 잡은 스냅샷으로 세면, 캐시 토큰을 잡기 전에
+     * 커밋·evict된 이벤트가 빠진 값이 캐시에 남는다.
+     */
+    public Total count(String roomId, Instant from, Instant to, List<RoomEventType> types, RoomEventTotalMode mode) {
+        if (mode == RoomEventTotalMode.NONE) {
+            return new Total(null, false);
+        }
+        // 카운터에는 보존 하한 아래 이벤트도 파티션이 지워질 때까지 남아 있으므로, 보존 기간이 있으면 직접 센다.
+        // 하한은 하루 단위로만 움직이고 캐시 키에 들어가므로, 하한이 넘어가면 새 키로 다시 센다.
+        Instant floor = partitionProperties.retentionFloor(Instant.now());
+        Instant lower = floor != null && (from == null || from.isBefore(floor)) ? floor : from;
+        if (lower == null && to == null) {
+            return new Total(roomEventRepository.sumTypeCounts(roomId, types), false);
+        }
+        if (mode == RoomEventTotalMode.APPROXIMATE) {
+            long counted = roomEventRepository.countUpTo(roomId, lower, to, types, APPROXIMATE_LIMIT + 1);
+            return counted > APPROXIMATE_LIMIT ? new Total((long) APPROXIMATE_LIMIT, true) : new Total(counted, false);
+        }
+
+        if (roomId == null || !roomRepository.existsByRoomIdAndState(roomId, RoomState.CLOSED)) {
+            return new Total(roomEventRepository.count(roomId, lower, to, types), false);
+        }
+        String filterKey = lower + "|" + to + "|" + (types == null ? "" : types.stream().sorted().toList());
+        // COUNT보다 먼저 버전과 토큰(방의 RoomCounts 인스턴스)을 잡는다. 이후 저장되면 버전이 달라지거나
+        // evict가 토큰을 무효로 만든다.
+        long version = version(roomId);
+        RoomCounts counts;
+        synchronized (closedRoomCounts) {
+            counts = closedRoomCounts.get(roomId);
+            if (counts == null || counts.version != version) {
+                counts = new RoomCounts(version);
+                closedRoomCounts.put(roomId, counts);
+            }
+            Long cached = counts.byFilter.get(filterKey);
+            if (cached != null) {
+                return new Total(cached, false);
+            }
+        }
+        long total = roomEventRepository.count(roomId, lower, to, types);
+        synchronized (closedRoomCounts) {
+            // 세는 동안 evict되었거나 새 버전으로 바뀌었다면 인스턴스가 달라졌으므로 저장하지 않는다.
+            if (closedRoomCounts.get(roomId) == counts && counts.byFilter.size() < CACHED_FILTERS_PER_ROOM) {
+                counts.byFilter.put(filterKey, total);
+            }
+        }
+        return new Total(total, false);
+    }
+
+    /**
+     * 종료 후에도 늦게 도착한 이벤트가 저장될 수 있으므로, 저장 커밋 후 해당 방 캐시를 비운다.
+     * 다른 노드의 저장은 버전 비교로 걸러진다.
+     */
+    public void evict(List<RoomEvent> createdEvents) {
+        if (createdEvents.isEmpty()) {
+            return;
+        }
+        synchronized (closedRoomCounts) {
+            for (RoomEvent event : createdEvents) {
+                closedRoomCounts.remove(event.getRoomId());
+            }
+        }
+    }
+
+    private static final class RoomCounts {
+        private final long version;
+        private final Map<String, Long> byFilter = new HashMap<>();
+
+        private RoomCounts(long version) {
+            this.version = version;
+        }
+    }
+
+    public static class Total {
+        private final Long value;
+        private final boolean approximate;
+
+        public Total(Long value, boolean approximate) {
+            this.value = value;
+            this.approximate = approximate;
+        }
+
+        public Long getValue() {
+            return value;
+        }
+
+        public boolean isApproximate() {
+            return approximate;
+        }
+    }
+}
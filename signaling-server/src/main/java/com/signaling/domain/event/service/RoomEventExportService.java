@@ -0,0 +1,71 @@
+package com.signaling.domain.event.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.signaling.domain.event.entity.RoomEventType;
+import com.signaling.domain.event.repository.RoomEventRepository;
+import com.signaling.global.persistence.JdbcTimestamps;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.stereotype.Service;
+
+/**
+ * 방의 이벤트 이력을 한 번의 쿼리로 읽으면서 NDJSON으로 바로 흘려보낸다. 행을 모아 두지 않으므로 힙 사용량이 이벤트 수와 무관하다.
+ */
+@Service
+public class RoomEventExportService {
+
+    private static final int FLUSH_EVERY = 1000;
+
+    private final RoomEventRepository roomEventRepository;
+    private final ObjectMapper objectMapper;
+
+    public RoomEventExportService(RoomEventRepository roomEventRepository, ObjectMapper objectMapper) {
+        this.roomEventRepository = roomEventRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    public long export(String roomId, Instant from, Instant to, List<RoomEventType> types, OutputStream output)
+            throws IOException {
+        long[] written = new long[1];
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(output)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // 줄 구분은 직접 쓰므로 루트 값 사이의 기본 공백 구분자는 끈다.
+            generator.setRootValueSeparator(null);
+            try {
+                roomEventRepository.streamAll(roomId, from, to, types, rs -> {
+                    try {
+                        generator.writeStartObject();
+                        generator.writeNumberField("id", rs.getLong("id"));
+                        generator.writeStringField("eventId", rs.getString("event_id"));
+                        generator.writeStringField("eventType", rs.getString("event_type"));
+                        generator.writeStringField("occurredAt",
+                                JdbcTimestamps.read(rs, "occurred_at").toString());
+                        generator.writeStringField("roomId", rs.getString("room_id"));
+                        // 저장된 JSON 텍스트를 그대로 싣는다. payload 컬럼은 NULL일 수 있다.
+                        String payload = rs.getString("payload");
+                        generator.writeFieldName("payload");
+                        if (payload == null) {
+                            generator.writeNull();
+                        } else {
+                            generator.writeRawValue(payload);
+                        }
+                        generator.writeEndObject();
+                        generator.writeRaw('\n');
+                        if (++written[0] % FLUSH_EVERY == 0) {
+                            generator.flush();
+                        }
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+            } catch (UncheckedIOException ex) {
+                throw ex.getCause();
+            }
+        }
+        return written[0];
+    }
+}
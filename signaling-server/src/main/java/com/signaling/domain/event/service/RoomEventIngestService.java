@@ -0,0 +1,261 @@
+package com.signaling.domain.event.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.signaling.domain.event.dto.RoomEventBatchItemResponse;
+import com.signaling.domain.event.dto.RoomEventBatchResponse;
+import com.signaling.domain.event.dto.RoomEventIngestStatus;
+import com.signaling.domain.event.dto.RoomEventRequest;
+import com.signaling.domain.event.entity.RoomEvent;
+import com.signaling.domain.event.wal.EventWriteAheadLog;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+
+@Service
+public class RoomEventIngestService {
+
+    public static final int MAX_BATCH_SIZE = 1000;
+    private static final int STREAM_BATCH_SIZE = 200;
+    // 스트림 한 줄(이벤트 하나)의 최대 크기. 줄바꿈 없는 본문이 힙을 다 차지하지 못하게 한다.
+    public static final int MAX_STREAM_LINE_BYTES = 1024 * 1024;
+
+    private final RoomEventService roomEventService;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final EventWriteAheadLog writeAheadLog;
+
+    public RoomEventIngestService(RoomEventService roomEventService, Validator validator, ObjectMapper objectMapper,
+            ObjectProvider<EventWriteAheadLog> writeAheadLog) {
+        this.roomEventService = roomEventService;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.writeAheadLog = writeAheadLog.getIfAvailable();
+    }
+
+    public boolean isAsync() {
+        return writeAheadLog != null;
+    }
+
+    /**
+     * 비동기 모드에서 이벤트를 WAL에 기록한다. 반환 시점에는 디스크에 fsync까지 끝나 있다.
+     */
+    public void enqueue(List<RoomEventRequest> requests) {
+        List<byte[]> records = new ArrayList<>(requests.size());
+        for (RoomEventRequest request : requests) {
+            try {
+                records.add(objectMapper.writeValueAsBytes(request));
+            } catch (JsonProcessingException ex) {
+                throw new IllegalArgumentException("Failed to serialize event", ex);
+            }
+        }
+        writeAheadLog.append(records);
+    }
+
+    /**
+     * 배치 단위로 이벤트를 저장한다. 항목별로 검증하고, 유효한 항목만 한 번에 중복 검사 후 저장한다.
+     * roomId가 주어지면 모든 항목이 같은 방의 이벤트여야 한다.
+     */
+    public RoomEventBatchResponse ingestBatch(String roomId, List<RoomEventRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("Batch must contain at least one event");
+        }
+        if (requests.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Batch size must not exceed " + MAX_BATCH_SIZE);
+        }
+
+        List<RoomEventBatchItemResponse> items = ingest(roomId, requests, 0);
+        RoomEventBatchResponse response = new RoomEventBatchResponse();
+        response.setItems(items);
+        for (RoomEventBatchItemResponse item : items) {
+            switch (item.getStatus()) {
+                case CREATED -> response.setCreated(response.getCreated() + 1);
+                case ACCEPTED -> response.setAccepted(response.getAccepted() + 1);
+                case DUPLICATE -> response.setDuplicates(response.getDuplicates() + 1);
+                case INVALID -> response.setInvalid(response.getInvalid() + 1);
+            }
+        }
+        return response;
+    }
+
+    /**
+     * NDJSON 스트림을 한 줄씩 읽어 마이크로 배치로 저장하고, 이벤트마다 ack 한 줄을 바로 돌려준다.
+     * 본문 전체를 메모리에 올리지 않으며, 당장 읽을 데이터가 없으면 모인 만큼 먼저 저장해 파이프라인 클라이언트가 멈추지 않게 한다.
+     * {@link #MAX_STREAM_LINE_BYTES}보다 긴 줄을 만나면 IllegalArgumentException으로 스트림을 끊는다. ack를 받지 못한 이벤트는
+     * 저장되지 않은 것이므로 클라이언트가 다시 보낸다.
+     */
+    public void ingestStream(InputStream input, OutputStream output) throws IOException {
+        LineReader reader = new LineReader(input, MAX_STREAM_LINE_BYTES);
+        ObjectReader eventReader = objectMapper.readerFor(RoomEventRequest.class);
+        ObjectWriter ackWriter = objectMapper.writerFor(RoomEventBatchItemResponse.class);
+        List<RoomEventRequest> pending = new ArrayList<>(STREAM_BATCH_SIZE);
+        int nextIndex = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            int index = nextIndex++;
+            try {
+                pending.add(eventReader.readValue(line));
+            } catch (JsonProcessingException ex) {
+                writeAcks(output, ackWriter, flushStream(pending, index - pending.size()));
+                writeAcks(output, ackWriter, List.of(new RoomEventBatchItemResponse(index, null,
+                        RoomEventIngestStatus.INVALID, null, "Malformed JSON")));
+                continue;
+            }
+            if (pending.size() >= STREAM_BATCH_SIZE || !reader.ready()) {
+                writeAcks(output, ackWriter, flushStream(pending, nextIndex - pending.size()));
+            }
+        }
+        writeAcks(output, ackWriter, flushStream(pending, nextIndex - pending.size()));
+    }
+
+    /**
+     * 줄 길이에 상한을 둔 UTF-8 줄 읽기. BufferedReader.readLine은 줄바꿈이 나올 때까지 끝없이 버퍼를 키운다.
+     */
+    static final class LineReader {
+        private final InputStream input;
+        private final int maxLineBytes;
+        private final ByteArrayOutputStream line = new ByteArrayOutputStream();
+
+        LineReader(InputStream input, int maxLineBytes) {
+            this.input = new BufferedInputStream(input);
+            this.maxLineBytes = maxLineBytes;
+        }
+
+        /**
+         * 줄바꿈(\n 또는 \r\n)을 뺀 한 줄을 돌려준다. 스트림이 끝났으면 null.
+         */
+        String readLine() throws IOException {
+            line.reset();
+            int b;
+            while ((b = input.read()) != -1) {
+                if (b == '\n') {
+                    return decode();
+                }
+                if (line.size() >= maxLineBytes) {
+                    throw new IllegalArgumentException("Stream line exceeds " + maxLineBytes + " bytes");
+                }
+                line.write(b);
+            }
+            return line.size() == 0 ? null : decode();
+        }
+
+        boolean ready() throws IOException {
+            return input.available() > 0;
+        }
+
+        private String decode() {
+            int length = line.size();
+            byte[] bytes = line.toByteArray();
+            if (length > 0 && bytes[length - 1] == '\r') {
+                length--;
+            }
+            return new String(bytes, 0, length, StandardCharsets.UTF_8);
+        }
+    }
+
+    private List<RoomEventBatchItemResponse> flushStream(List<RoomEventRequest> pending, int firstIndex) {
+        if (pending.isEmpty()) {
+            return List.of();
+        }
+        List<RoomEventBatchItemResponse> items = ingest(null, pending, firstIndex);
+        pending.clear();
+        return items;
+    }
+
+    private void writeAcks(OutputStream output, ObjectWriter ackWriter, List<RoomEventBatchItemResponse> items)
+            throws IOException {
+        if (items.isEmpty()) {
+            return;
+        }
+        for (RoomEventBatchItemResponse item : items) {
+            output.write(ackWriter.writeValueAsBytes(item));
+            output.write('\n');
+        }
+        output.flush();
+    }
+
+    /**
+     * 검증 후 저장(또는 비동기 모드면 WAL 기록)하고 요청 순서대로 항목별 결과를 돌려준다. index는 firstIndex부터 매긴다.
+     */
+    public List<RoomEventBatchItemResponse> ingest(String roomId, List<RoomEventRequest> requests, int firstIndex) {
+        RoomEventBatchItemResponse[] items = new RoomEventBatchItemResponse[requests.size()];
+        List<Integer> validIndexes = new ArrayList<>();
+        List<RoomEvent> events = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            RoomEventRequest request = requests.get(i);
+            String error = validate(roomId, request);
+            if (error != null) {
+                String eventId = request == null ? null : request.getEventId();
+                items[i] = new RoomEventBatchItemResponse(firstIndex + i, eventId, RoomEventIngestStatus.INVALID,
+                        null, error);
+                continue;
+            }
+            validIndexes.add(i);
+            events.add(toEntity(request));
+        }
+
+        if (!events.isEmpty() && isAsync()) {
+            enqueue(validIndexes.stream().map(requests::get).toList());
+            for (int i : validIndexes) {
+                items[i] = new RoomEventBatchItemResponse(firstIndex + i, requests.get(i).getEventId(),
+                        RoomEventIngestStatus.ACCEPTED, null, null);
+            }
+        } else if (!events.isEmpty()) {
+            List<RoomEventService.SaveResult> results = roomEventService.saveAllIfNotExists(events);
+            for (int j = 0; j < results.size(); j++) {
+                RoomEventService.SaveResult result = results.get(j);
+                RoomEventIngestStatus status = result.isCreated()
+                        ? RoomEventIngestStatus.CREATED
+                        : RoomEventIngestStatus.DUPLICATE;
+                int i = validIndexes.get(j);
+                items[i] = new RoomEventBatchItemResponse(firstIndex + i, result.getEvent().getEventId(), status,
+                        result.getEvent().getId(), null);
+            }
+        }
+        return List.of(items);
+    }
+
+    public RoomEvent toEntity(RoomEventRequest request) {
+        return new RoomEvent(
+                request.getEventId(),
+                request.getEventType(),
+                request.getRoomId(),
+                request.getOccurredAt(),
+                request.getPayload()
+        );
+    }
+
+    private String validate(String roomId, RoomEventRequest request) {
+        if (request == null) {
+            return "Event must not be null";
+        }
+        Set<ConstraintViolation<RoomEventRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                    .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                    .collect(Collectors.joining(", "));
+        }
+        if (roomId != null && !roomId.equals(request.getRoomId())) {
+            return "roomId does not match path";
+        }
+        return null;
+    }
+}
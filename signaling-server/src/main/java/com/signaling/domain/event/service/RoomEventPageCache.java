@@ -0,0 +1,164 @@
+package com.signaling.domain.event.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.signaling.domain.event.entity.RoomEvent;
+import com.signaling.domain.room.entity.RoomState;
+import com.signaling.domain.room.repository.RoomRepository;
+import com.signaling.domain.room.service.ActiveRoomRegistry;
+import com.signaling.global.config.EventPageCacheProperties;
+import com.signaling.global.config.EventPartitionProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+/**
+ * 종료된 방의 이벤트 목록 응답을 직렬화된 바이트로 캐시한다. ETag는 본문 해시라서 같은 페이지면 노드가 달라도 같다.
+ * 페이지마다 만들 때 읽은 방의 버전({@link RoomEventCountService#version})을 같이 두고, 요청마다 새로 읽은 버전과
+ * 다르면 다시 만든다. 버전은 DB에서 읽으므로 다른 노드에 늦게 저장된 이벤트도 total 포함 여부와 상관없이 잡힌다.
+ * 이 노드에서 저장되면 그 방의 페이지를 바로 버린다. 키에 보존 하한을 넣어 하한이 넘어가면 모든 노드가
+ * 새 페이지를 만든다. 파티션은 하한 아래만 지워지므로 지워진다고 캐시된 페이지가 틀려지지 않는다.
+ */
+@Component
+public class RoomEventPageCache {
+
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private final boolean enabled;
+    private final int maxPageBytes;
+    private final ActiveRoomRegistry activeRoomRegistry;
+    private final RoomRepository roomRepository;
+    private final EventPartitionProperties partitionProperties;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, CachedPage> pages;
+
+    // roomId -> 그 방의 캐시 키. evict가 전체 키를 훑지 않고 방의 키만 지우게 한다.
+    // 어긋나도 지울 키를 놓칠 뿐이고, 남은 페이지는 버전 비교에서 걸러진다.
+    private final Map<String, Set<String>> keysByRoom = new ConcurrentHashMap<>();
+
+    public RoomEventPageCache(EventPageCacheProperties properties, ActiveRoomRegistry activeRoomRegistry,
+            RoomRepository roomRepository, EventPartitionProperties partitionProperties, ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.maxPageBytes = properties.getMaxPageBytes();
+        this.activeRoomRegistry = activeRoomRegistry;
+        this.roomRepository = roomRepository;
+        this.partitionProperties = partitionProperties;
+        this.objectMapper = objectMapper;
+
+        // Caffeine은 항목 수와 무게 상한을 함께 줄 수 없으므로, 최소 무게를 둬서 항목 수도 maxEntries 안에 묶는다.
+        long minWeight = Math.max(1, properties.getMaxBytes() / Math.max(1, properties.getMaxEntries()));
+        this.pages = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaxBytes())
+                .weigher((String key, CachedPage page) ->
+                        (int) Math.min(Integer.MAX_VALUE, Math.max(minWeight, (long) page.body.length + key.length())))
+                .removalListener((String key, CachedPage page, RemovalCause cause) -> {
+                    // 같은 키를 다시 넣은 경우에는 키가 그대로 남아 있다.
+                    if (key != null && cause != RemovalCause.REPLACED) {
+                        unindex(key);
+                    }
+                })
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, pages, "room_event_pages");
+        Gauge.builder("room_events.page_cache.weighted_bytes", pages,
+                        cache -> cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L))
+                .description("estimated bytes held by cached event pages")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이력이 더 이상 바뀌지 않는 방인지 판단한다. 활성 방은 레지스트리에서 걸러져 DB 조회 없이 끝난다.
+     */
+    public boolean isCacheable(String roomId) {
+        return enabled
+                && activeRoomRegistry.find(roomId) == null
+                && roomRepository.existsByRoomIdAndState(roomId, RoomState.CLOSED);
+    }
+
+    /**
+     * 캐시된 페이지를 돌려주고, 없거나 방의 버전이 달라졌으면 loader로 만든 응답을 직렬화해 저장한다.
+     * version은 loader보다 먼저 읽어야 한다. 그 사이 저장된 이벤트는 다음 요청의 버전이 달라져 다시 만들어진다.
+     * isCacheable을 먼저 확인한 방에만 쓴다.
+     */
+    public CachedPage get(String roomId, String filterKey, long version, Supplier<?> loader) {
+        String key = roomId + KEY_SEPARATOR + partitionProperties.retentionFloor(Instant.now()) + KEY_SEPARATOR
+                + filterKey;
+        CachedPage cached = pages.getIfPresent(key);
+        if (cached != null && cached.version == version) {
+            return cached;
+        }
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(loader.get());
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize event page", ex);
+        }
+        CachedPage page = new CachedPage(body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"", version);
+        if (body.length <= maxPageBytes) {
+            keysByRoom.computeIfAbsent(roomId, id -> ConcurrentHashMap.newKeySet()).add(key);
+            pages.put(key, page);
+        }
+        return page;
+    }
+
+    /**
+     * 이 노드에서 저장된 비활성 방의 페이지를 버린다. 버전 비교만으로도 맞지만 쓰이지 않을 페이지를 바로 비운다.
+     */
+    public void evict(List<RoomEvent> createdEvents) {
+        if (!enabled || createdEvents.isEmpty() || keysByRoom.isEmpty()) {
+            return;
+        }
+        for (RoomEvent event : createdEvents) {
+            if (activeRoomRegistry.find(event.getRoomId()) != null) {
+                continue;
+            }
+            Set<String> keys = keysByRoom.remove(event.getRoomId());
+            if (keys != null) {
+                pages.invalidateAll(keys);
+            }
+        }
+    }
+
+    private void unindex(String key) {
+        String roomId = key.substring(0, key.indexOf(KEY_SEPARATOR));
+        keysByRoom.computeIfPresent(roomId, (id, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+
+    public static class CachedPage {
+        private final byte[] body;
+        private final String etag;
+        // 페이지를 만들기 전에 읽은 방의 버전.
+        private final long version;
+
+        CachedPage(byte[] body, String etag, long version) {
+            this.body = body;
+            this.etag = etag;
+            this.version = version;
+        }
+
+        public byte[] getBody() {
+            return body;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.signaling.domain.event.service;
+
+import com.signaling.domain.event.repository.RoomEventPartitionRepository;
+import com.signaling.domain.event.repository.RoomEventPartitionRepository.Partition;
+import com.signaling.domain.event.repository.RoomEventRollupRepository;
+import com.signaling.global.config.EventPartitionProperties;
+import com.signaling.global.config.EventPartitionProperties.Granularity;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * room_events 파티션을 premakeCount 구간 앞까지 미리 만들고, 보존 기간이 지난 파티션을 통째로 떼어 지운다.
+ * 여러 노드 중 DB 잠금을 잡은 한 곳만 실행한다.
+ * 조회는 이미 보존 하한 아래를 보지 않고, 파티션은 하한보다 하루 더 지난 뒤에 지우므로 노드 사이 시계가 조금
+ * 어긋나도 지우는 순간 어느 노드의 결과나 캐시도 달라지지 않는다.
+ */
+@Component
+public class RoomEventPartitionMaintenance {
+
+    private static final Logger log = LoggerFactory.getLogger(RoomEventPartitionMaintenance.class);
+    private static final DateTimeFormatter DAILY_NAME = DateTimeFormatter.ofPattern("'p'yyyyMMdd");
+    private static final DateTimeFormatter MONTHLY_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    private final EventPartitionProperties properties;
+    private final RoomEventPartitionRepository partitionRepository;
+    private final RoomEventRollupRepository rollupRepository;
+
+    public RoomEventPartitionMaintenance(EventPartitionProperties properties,
+            RoomEventPartitionRepository partitionRepository, RoomEventRollupRepository rollupRepository) {
+        this.properties = properties;
+        this.partitionRepository = partitionRepository;
+        this.rollupRepository = rollupRepository;
+    }
+
+    @Scheduled(fixedDelayString = "${event-partition.maintenance-interval-ms:3600000}")
+    public void maintain() {
+        if (!properties.isMaintenanceEnabled()) {
+            return;
+        }
+        try {
+            if (!partitionRepository.runExclusively(() -> maintain(Instant.now()))) {
+                log.debug("Partition maintenance is running on another node");
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Partition maintenance failed, will retry: {}", ex.getMessage());
+        }
+    }
+
+    void maintain(Instant now) {
+        List<Partition> partitions = partitionRepository.findPartitions();
+        if (partitions.isEmpty() || partitions.get(partitions.size() - 1).getUpperBound() != null) {
+            log.warn("room_events has no MAXVALUE partition, skipping partition maintenance");
+            return;
+        }
+        // 지난 실행이 떼어 낸 뒤 카운터를 맞추기 전에 멈췄다면 그것부터 마무리한다.
+        if (partitionRepository.hasDetached()) {
+            partitionRepository.purgeDetached();
+        }
+        premake(partitions, now);
+        Instant floor = properties.retentionFloor(now);
+        if (floor != null) {
+            dropExpired(partitions, floor.minus(1, ChronoUnit.DAYS));
+        }
+    }
+
+    private void premake(List<Partition> partitions, Instant now) {
+        Partition future = partitions.get(partitions.size() - 1);
+        LocalDate today = LocalDate.ofInstant(now, ZoneOffset.UTC);
+        LocalDate horizon = periodStart(today).plus(properties.getPremakeCount() + 1L, periodUnit());
+        LocalDate bound = partitions.size() > 1
+                ? LocalDate.ofInstant(partitions.get(partitions.size() - 2).getUpperBound(), ZoneOffset.UTC)
+                : periodStart(today);
+
+        List<Partition> added = new ArrayList<>();
+        while (bound.isBefore(horizon)) {
+            LocalDate next = periodStart(bound).plus(1, periodUnit());
+            added.add(new Partition(name(bound), next.atStartOfDay(ZoneOffset.UTC).toInstant()));
+            bound = next;
+        }
+        if (added.isEmpty()) {
+            return;
+        }
+        // 유지보수가 늦었거나 먼 미래 시각의 이벤트가 들어오면 p_future에 행이 쌓여 있다.
+        long limit = properties.getMaxFutureRowsToSplit();
+        long futureRows = partitionRepository.countRows(future.getName(), limit + 1);
+        if (futureRows > limit) {
+            log.error("Not splitting {}: it holds more than {} rows, which REORGANIZE would copy while blocking "
+                    + "writes. Split it manually in a maintenance window.", future.getName(), limit);
+            return;
+        }
+        if (futureRows > 0) {
+            log.warn("Splitting {} copies its {} rows while blocking writes to room_events", future.getName(),
+                    futureRows);
+        }
+        partitionRepository.split(future.getName(), added);
+        log.info("Created {} room_events partitions up to {}", added.size(), bound);
+    }
+
+    private void dropExpired(List<Partition> partitions, Instant cutoff) {
+        Instant droppedUpTo = null;
+        // 마지막 두 개(가장 늦은 범위 파티션과 MAXVALUE)는 남긴다.
+        for (Partition partition : partitions.subList(0, Math.max(0, partitions.size() - 2))) {
+            if (partition.getUpperBound().isAfter(cutoff)) {
+                break;
+            }
+            partitionRepository.detach(partition.getName());
+            partitionRepository.purgeDetached();
+            droppedUpTo = partition.getUpperBound();
+            log.info("Dropped room_events partition {} (events before {})", partition.getName(), droppedUpTo);
+        }
+        if (droppedUpTo == null) {
+            return;
+        }
+        // 남은 파티션에 있는 이벤트의 event_id는 지우지 않아야 중복 저장을 계속 막는다.
+        long deletedIds = partitionRepository.deleteIdsBefore(droppedUpTo, properties.getIdDeleteBatchSize());
+        long deletedBuckets = rollupRepository.deleteBefore(droppedUpTo, properties.getIdDeleteBatchSize());
+        log.info("Deleted {} expired event ids and {} rollup buckets before {}", deletedIds, deletedBuckets,
+                droppedUpTo);
+    }
+
+    private LocalDate periodStart(LocalDate date) {
+        return properties.getGranularity() == Granularity.DAILY ? date : date.withDayOfMonth(1);
+    }
+
+    private ChronoUnit periodUnit() {
+        return properties.getGranularity() == Granularity.DAILY ? ChronoUnit.DAYS : ChronoUnit.MONTHS;
+    }
+
+    private String name(LocalDate lowerBound) {
+        return (properties.getGranularity() == Granularity.DAILY ? DAILY_NAME : MONTHLY_NAME).format(lowerBound);
+    }
+}
@@ -0,0 +1,125 @@
+package com.signaling.domain.event.service;
+
+import com.signaling.domain.event.dto.RoomEventBucketSize;
+import com.signaling.domain.event.dto.RoomEventHistogramBucket;
+import com.signaling.domain.event.dto.RoomEventHistogramResponse;
+import com.signaling.domain.event.entity.RoomEvent;
+import com.signaling.domain.event.entity.RoomEventType;
+import com.signaling.domain.event.repository.RoomEventRollupRepository;
+import com.signaling.global.config.EventPartitionProperties;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 분 단위 롤업은 저장 트랜잭션 안에서 올리고, 시간/일 롤업은 컴팩터가 분 단위에서 다시 만든다.
+ * 컴팩터는 이 노드가 저장한 이벤트가 속한 시간대와 최근 두 시간을 매번 다시 계산한다.
+ */
+@Service
+public class RoomEventRollupService {
+
+    private static final Logger log = LoggerFactory.getLogger(RoomEventRollupService.class);
+    static final int MAX_BUCKETS = 10_000;
+
+    private final RoomEventRollupRepository rollupRepository;
+    private final EventPartitionProperties partitionProperties;
+    private final Set<Instant> dirtyHours = ConcurrentHashMap.newKeySet();
+
+    public RoomEventRollupService(RoomEventRollupRepository rollupRepository,
+            EventPartitionProperties partitionProperties) {
+        this.rollupRepository = rollupRepository;
+        this.partitionProperties = partitionProperties;
+    }
+
+    /**
+     * 저장 트랜잭션 안에서 호출된다.
+     */
+    public void record(List<RoomEvent> createdEvents) {
+        if (createdEvents.isEmpty()) {
+            return;
+        }
+        rollupRepository.incrementMinutes(createdEvents);
+    }
+
+    /**
+     * 커밋 후 호출된다. 커밋 전에 표시하면 컴팩터가 아직 보이지 않는 분 단위 값으로 계산하고 표시를 지워 버릴 수 있다.
+     */
+    public void markDirty(List<RoomEvent> createdEvents) {
+        for (RoomEvent event : createdEvents) {
+            dirtyHours.add(event.getOccurredAt().truncatedTo(ChronoUnit.HOURS));
+        }
+    }
+
+    /**
+     * 보존 하한 아래 버킷은 목록 API가 돌려주지 않는 구간이므로 비워 둔다. 하한이 UTC 자정이라 버킷이 걸치지 않는다.
+     */
+    public RoomEventHistogramResponse histogram(String roomId, RoomEventBucketSize size, Instant from, Instant to,
+            List<RoomEventType> types) {
+        Instant end = to != null ? to : Instant.now();
+        if (from == null || !from.isBefore(end)) {
+            throw new IllegalArgumentException("'from' is required and must be before 'to'");
+        }
+        Instant start = from.truncatedTo(size.getUnit());
+        if (Duration.between(start, end).dividedBy(size.getUnit().getDuration()) >= MAX_BUCKETS) {
+            throw new IllegalArgumentException("Range spans more than " + MAX_BUCKETS
+                    + " buckets, use a larger bucket");
+        }
+
+        Instant floor = partitionProperties.retentionFloor(Instant.now());
+        Instant queryStart = floor != null && start.isBefore(floor) ? floor : start;
+
+        List<RoomEventHistogramBucket> buckets = new ArrayList<>();
+        RoomEventHistogramBucket current = null;
+        for (RoomEventRollupRepository.Row row
+                : rollupRepository.findBuckets(roomId, size, queryStart, end, types)) {
+            if (current == null || !current.getStart().equals(row.getBucketStart())) {
+                current = new RoomEventHistogramBucket(row.getBucketStart());
+                buckets.add(current);
+            }
+            current.add(row.getEventType(), row.getCount());
+        }
+        return new RoomEventHistogramResponse(roomId, size.getParamName(), start, end, buckets);
+    }
+
+    @Scheduled(fixedDelayString = "${event-rollup.compact-interval-ms:60000}")
+    public synchronized void compact() {
+        Instant currentHour = Instant.now().truncatedTo(ChronoUnit.HOURS);
+        Set<Instant> hours = new TreeSet<>();
+        hours.add(currentHour);
+        hours.add(currentHour.minus(1, ChronoUnit.HOURS));
+        for (Instant hour : dirtyHours) {
+            if (dirtyHours.remove(hour)) {
+                hours.add(hour);
+            }
+        }
+
+        Set<Instant> days = new TreeSet<>();
+        for (Instant hour : hours) {
+            try {
+                rollupRepository.rebuild(RoomEventBucketSize.HOUR, hour);
+                days.add(hour.truncatedTo(ChronoUnit.DAYS));
+            } catch (RuntimeException ex) {
+                log.warn("Hour rollup failed for {}, will retry: {}", hour, ex.getMessage());
+                dirtyHours.add(hour);
+            }
+        }
+        for (Instant day : days) {
+            try {
+                rollupRepository.rebuild(RoomEventBucketSize.DAY, day);
+            } catch (RuntimeException ex) {
+                log.warn("Day rollup failed for {}, will retry: {}", day, ex.getMessage());
+                // 그 날의 첫 시간을 다시 표시해 두면 다음 실행에서 날짜까지 다시 계산된다.
+                dirtyHours.add(day);
+            }
+        }
+    }
+}
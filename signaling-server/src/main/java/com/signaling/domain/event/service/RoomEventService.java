@@ -1,42 +1,232 @@
 package com.signaling.domain.event.service;
 
+import com.signaling.domain.event.dto.RoomEventField;
+import com.signaling.domain.event.dto.RoomEventResponse;
 import com.signaling.domain.event.entity.RoomEvent;
 import com.signaling.domain.event.entity.RoomEventType;
 import com.signaling.domain.event.repository.RoomEventRepository;
+import com.signaling.domain.event.repository.RoomEventSlice;
+import com.signaling.domain.event.sse.RoomEventStreamHub;
+import com.signaling.domain.room.service.RoomOccupancyTracker;
+import com.signaling.domain.room.service.RoomProjectionService;
+import com.signaling.global.id.SnowflakeIdGenerator;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 public class RoomEventService {
 
     private final RoomEventRepository roomEventRepository;
+    private final SnowflakeIdGenerator idGenerator;
+    private final RecentEventIdFilter recentEventIds;
+    private final TransactionTemplate transactionTemplate;
+    private final RoomProjectionService roomProjectionService;
+    private final RoomOccupancyTracker occupancyTracker;
+    private final RoomEventCountService roomEventCountService;
+    private final RoomEventPageCache roomEventPageCache;
+    private final RoomEventStreamHub roomEventStreamHub;
+    private final RoomEventWaiters roomEventWaiters;
+    private final RoomEventRollupService roomEventRollupService;
 
-    public RoomEventService(RoomEventRepository roomEventRepository) {
+    public RoomEventService(RoomEventRepository roomEventRepository, SnowflakeIdGenerator idGenerator,
+            RecentEventIdFilter recentEventIds, TransactionTemplate transactionTemplate,
+            RoomProjectionService roomProjectionService, RoomOccupancyTracker occupancyTracker,
+            RoomEventCountService roomEventCountService, RoomEventPageCache roomEventPageCache,
+            RoomEventStreamHub roomEventStreamHub, RoomEventWaiters roomEventWaiters,
+            RoomEventRollupService roomEventRollupService) {
         this.roomEventRepository = roomEventRepository;
+        this.idGenerator = idGenerator;
+        this.recentEventIds = recentEventIds;
+        this.transactionTemplate = transactionTemplate;
+        this.roomProjectionService = roomProjectionService;
+        this.occupancyTracker = occupancyTracker;
+        this.roomEventCountService = roomEventCountService;
+        this.roomEventPageCache = roomEventPageCache;
+        this.roomEventStreamHub = roomEventStreamHub;
+        this.roomEventWaiters = roomEventWaiters;
+        this.roomEventRollupService = roomEventRollupService;
     }
 
-    @Transactional
+    /**
+     * 최근에 저장이 확인된 eventId는 DB 없이 중복으로 응답한다. 블룸 필터가 "봤을 수도 있음"이라고 할 때만
+     * 먼저 조회하고, 처음 보는 eventId는 바로 INSERT IGNORE로 넣는다.
+     */
     public SaveResult saveIfNotExists(RoomEvent event) {
-        Optional<RoomEvent> existing = roomEventRepository.findByEventId(event.getEventId());
-        if (existing.isPresent()) {
-            return new SaveResult(existing.get(), false);
+        RoomEvent recent = recentEventIds.findRecent(event.getEventId());
+        if (recent != null) {
+            return new SaveResult(recent, false);
         }
-        RoomEvent saved = roomEventRepository.save(event);
-        return new SaveResult(saved, true);
+        boolean possiblySeen = recentEventIds.mightHaveSeen(event.getEventId());
+        SaveResult result = transactionTemplate.execute(status -> insertOrFindExisting(event, possiblySeen));
+        if (result.isCreated()) {
+            occupancyTracker.record(List.of(result.getEvent()));
+            roomEventCountService.evict(List.of(result.getEvent()));
+            roomEventPageCache.evict(List.of(result.getEvent()));
+            roomEventStreamHub.publish(List.of(result.getEvent()));
+            roomEventWaiters.signal(List.of(result.getEvent()));
+            roomEventRollupService.markDirty(List.of(result.getEvent()));
+            if (possiblySeen) {
+                recentEventIds.recordFalsePositive();
+            }
+        }
+        recentEventIds.remember(result.getEvent());
+        return result;
+    }
+
+    /**
+     * 배치 전체를 한 번의 JDBC 배치 INSERT IGNORE로 넣고, event_id별로 저장된 id를 한 번 읽어
+     * 미리 발급한 id와 같으면 생성, 다르면 중복으로 판단한다. 최근에 본 eventId는 배치에서 미리 뺀다.
+     */
+    public List<SaveResult> saveAllIfNotExists(List<RoomEvent> events) {
+        SaveResult[] results = new SaveResult[events.size()];
+        List<Integer> unseenIndexes = new ArrayList<>();
+        List<RoomEvent> unseen = new ArrayList<>();
+        for (int i = 0; i < events.size(); i++) {
+            RoomEvent cached = recentEventIds.findRecent(events.get(i).getEventId());
+            if (cached != null) {
+                results[i] = new SaveResult(cached, false);
+            } else {
+                unseenIndexes.add(i);
+                unseen.add(events.get(i));
+            }
+        }
+        if (!unseen.isEmpty()) {
+            List<SaveResult> stored = transactionTemplate.execute(status -> insertAllOrFindExisting(unseen));
+            List<RoomEvent> created = new ArrayList<>();
+            for (int i = 0; i < stored.size(); i++) {
+                results[unseenIndexes.get(i)] = stored.get(i);
+                recentEventIds.remember(stored.get(i).getEvent());
+                if (stored.get(i).isCreated()) {
+                    created.add(stored.get(i).getEvent());
+                }
+            }
+            occupancyTracker.record(created);
+            roomEventCountService.evict(created);
+            roomEventPageCache.evict(created);
+            roomEventStreamHub.publish(created);
+            roomEventWaiters.signal(created);
+            roomEventRollupService.markDirty(created);
+        }
+        return List.of(results);
+    }
+
+    private SaveResult insertOrFindExisting(RoomEvent event, boolean possiblySeen) {
+        if (possiblySeen) {
+            RoomEvent existing = findCommitted(event.getEventId());
+            if (existing != null) {
+                return new SaveResult(existing, false);
+            }
+        }
+        RoomEvent candidate = event.withId(idGenerator.nextId());
+        if (roomEventRepository.insertIfAbsent(candidate)) {
+            roomEventRepository.incrementTypeCounts(List.of(candidate));
+            roomEventRollupService.record(List.of(candidate));
+            roomProjectionService.apply(List.of(candidate));
+            return new SaveResult(candidate, true);
+        }
+        RoomEvent existing = findCommitted(event.getEventId());
+        if (existing == null) {
+            throw new IllegalStateException("Duplicate event not found: " + event.getEventId());
+        }
+        return new SaveResult(existing, false);
+    }
+
+    private RoomEvent findCommitted(String eventId) {
+        List<RoomEvent> found = roomEventRepository.findCommittedByEventIdIn(List.of(eventId));
+        return found.isEmpty() ? null : found.get(0);
     }
 
+    private List<SaveResult> insertAllOrFindExisting(List<RoomEvent> events) {
+        Map<String, RoomEvent> candidates = new LinkedHashMap<>();
+        for (RoomEvent event : events) {
+            candidates.computeIfAbsent(event.getEventId(), key -> event.withId(idGenerator.nextId()));
+        }
+        Map<String, Long> storedIds = candidates.isEmpty() ? Map.of()
+                : roomEventRepository.insertAllIfAbsent(new ArrayList<>(candidates.values()));
+
+        Map<String, RoomEvent> existing = new HashMap<>();
+        List<String> duplicateIds = candidates.values().stream()
+                .filter(candidate -> !candidate.getId().equals(storedIds.get(candidate.getEventId())))
+                .map(RoomEvent::getEventId)
+                .toList();
+        if (!duplicateIds.isEmpty()) {
+            for (RoomEvent event : roomEventRepository.findCommittedByEventIdIn(duplicateIds)) {
+                existing.put(event.getEventId(), event);
+            }
+        }
+
+        List<SaveResult> results = new ArrayList<>(events.size());
+        List<RoomEvent> created = new ArrayList<>();
+        Set<String> reported = new HashSet<>();
+        for (RoomEvent event : events) {
+            String eventId = event.getEventId();
+            RoomEvent stored = existing.get(eventId);
+            if (stored == null) {
+                stored = candidates.get(eventId);
+                if (!stored.getId().equals(storedIds.get(eventId))) {
+                    throw new IllegalStateException("Duplicate event not found: " + eventId);
+                }
+            }
+            boolean isNew = stored == candidates.get(eventId) && reported.add(eventId);
+            if (isNew) {
+                created.add(stored);
+            }
+            results.add(new SaveResult(stored, isNew));
+        }
+        if (!created.isEmpty()) {
+            roomEventRepository.incrementTypeCounts(created);
+            roomEventRollupService.record(created);
+        }
+        roomProjectionService.apply(created);
+        return results;
+    }
+
+    @Transactional(readOnly = true)
+    public List<RoomEventResponse> search(String roomId, Instant from, Instant to, List<RoomEventType> types,
+            Instant cursorTime, Long cursorId, boolean forward, int limitPlusOne, Set<RoomEventField> fields) {
+        return roomEventRepository.search(roomId, from, to, types, cursorTime, cursorId, forward, limitPlusOne,
+                fields);
+    }
+
+    /**
+     * 방 구분 없는 피드. 타입별로 (event_type, occurred_at) 인덱스 순서대로 limit만큼 읽고 합친다.
+     * 여러 타입을 IN으로 한 번에 읽으면 정렬을 위해 범위 안의 행을 모두 읽게 된다.
+     */
     @Transactional(readOnly = true)
-    public List<RoomEvent> search(String roomId, Instant from, Instant to, List<RoomEventType> types,
-            Instant cursorTime, Long cursorId, boolean forward, int limitPlusOne) {
-        return roomEventRepository.search(roomId, from, to, types, cursorTime, cursorId, forward, limitPlusOne);
+    public List<RoomEventResponse> searchAcrossRooms(Instant from, Instant to, List<RoomEventType> types,
+            Instant cursorTime, Long cursorId, boolean forward, int limitPlusOne, Set<RoomEventField> fields) {
+        List<RoomEventType> targets = types == null || types.isEmpty()
+                ? List.of(RoomEventType.values())
+                : types.stream().distinct().toList();
+        List<RoomEventResponse> merged = new ArrayList<>();
+        for (RoomEventType type : targets) {
+            merged.addAll(roomEventRepository.search(null, from, to, List.of(type), cursorTime, cursorId, forward,
+                    limitPlusOne, fields));
+        }
+        Comparator<RoomEventResponse> order = Comparator.comparing(RoomEventResponse::getOccurredAt)
+                .thenComparing(RoomEventResponse::getId);
+        merged.sort(forward ? order : order.reversed());
+        return merged.size() > limitPlusOne ? new ArrayList<>(merged.subList(0, limitPlusOne)) : merged;
     }
 
+    /**
+     * 여러 방의 페이지를 한 트랜잭션, 몇 개의 쿼리로 읽는다. i번째 목록이 slices의 i번째 방이고,
+     * 방 안의 순서는 각 slice의 방향을 따른다.
+     */
     @Transactional(readOnly = true)
-    public long count(String roomId, Instant from, Instant to, List<RoomEventType> types) {
-        return roomEventRepository.count(roomId, from, to, types);
+    public List<List<RoomEventResponse>> searchRooms(List<RoomEventSlice> slices, List<RoomEventType> types,
+            Set<RoomEventField> fields) {
+        return roomEventRepository.searchRooms(slices, types, fields);
     }
 
     public static class SaveResult {
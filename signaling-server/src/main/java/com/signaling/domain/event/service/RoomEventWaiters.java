@@ -0,0 +1,154 @@
+package com.signaling.domain.event.service;
+
+import com.signaling.domain.event.dto.RoomEventPageResponse;
+import com.signaling.domain.event.entity.RoomEvent;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * listEvents 롱 폴링 대기열. 빈 페이지를 받은 요청은 스레드 없이 DeferredResult로 대기하고,
+ * 저장 커밋 후 조건에 맞는 이벤트가 들어온 방의 대기만 깨워 한 번 다시 조회한다.
+ * 재조회 대기열은 LOADER_QUEUE까지만 쌓고, 넘치면 깨운 요청을 503으로 끝내 DB가 밀릴 때 메모리가 쌓이지 않게 한다.
+ */
+@Component
+public class RoomEventWaiters {
+
+    private static final int MAX_WAITERS = 10_000;
+    private static final int LOADER_THREADS = 2;
+    private static final int LOADER_QUEUE = 1_000;
+
+    private final Map<String, Set<Waiter>> waiters = new ConcurrentHashMap<>();
+    private final AtomicInteger waiterCount = new AtomicInteger();
+    private final ThreadPoolExecutor loaders;
+
+    public RoomEventWaiters() {
+        this(LOADER_THREADS, LOADER_QUEUE);
+    }
+
+    RoomEventWaiters(int loaderThreads, int loaderQueue) {
+        // 기본 AbortPolicy라 대기열이 차면 execute가 RejectedExecutionException을 던진다.
+        this.loaders = new ThreadPoolExecutor(loaderThreads, loaderThreads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(loaderQueue), runnable -> {
+                    Thread thread = new Thread(runnable, "room-event-long-poll");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * 대기를 먼저 등록한 뒤 조회하므로, 조회와 등록 사이에 커밋된 이벤트도 놓치지 않는다.
+     * 시간이 다 되면 처음 조회한 빈 페이지로 응답한다.
+     */
+    public DeferredResult<RoomEventPageResponse> await(String roomId, long waitMs, Predicate<RoomEvent> matches,
+            Supplier<RoomEventPageResponse> loader) {
+        if (waiterCount.incrementAndGet() > MAX_WAITERS) {
+            waiterCount.decrementAndGet();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many waiting requests");
+        }
+        DeferredResult<RoomEventPageResponse> result = new DeferredResult<>(waitMs);
+        Waiter waiter = new Waiter(roomId, matches, loader, result);
+        waiters.computeIfAbsent(roomId, key -> ConcurrentHashMap.newKeySet()).add(waiter);
+        result.onCompletion(() -> unregister(waiter));
+
+        RoomEventPageResponse page;
+        try {
+            page = loader.get();
+        } catch (RuntimeException ex) {
+            unregister(waiter);
+            throw ex;
+        }
+        if (!page.getItems().isEmpty()) {
+            if (waiter.claimed.compareAndSet(false, true)) {
+                unregister(waiter);
+                result.setResult(page);
+            }
+            return result;
+        }
+        // 다시 조회하는 중에 시간이 다 되면 빈 페이지가 먼저 나가고, 조회 결과는 버려진다.
+        result.onTimeout(() -> result.setResult(page));
+        return result;
+    }
+
+    /**
+     * 저장 커밋 후 호출된다. 깨운 요청의 재조회는 별도 스레드에서 하므로 저장 경로는 기다리지 않는다.
+     */
+    public void signal(List<RoomEvent> createdEvents) {
+        if (waiters.isEmpty()) {
+            return;
+        }
+        for (RoomEvent event : createdEvents) {
+            Set<Waiter> roomWaiters = waiters.get(event.getRoomId());
+            if (roomWaiters == null) {
+                continue;
+            }
+            for (Waiter waiter : roomWaiters) {
+                if (waiter.matches.test(event) && waiter.claimed.compareAndSet(false, true)) {
+                    unregister(waiter);
+                    wake(waiter);
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        loaders.shutdownNow();
+    }
+
+    private void wake(Waiter waiter) {
+        try {
+            loaders.execute(() -> {
+                try {
+                    waiter.result.setResult(waiter.loader.get());
+                } catch (RuntimeException ex) {
+                    waiter.result.setErrorResult(ex);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            waiter.result.setErrorResult(
+                    new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many long-poll reloads"));
+        }
+    }
+
+    private void unregister(Waiter waiter) {
+        if (waiter.unregistered.compareAndSet(false, true)) {
+            waiterCount.decrementAndGet();
+        }
+        waiters.computeIfPresent(waiter.roomId, (key, roomWaiters) -> {
+            roomWaiters.remove(waiter);
+            return roomWaiters.isEmpty() ? null : roomWaiters;
+        });
+    }
+
+    private static final class Waiter {
+        private final String roomId;
+        private final Predicate<RoomEvent> matches;
+        private final Supplier<RoomEventPageResponse> loader;
+        private final DeferredResult<RoomEventPageResponse> result;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private final AtomicBoolean unregistered = new AtomicBoolean();
+
+        private Waiter(String roomId, Predicate<RoomEvent> matches, Supplier<RoomEventPageResponse> loader,
+                DeferredResult<RoomEventPageResponse> result) {
+            this.roomId = roomId;
+            this.matches = matches;
+            this.loader = loader;
+            this.result = result;
+        }
+    }
+}
@@ -0,0 +1,446 @@
+package com.signaling.domain.event.sse;
+
+import com.signaling.domain.event.dto.RoomEventField;
+import com.signaling.domain.event.dto.RoomEventResponse;
+import com.signaling.domain.event.entity.RoomEvent;
+import com.signaling.domain.event.entity.RoomEventType;
+import com.signaling.domain.event.repository.RoomEventRepository;
+import com.signaling.global.config.EventStreamProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 방 이벤트의 SSE 라이브 테일. 커서가 있으면 DB에서 밀린 이벤트를 먼저 보내고, 이후에는 커밋된 이벤트를 프로세스 안에서 바로 민다.
+ * 구독자마다 버퍼 크기가 정해져 있어서, 느린 구독자는 재개 커서를 받고 끊기거나(DISCONNECT) 오래된 이벤트를 잃는다(DROP_OLDEST).
+ * 전송은 별도 스레드에서 하므로 저장 경로는 구독자 때문에 막히지 않는다. 쓰기가 slowSendMs를 넘겨 막힌 구독자는
+ * 감시 작업이 즉시 떼어 내고, 그 쓰기가 풀릴 때까지 전송 스레드를 하나 더 둬서 다른 구독자가 밀리지 않게 한다.
+ */
+@Component
+public class RoomEventStreamHub {
+
+    private static final Logger log = LoggerFactory.getLogger(RoomEventStreamHub.class);
+    private static final Set<RoomEventField> ALL_FIELDS = EnumSet.allOf(RoomEventField.class);
+    // Subscription.sendStarted 값. 쓰는 중이면 clock() 값(양수)이다.
+    private static final long NOT_SENDING = 0;
+    private static final long STALLED = -1;
+
+    private final RoomEventRepository roomEventRepository;
+    private final EventStreamProperties properties;
+    private final Map<String, Set<Subscription>> subscriptions = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    // 지금 emitter에 쓰고 있는 구독자. 감시 작업이 막힌 쓰기를 찾는 데 쓴다.
+    private final Set<Subscription> sending = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor senders;
+    private final long clockOrigin = System.nanoTime();
+    private int stalledSenders;
+    private final ScheduledExecutorService heartbeats;
+
+    private final Counter droppedEvents;
+    private final Counter overflowDisconnects;
+    private final Counter slowDisconnects;
+
+    public RoomEventStreamHub(RoomEventRepository roomEventRepository, EventStreamProperties properties,
+            MeterRegistry meterRegistry) {
+        this.roomEventRepository = roomEventRepository;
+        this.properties = properties;
+        // 막힌 쓰기마다 코어 스레드를 하나씩 늘리므로 최대 크기는 구독자 수만큼 여유를 둔다.
+        this.senders = new ThreadPoolExecutor(properties.getSenderThreads(),
+                properties.getSenderThreads() + properties.getMaxSubscribers(), 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "room-event-stream");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.heartbeats = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "room-event-stream-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        heartbeats.scheduleAtFixedRate(this::heartbeat, properties.getHeartbeatSeconds(),
+                properties.getHeartbeatSeconds(), TimeUnit.SECONDS);
+        long checkMs = Math.max(1, properties.getSlowSendMs() / 2);
+        heartbeats.scheduleWithFixedDelay(this::evictStalled, checkMs, checkMs, TimeUnit.MILLISECONDS);
+
+        this.droppedEvents = Counter.builder("room_events.stream.dropped")
+                .description("live events dropped from full subscriber buffers")
+                .register(meterRegistry);
+        this.overflowDisconnects = Counter.builder("room_events.stream.disconnects")
+                .tag("reason", "overflow")
+                .register(meterRegistry);
+        this.slowDisconnects = Counter.builder("room_events.stream.disconnects")
+                .tag("reason", "slow")
+                .register(meterRegistry);
+        Gauge.builder("room_events.stream.subscribers", subscriberCount, AtomicInteger::get)
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(String roomId, List<RoomEventType> types, Instant cursorTime, Long cursorId) {
+        if (subscriberCount.incrementAndGet() > properties.getMaxSubscribers()) {
+            subscriberCount.decrementAndGet();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many event stream subscribers");
+        }
+        SseEmitter emitter = createEmitter(TimeUnit.MINUTES.toMillis(properties.getTimeoutMinutes()));
+        Subscription subscription = new Subscription(roomId, types, emitter, properties.getBufferSize());
+        subscription.lastTime = cursorTime;
+        subscription.lastId = cursorId;
+        emitter.onCompletion(() -> unregister(subscription));
+        emitter.onTimeout(() -> unregister(subscription));
+        emitter.onError(ex -> unregister(subscription));
+        if (cursorTime == null) {
+            subscription.live = true;
+            register(subscription);
+            return emitter;
+        }
+        try {
+            senders.execute(() -> replay(subscription));
+        } catch (RejectedExecutionException ex) {
+            unregister(subscription);
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Event stream is shutting down");
+        }
+        return emitter;
+    }
+
+    /**
+     * 저장 커밋 후 호출된다. 버퍼에 넣기만 하고 실제 전송은 전송 스레드가 맡는다.
+     */
+    public void publish(List<RoomEvent> createdEvents) {
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+        Set<Subscription> touched = new HashSet<>();
+        for (RoomEvent event : createdEvents) {
+            Set<Subscription> roomSubscriptions = subscriptions.get(event.getRoomId());
+            if (roomSubscriptions == null) {
+                continue;
+            }
+            for (Subscription subscription : roomSubscriptions) {
+                if (subscription.accepts(event.getEventType())) {
+                    offer(subscription, event);
+                    touched.add(subscription);
+                }
+            }
+        }
+        touched.forEach(this::scheduleDrain);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeats.shutdownNow();
+        senders.shutdownNow();
+        subscriptions.values().forEach(roomSubscriptions -> roomSubscriptions.forEach(s -> s.emitter.complete()));
+    }
+
+    SseEmitter createEmitter(long timeoutMs) {
+        return new SseEmitter(timeoutMs);
+    }
+
+    private void offer(Subscription subscription, RoomEvent event) {
+        if (subscription.buffer.offer(event)) {
+            return;
+        }
+        if (properties.getOverflowPolicy() == EventStreamProperties.OverflowPolicy.DROP_OLDEST) {
+            // 넣기 직전에 전송 스레드가 비웠을 수도 있으므로, 하나를 버린 뒤에도 실패하면 새 이벤트를 버린다.
+            if (subscription.buffer.poll() != null) {
+                subscription.dropped.incrementAndGet();
+                droppedEvents.increment();
+            }
+            if (!subscription.buffer.offer(event)) {
+                subscription.dropped.incrementAndGet();
+                droppedEvents.increment();
+            }
+            return;
+        }
+        if (subscription.overflowed.compareAndSet(false, true)) {
+            overflowDisconnects.increment();
+        }
+    }
+
+    private void replay(Subscription subscription) {
+        try {
+            // 등록 전에 밀린 이력을 보내고, 등록 후 한 번 더 따라잡는다. 두 번째 구간에서 보낸 id는 버퍼에서 다시 보내지 않는다.
+            if (replayFromDatabase(subscription, null)) {
+                finish(subscription);
+                return;
+            }
+            register(subscription);
+            Set<Long> sent = new HashSet<>();
+            if (replayFromDatabase(subscription, sent)) {
+                finish(subscription);
+                return;
+            }
+            synchronized (subscription) {
+                subscription.skipIds = sent;
+                subscription.live = true;
+            }
+            scheduleDrain(subscription);
+        } catch (IOException | IllegalStateException ex) {
+            close(subscription, ex);
+        } catch (RuntimeException ex) {
+            log.warn("Event stream replay failed for room {}: {}", subscription.roomId, ex.getMessage());
+            close(subscription, ex);
+        }
+    }
+
+    /**
+     * 커서 이후 이벤트를 페이지 단위로 보낸다. 방 종료 이벤트까지 보냈으면 true.
+     */
+    private boolean replayFromDatabase(Subscription subscription, Set<Long> sent) throws IOException {
+        int pageSize = properties.getReplayPageSize();
+        boolean roomClosed = false;
+        while (!subscription.closed.get()) {
+            List<RoomEventResponse> page = roomEventRepository.search(subscription.roomId, null, null,
+                    subscription.types, subscription.lastTime, subscription.lastId, true, pageSize, ALL_FIELDS);
+            for (RoomEventResponse event : page) {
+                send(subscription, event);
+                roomClosed |= event.getEventType() == RoomEventType.ROOM_CLOSED;
+                if (sent != null) {
+                    sent.add(event.getId());
+                }
+            }
+            if (page.size() < pageSize) {
+                break;
+            }
+        }
+        return roomClosed;
+    }
+
+    private void scheduleDrain(Subscription subscription) {
+        if (!subscription.live || subscription.closed.get() || !subscription.draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            senders.execute(() -> drain(subscription));
+        } catch (RejectedExecutionException ex) {
+            subscription.draining.set(false);
+        }
+    }
+
+    private void drain(Subscription subscription) {
+        try {
+            if (subscription.overflowed.get()) {
+                // 버퍼에 남은 이벤트는 모두 커밋된 것이므로, 재개 커서로 다시 연결하면 DB 재생으로 받는다.
+                subscription.buffer.clear();
+                write(subscription, SseEmitter.event()
+                        .id(subscription.cursor())
+                        .name("overflow")
+                        .data(subscription.cursor()));
+                finish(subscription);
+                return;
+            }
+            int dropped = subscription.dropped.getAndSet(0);
+            if (dropped > 0) {
+                write(subscription, SseEmitter.event().name("dropped").data(dropped));
+            }
+            RoomEvent event;
+            while (!subscription.closed.get() && (event = subscription.buffer.poll()) != null) {
+                if (!subscription.skipIds.isEmpty() && subscription.skipIds.remove(event.getId())) {
+                    continue;
+                }
+                send(subscription, toResponse(event));
+                if (event.getEventType() == RoomEventType.ROOM_CLOSED) {
+                    finish(subscription);
+                    return;
+                }
+            }
+            if (!subscription.closed.get() && subscription.heartbeatDue.getAndSet(false)) {
+                write(subscription, SseEmitter.event().comment("keepalive"));
+            }
+        } catch (IOException | IllegalStateException ex) {
+            close(subscription, ex);
+        } finally {
+            subscription.draining.set(false);
+        }
+        if (!subscription.buffer.isEmpty() || subscription.overflowed.get()) {
+            scheduleDrain(subscription);
+        }
+    }
+
+    private void send(Subscription subscription, RoomEventResponse event) throws IOException {
+        write(subscription, SseEmitter.event()
+                .id(event.getOccurredAt().toEpochMilli() + ":" + event.getId())
+                .name("event")
+                .data(event, MediaType.APPLICATION_JSON));
+        advance(subscription, event.getOccurredAt(), event.getId());
+    }
+
+    /**
+     * 소켓 쓰기가 막히면 전송 스레드를 붙잡으므로, 한 번이라도 slowSendMs를 넘긴 구독자는 끊는다.
+     * 쓰는 도중 넘긴 경우는 evictStalled가 먼저 떼어 내고, 여기서는 쓰기가 끝난 뒤 emitter를 닫는다.
+     */
+    private void write(Subscription subscription, SseEmitter.SseEventBuilder event) throws IOException {
+        long started = clock();
+        boolean stalled;
+        subscription.sendStarted.set(started);
+        sending.add(subscription);
+        try {
+            subscription.emitter.send(event);
+        } finally {
+            sending.remove(subscription);
+            stalled = subscription.sendStarted.getAndSet(NOT_SENDING) == STALLED;
+            if (stalled) {
+                resizeSenders(-1);
+            }
+        }
+        if (stalled) {
+            finish(subscription);
+        } else if (TimeUnit.NANOSECONDS.toMillis(clock() - started) > properties.getSlowSendMs()) {
+            slowDisconnects.increment();
+            finish(subscription);
+        }
+    }
+
+    /**
+     * 쓰기가 slowSendMs를 넘긴 구독자를 떼어 낸다. emitter는 막힌 쓰기가 잠금을 쥐고 있으므로 여기서 닫지 않고,
+     * 대신 전송 스레드를 하나 늘려 다른 구독자의 전송이 그 쓰기를 기다리지 않게 한다.
+     */
+    private void evictStalled() {
+        long now = clock();
+        long limit = TimeUnit.MILLISECONDS.toNanos(properties.getSlowSendMs());
+        for (Subscription subscription : sending) {
+            long started = subscription.sendStarted.get();
+            // 같은 쓰기에 대해서만 바꾸도록 읽은 시작 시각으로 CAS한다. 그 사이 끝났으면 실패한다.
+            if (started > 0 && now - started > limit
+                    && subscription.sendStarted.compareAndSet(started, STALLED)) {
+                slowDisconnects.increment();
+                unregister(subscription);
+                subscription.buffer.clear();
+                resizeSenders(1);
+                log.debug("Event stream for room {} stalled for over {}ms, evicted",
+                        subscription.roomId, properties.getSlowSendMs());
+            }
+        }
+    }
+
+    // 생성 시점 기준 나노초 + 1. 항상 양수라 NOT_SENDING, STALLED와 겹치지 않는다.
+    private long clock() {
+        return System.nanoTime() - clockOrigin + 1;
+    }
+
+    private synchronized void resizeSenders(int delta) {
+        stalledSenders += delta;
+        if (!senders.isShutdown()) {
+            // 쓰기가 감시 작업의 증가보다 먼저 끝나면 잠깐 음수가 될 수 있다.
+            senders.setCorePoolSize(properties.getSenderThreads() + Math.max(0, stalledSenders));
+        }
+    }
+
+    private void advance(Subscription subscription, Instant time, Long id) {
+        synchronized (subscription) {
+            if (subscription.lastTime == null || time.isAfter(subscription.lastTime)
+                    || (time.equals(subscription.lastTime) && id > subscription.lastId)) {
+                subscription.lastTime = time;
+                subscription.lastId = id;
+            }
+        }
+    }
+
+    private void heartbeat() {
+        for (Set<Subscription> roomSubscriptions : subscriptions.values()) {
+            for (Subscription subscription : roomSubscriptions) {
+                subscription.heartbeatDue.set(true);
+                scheduleDrain(subscription);
+            }
+        }
+    }
+
+    private void register(Subscription subscription) {
+        subscriptions.computeIfAbsent(subscription.roomId, key -> ConcurrentHashMap.newKeySet()).add(subscription);
+        if (subscription.closed.get()) {
+            unregister(subscription);
+        }
+    }
+
+    private void unregister(Subscription subscription) {
+        if (subscription.unregistered.compareAndSet(false, true)) {
+            subscriberCount.decrementAndGet();
+        }
+        subscription.closed.set(true);
+        subscriptions.computeIfPresent(subscription.roomId, (key, roomSubscriptions) -> {
+            roomSubscriptions.remove(subscription);
+            return roomSubscriptions.isEmpty() ? null : roomSubscriptions;
+        });
+    }
+
+    private void finish(Subscription subscription) {
+        unregister(subscription);
+        subscription.emitter.complete();
+    }
+
+    private void close(Subscription subscription, Exception ex) {
+        log.debug("Event stream for room {} closed: {}", subscription.roomId, ex.getMessage());
+        unregister(subscription);
+        subscription.emitter.completeWithError(ex);
+    }
+
+    private RoomEventResponse toResponse(RoomEvent event) {
+        RoomEventResponse response = new RoomEventResponse();
+        response.setId(event.getId());
+        response.setEventId(event.getEventId());
+        response.setEventType(event.getEventType());
+        response.setOccurredAt(event.getOccurredAt());
+        response.setRoomId(event.getRoomId());
+        response.setPayload(event.getPayload());
+        return response;
+    }
+
+    private static final class Subscription {
+        private final String roomId;
+        private final List<RoomEventType> types;
+        private final SseEmitter emitter;
+        private final BlockingQueue<RoomEvent> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean overflowed = new AtomicBoolean();
+        private final AtomicBoolean heartbeatDue = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private final AtomicBoolean unregistered = new AtomicBoolean();
+        private final AtomicLong sendStarted = new AtomicLong(NOT_SENDING);
+        private final AtomicInteger dropped = new AtomicInteger();
+        private volatile boolean live;
+        private Set<Long> skipIds = Set.of();
+        private Instant lastTime;
+        private Long lastId;
+
+        private Subscription(String roomId, List<RoomEventType> types, SseEmitter emitter, int bufferSize) {
+            this.roomId = roomId;
+            this.types = types == null || types.isEmpty() ? null : types;
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        private boolean accepts(RoomEventType type) {
+            return types == null || types.contains(type);
+        }
+
+        private synchronized String cursor() {
+            return lastTime == null ? "" : lastTime.toEpochMilli() + ":" + lastId;
+        }
+    }
+}
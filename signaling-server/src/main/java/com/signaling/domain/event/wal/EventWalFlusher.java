@@ -0,0 +1,186 @@
+package com.signaling.domain.event.wal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.signaling.domain.event.dto.RoomEventRequest;
+import com.signaling.domain.event.entity.RoomEvent;
+import com.signaling.domain.event.service.RoomEventIngestService;
+import com.signaling.domain.event.service.RoomEventService;
+import com.signaling.global.config.EventWalProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+
+/**
+ * WAL에 쌓인 이벤트를 배치 단위로 room_events에 반영한다. 커밋이 끝난 위치까지만 세그먼트를 지우므로,
+ * 반영 도중 종료되면 재시작 후 같은 배치를 다시 넣고 eventId 중복 검사로 걸러진다.
+ * DB에 닿지 않는 오류는 계속 재시도하고, 그 밖의 오류로 maxFlushAttempts번 실패한 배치는 한 건씩 다시 넣어
+ * 그래도 실패하는 이벤트만 dead letter 파일로 보낸 뒤 다음 배치로 넘어간다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "event-wal", name = "enabled", havingValue = "true")
+public class EventWalFlusher {
+
+    private static final Logger log = LoggerFactory.getLogger(EventWalFlusher.class);
+
+    private final EventWriteAheadLog writeAheadLog;
+    private final RoomEventService roomEventService;
+    private final RoomEventIngestService roomEventIngestService;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Path deadLetterFile;
+    private final Counter deadLettered;
+    private EventWriteAheadLog.Position position;
+    private int failedAttempts;
+
+    public EventWalFlusher(EventWriteAheadLog writeAheadLog, RoomEventService roomEventService,
+            RoomEventIngestService roomEventIngestService, ObjectMapper objectMapper,
+            EventWalProperties properties, MeterRegistry meterRegistry) {
+        this.writeAheadLog = writeAheadLog;
+        this.roomEventService = roomEventService;
+        this.roomEventIngestService = roomEventIngestService;
+        this.objectMapper = objectMapper;
+        this.batchSize = properties.getFlushBatchSize();
+        this.maxAttempts = Math.max(1, properties.getMaxFlushAttempts());
+        this.deadLetterFile = Path.of(properties.getDeadLetterFile());
+        this.deadLettered = Counter.builder("room_events.wal.dead_lettered")
+                .description("WAL records moved to the dead letter file")
+                .register(meterRegistry);
+        this.position = writeAheadLog.oldestPosition();
+    }
+
+    @Scheduled(fixedDelayString = "${event-wal.flush-interval-ms:200}")
+    public synchronized void flush() {
+        while (true) {
+            EventWriteAheadLog.Batch batch = writeAheadLog.read(position, batchSize);
+            List<PendingEvent> decoded = decode(batch.getRecords());
+            List<PendingEvent> readable = decoded.stream().filter(event -> event.event != null).toList();
+            if (!readable.isEmpty() && !save(readable)) {
+                return;
+            }
+            // dead letter는 위치를 넘기기 직전에만 남겨, 같은 배치를 다시 읽을 때 두 번 기록되지 않게 한다.
+            for (PendingEvent event : decoded) {
+                if (event.event == null) {
+                    deadLetter(event.record, event.error);
+                }
+            }
+            position = batch.getNext();
+            writeAheadLog.release(position);
+            if (batch.getRecords().size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 배치를 반영했거나 실패한 이벤트를 dead letter로 보냈으면 true, 같은 위치에서 다시 시도해야 하면 false.
+     */
+    private boolean save(List<PendingEvent> pending) {
+        try {
+            roomEventService.saveAllIfNotExists(pending.stream().map(event -> event.event).toList());
+            failedAttempts = 0;
+            return true;
+        } catch (RuntimeException ex) {
+            if (isUnavailable(ex)) {
+                log.warn("WAL flush failed, will retry: {}", ex.getMessage());
+                return false;
+            }
+            if (++failedAttempts < maxAttempts) {
+                log.warn("WAL flush failed ({}/{}), will retry: {}", failedAttempts, maxAttempts, ex.getMessage());
+                return false;
+            }
+        }
+
+        // 배치 안의 한 건 때문에 로그 전체가 막히지 않도록, 한 건씩 넣어 실패하는 것만 떼어 낸다.
+        List<PendingEvent> failed = new ArrayList<>();
+        for (PendingEvent event : pending) {
+            try {
+                roomEventService.saveAllIfNotExists(List.of(event.event));
+            } catch (RuntimeException ex) {
+                if (isUnavailable(ex)) {
+                    log.warn("WAL flush failed, will retry: {}", ex.getMessage());
+                    return false;
+                }
+                failed.add(new PendingEvent(event.record, null, ex));
+            }
+        }
+        for (PendingEvent event : failed) {
+            deadLetter(event.record, event.error);
+        }
+        failedAttempts = 0;
+        return true;
+    }
+
+    private List<PendingEvent> decode(List<byte[]> records) {
+        List<PendingEvent> events = new ArrayList<>(records.size());
+        for (byte[] record : records) {
+            try {
+                RoomEventRequest request = objectMapper.readValue(record, RoomEventRequest.class);
+                events.add(new PendingEvent(record, roomEventIngestService.toEntity(request), null));
+            } catch (IOException | RuntimeException ex) {
+                events.add(new PendingEvent(record, null, ex));
+            }
+        }
+        return events;
+    }
+
+    // 커넥션이나 트랜잭션을 얻지 못한 경우는 이벤트 탓이 아니므로 시도 횟수에 넣지 않는다.
+    private boolean isUnavailable(RuntimeException ex) {
+        return ex instanceof TransientDataAccessException
+                || ex instanceof RecoverableDataAccessException
+                || ex instanceof DataAccessResourceFailureException
+                || ex instanceof TransactionException;
+    }
+
+    private void deadLetter(byte[] record, Exception cause) {
+        ObjectNode line = objectMapper.createObjectNode();
+        line.put("failedAt", Instant.now().toString());
+        line.put("error", String.valueOf(cause.getMessage()));
+        line.put("record", new String(record, StandardCharsets.UTF_8));
+        try {
+            Path parent = deadLetterFile.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            byte[] bytes = (objectMapper.writeValueAsString(line) + "\n").getBytes(StandardCharsets.UTF_8);
+            Files.write(deadLetterFile, bytes, StandardOpenOption.CREATE, StandardOpenOption.APPEND,
+                    StandardOpenOption.SYNC);
+        } catch (IOException ex) {
+            // dead letter를 남기지 못하면 레코드를 버리지 않고 같은 위치에서 다시 시도한다.
+            throw new UncheckedIOException("Failed to write WAL dead letter " + deadLetterFile, ex);
+        }
+        deadLettered.increment();
+        log.error("Moved WAL record to dead letter file {}: {}", deadLetterFile, cause.getMessage());
+    }
+
+    private static final class PendingEvent {
+        private final byte[] record;
+        // 읽을 수 없는 레코드면 null이고 error에 원인이 담긴다.
+        private final RoomEvent event;
+        private final Exception error;
+
+        private PendingEvent(byte[] record, RoomEvent event, Exception error) {
+            this.record = record;
+            this.event = event;
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.signaling.domain.event.wal;
+
+import com.signaling.global.config.EventWalProperties;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이벤트 비동기 수집용 로컬 WAL. append는 fsync까지 끝난 뒤에 반환하며, 동시에 들어온 append는 한 번의 force로 묶인다.
+ * 재시작 시 남아 있는 세그먼트는 그대로 다시 읽힌다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "event-wal", name = "enabled", havingValue = "true")
+public class EventWriteAheadLog {
+
+    private final Path directory;
+    private final int segmentSize;
+    private final ConcurrentSkipListMap<Long, WalSegment> segments = new ConcurrentSkipListMap<>();
+
+    private final Object appendLock = new Object();
+    private final Set<WalSegment> dirty = new LinkedHashSet<>();
+    private WalSegment current;
+    private long appendedCount;
+
+    private final Object syncLock = new Object();
+    private long durableCount;
+    private volatile Position durablePosition;
+
+    public EventWriteAheadLog(EventWalProperties properties) {
+        this.directory = Path.of(properties.getDirectory());
+        this.segmentSize = properties.getSegmentSizeBytes();
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to create WAL directory " + directory, ex);
+        }
+        recover();
+        long nextId = segments.isEmpty() ? 1 : segments.lastKey() + 1;
+        this.current = WalSegment.create(directory, nextId, segmentSize);
+        segments.put(nextId, current);
+        this.durablePosition = new Position(nextId, 0);
+    }
+
+    public void append(List<byte[]> records) {
+        for (byte[] record : records) {
+            if (WalSegment.HEADER_BYTES + record.length > segmentSize) {
+                throw new IllegalArgumentException("Event is larger than a WAL segment");
+            }
+        }
+        long target;
+        synchronized (appendLock) {
+            for (byte[] record : records) {
+                if (!current.hasRoom(record.length)) {
+                    roll();
+                }
+                current.append(record);
+                dirty.add(current);
+            }
+            appendedCount += records.size();
+            target = appendedCount;
+        }
+        sync(target);
+    }
+
+    public Batch read(Position from, int maxRecords) {
+        Position durable = durablePosition;
+        List<byte[]> records = new ArrayList<>();
+        long segmentId = from.getSegmentId();
+        int offset = from.getOffset();
+        while (records.size() < maxRecords) {
+            Map.Entry<Long, WalSegment> entry = segments.ceilingEntry(segmentId);
+            if (entry == null || entry.getKey() > durable.getSegmentId()) {
+                break;
+            }
+            if (entry.getKey() != segmentId) {
+                segmentId = entry.getKey();
+                offset = 0;
+            }
+            WalSegment segment = entry.getValue();
+            boolean active = segmentId == durable.getSegmentId();
+            int limit = active ? durable.getOffset() : segment.getEnd();
+            while (offset < limit && records.size() < maxRecords) {
+                byte[] record = segment.read(offset);
+                if (record == null) {
+                    offset = limit;
+                    break;
+                }
+                records.add(record);
+                offset += WalSegment.HEADER_BYTES + record.length;
+            }
+            if (offset < limit || active) {
+                break;
+            }
+            segmentId++;
+            offset = 0;
+        }
+        return new Batch(records, new Position(segmentId, offset));
+    }
+
+    /**
+     * upTo 이전 세그먼트는 DB에 모두 반영되었으므로 파일을 지운다.
+     */
+    public void release(Position upTo) {
+        for (Long id : new ArrayList<>(segments.headMap(upTo.getSegmentId()).keySet())) {
+            WalSegment segment = segments.remove(id);
+            if (segment != null) {
+                segment.delete();
+            }
+        }
+    }
+
+    public Position oldestPosition() {
+        return new Position(segments.firstKey(), 0);
+    }
+
+    @PreDestroy
+    public void close() {
+        synchronized (syncLock) {
+            synchronized (appendLock) {
+                for (WalSegment segment : dirty) {
+                    segment.force();
+                }
+                dirty.clear();
+                for (WalSegment segment : segments.values()) {
+                    segment.close();
+                }
+            }
+        }
+    }
+
+    private void sync(long target) {
+        synchronized (syncLock) {
+            if (durableCount >= target) {
+                return;
+            }
+            List<WalSegment> toForce;
+            long count;
+            Position position;
+            synchronized (appendLock) {
+                toForce = new ArrayList<>(dirty);
+                dirty.clear();
+                count = appendedCount;
+                position = new Position(current.getId(), current.getEnd());
+            }
+            try {
+                for (WalSegment segment : toForce) {
+                    segment.force();
+                }
+            } catch (RuntimeException ex) {
+                synchronized (appendLock) {
+                    dirty.addAll(toForce);
+                }
+                throw ex;
+            }
+            durableCount = count;
+            durablePosition = position;
+        }
+    }
+
+    private void roll() {
+        long nextId = current.getId() + 1;
+        current = WalSegment.create(directory, nextId, segmentSize);
+        segments.put(nextId, current);
+    }
+
+    private void recover() {
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(path -> {
+                Long id = WalSegment.parseId(path);
+                if (id != null) {
+                    segments.put(id, WalSegment.recover(path, id));
+                }
+            });
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to list WAL directory " + directory, ex);
+        }
+    }
+
+    public static final class Position {
+        private final long segmentId;
+        private final int offset;
+
+        public Position(long segmentId, int offset) {
+            this.segmentId = segmentId;
+            this.offset = offset;
+        }
+
+        public long getSegmentId() {
+            return segmentId;
+        }
+
+        public int getOffset() {
+            return offset;
+        }
+    }
+
+    public static final class Batch {
+        private final List<byte[]> records;
+        private final Position next;
+
+        public Batch(List<byte[]> records, Position next) {
+            this.records = records;
+            this.next = next;
+        }
+
+        public List<byte[]> getRecords() {
+            return records;
+        }
+
+        public Position getNext() {
+            return next;
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.signaling.domain.event.wal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.CRC32C;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 고정 크기로 미리 매핑한 WAL 세그먼트 파일. 레코드는 [length][crc32c][bytes] 형식이며 length 0이 끝을 뜻한다.
+ * 닫을 때 매핑을 직접 해제하므로, 해제 후 접근하지 않도록 읽기/쓰기는 읽기 잠금, 해제는 쓰기 잠금 아래에서 한다.
+ */
+final class WalSegment {
+
+    private static final Logger log = LoggerFactory.getLogger(WalSegment.class);
+
+    static final int HEADER_BYTES = 8;
+
+    // MappedByteBuffer는 GC 전까지 매핑과 파일 핸들을 붙잡으므로 Unsafe.invokeCleaner로 바로 해제한다.
+    private static final MethodHandle INVOKE_CLEANER = findCleaner();
+
+    private final long id;
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private boolean closed;
+    private volatile int end;
+
+    private WalSegment(long id, Path path, FileChannel channel, MappedByteBuffer buffer) {
+        this.id = id;
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+    }
+
+    static WalSegment create(Path directory, long id, int size) {
+        Path path = directory.resolve(fileName(id));
+        try {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            return new WalSegment(id, path, channel, buffer);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to create WAL segment " + path, ex);
+        }
+    }
+
+    static WalSegment recover(Path path, long id) {
+        try {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+            WalSegment segment = new WalSegment(id, path, channel, buffer);
+            int offset = 0;
+            byte[] record;
+            while ((record = segment.read(offset)) != null) {
+                offset += HEADER_BYTES + record.length;
+            }
+            segment.end = offset;
+            return segment;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to recover WAL segment " + path, ex);
+        }
+    }
+
+    static String fileName(long id) {
+        return String.format("%020d.wal", id);
+    }
+
+    static Long parseId(Path path) {
+        String name = path.getFileName().toString();
+        if (!name.endsWith(".wal")) {
+            return null;
+        }
+        try {
+            return Long.parseLong(name.substring(0, name.length() - 4));
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+
+    long getId() {
+        return id;
+    }
+
+    int getEnd() {
+        return end;
+    }
+
+    boolean hasRoom(int length) {
+        return (long) end + HEADER_BYTES + length <= buffer.capacity();
+    }
+
+    void append(byte[] record) {
+        lock.readLock().lock();
+        try {
+            ensureOpen();
+            int offset = end;
+            buffer.putInt(offset, record.length);
+            buffer.putInt(offset + 4, checksum(record));
+            buffer.put(offset + HEADER_BYTES, record);
+            end = offset + HEADER_BYTES + record.length;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * offset 위치의 레코드를 읽는다. 끝이거나 손상된(부분 기록된) 레코드면 null을 돌려준다.
+     */
+    byte[] read(int offset) {
+        lock.readLock().lock();
+        try {
+            ensureOpen();
+            if (offset + HEADER_BYTES > buffer.capacity()) {
+                return null;
+            }
+            int length = buffer.getInt(offset);
+            if (length <= 0 || (long) offset + HEADER_BYTES + length > buffer.capacity()) {
+                return null;
+            }
+            byte[] record = new byte[length];
+            buffer.get(offset + HEADER_BYTES, record);
+            if (checksum(record) != buffer.getInt(offset + 4)) {
+                return null;
+            }
+            return record;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    void force() {
+        lock.readLock().lock();
+        try {
+            ensureOpen();
+            buffer.force();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    void close() {
+        lock.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            unmap(buffer);
+            channel.close();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to close WAL segment " + path, ex);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void delete() {
+        close();
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to delete WAL segment " + path, ex);
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("WAL segment " + id + " is closed");
+        }
+    }
+
+    private static void unmap(MappedByteBuffer buffer) {
+        if (INVOKE_CLEANER == null) {
+            return;
+        }
+        try {
+            INVOKE_CLEANER.invokeExact((ByteBuffer) buffer);
+        } catch (Throwable ex) {
+            log.warn("Failed to unmap WAL segment, it is released on GC instead: {}", ex.getMessage());
+        }
+    }
+
+    private static MethodHandle findCleaner() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            Object unsafe = field.get(null);
+            return MethodHandles.lookup()
+                    .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                    .bindTo(unsafe);
+        } catch (ReflectiveOperationException | RuntimeException ex) {
+            log.warn("Unsafe.invokeCleaner is not available, WAL segments are unmapped on GC: {}", ex.getMessage());
+            return null;
+        }
+    }
+
+    private static int checksum(byte[] record) {
+        CRC32C crc = new CRC32C();
+        crc.update(record);
+        return (int) crc.getValue();
+    }
+}
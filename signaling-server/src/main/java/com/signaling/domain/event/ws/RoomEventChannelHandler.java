@@ -0,0 +1,264 @@
+package com.signaling.domain.event.ws;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.signaling.domain.event.dto.RoomEventBatchItemResponse;
+import com.signaling.domain.event.dto.RoomEventChannelAck;
+import com.signaling.domain.event.dto.RoomEventChannelFrame;
+import com.signaling.domain.event.dto.RoomEventIngestStatus;
+import com.signaling.domain.event.dto.RoomEventRequest;
+import com.signaling.domain.event.service.RoomEventIngestService;
+import com.signaling.global.config.EventChannelProperties;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+/**
+ * SFU 전용 이벤트 수집 채널. 클라이언트는 연결마다 1부터 증가하는 seq를 붙여 이벤트를 보내고,
+ * 서버는 마이크로 배치를 저장할 때마다 누적 ack(seq 이하 모두 처리됨)와 credit(ack 이후로 보낼 수 있는 이벤트 수)을 알려준다.
+ * 저장이 느려지면 윈도를 절반으로 줄이고(AIMD) 빨라지면 조금씩 늘려, SFU가 타임아웃 대신 전송 속도를 낮추게 한다.
+ * 세션마다 저장은 한 번에 하나만 돌고, DB를 기다리는 동안에는 세션 상태 잠금을 잡지 않는다.
+ */
+@Component
+public class RoomEventChannelHandler extends TextWebSocketHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(RoomEventChannelHandler.class);
+    private static final String STATE_ATTRIBUTE = RoomEventChannelHandler.class.getName();
+    private static final int SEND_TIME_LIMIT_MS = 10_000;
+    private static final int SEND_BUFFER_LIMIT_BYTES = 512 * 1024;
+    private static final long RETRY_DELAY_MS = 1000;
+
+    private final RoomEventIngestService roomEventIngestService;
+    private final ObjectMapper objectMapper;
+    private final EventChannelProperties properties;
+    private final ScheduledExecutorService scheduler;
+
+    public RoomEventChannelHandler(RoomEventIngestService roomEventIngestService, ObjectMapper objectMapper,
+            EventChannelProperties properties) {
+        this.roomEventIngestService = roomEventIngestService;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.scheduler = Executors.newScheduledThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable, "room-event-channel");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        WebSocketSession concurrent = new ConcurrentWebSocketSessionDecorator(session, SEND_TIME_LIMIT_MS,
+                SEND_BUFFER_LIMIT_BYTES);
+        ChannelState state = new ChannelState(concurrent, properties.getMaxWindow());
+        session.getAttributes().put(STATE_ATTRIBUTE, state);
+        String ack;
+        synchronized (state) {
+            ack = ackBody(state, List.of());
+        }
+        send(state, ack);
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
+        ChannelState state = (ChannelState) session.getAttributes().get(STATE_ATTRIBUTE);
+        RoomEventChannelFrame frame;
+        try {
+            frame = objectMapper.readValue(message.getPayload(), RoomEventChannelFrame.class);
+        } catch (JsonProcessingException ex) {
+            session.close(CloseStatus.BAD_DATA.withReason("Malformed frame"));
+            return;
+        }
+        List<RoomEventRequest> events = frame.getEvents() == null ? List.of() : frame.getEvents();
+        synchronized (state) {
+            if (frame.getSeq() != state.nextSeq) {
+                session.close(CloseStatus.POLICY_VIOLATION.withReason("Expected seq " + state.nextSeq));
+                return;
+            }
+            long lastSeq = frame.getSeq() + events.size() - 1;
+            if (lastSeq > state.sendLimit) {
+                session.close(CloseStatus.POLICY_VIOLATION.withReason("Credit exceeded"));
+                return;
+            }
+            state.pending.addAll(events);
+            state.nextSeq += events.size();
+        }
+        flush(state, false);
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        ChannelState state = (ChannelState) session.getAttributes().remove(STATE_ATTRIBUTE);
+        if (state == null) {
+            return;
+        }
+        synchronized (state) {
+            state.closed = true;
+            state.pending.clear();
+            if (state.scheduledFlush != null) {
+                state.scheduledFlush.cancel(false);
+                state.scheduledFlush = null;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private void scheduledFlush(ChannelState state) {
+        synchronized (state) {
+            state.scheduledFlush = null;
+        }
+        flush(state, true);
+    }
+
+    /**
+     * pending을 저장하고 ack를 보낸다. force가 아니면 batchSize만큼 모였을 때만 저장하고, 덜 모였으면 linger 뒤로 미룬다.
+     * 다른 스레드가 이미 저장 중이면 그 스레드가 끝난 뒤 남은 pending을 이어서 처리한다.
+     */
+    private void flush(ChannelState state, boolean force) {
+        while (true) {
+            List<RoomEventRequest> batch;
+            long firstSeq;
+            synchronized (state) {
+                if (state.flushing || state.closed || state.pending.isEmpty()) {
+                    return;
+                }
+                if (!force && state.pending.size() < properties.getBatchSize()) {
+                    scheduleLinger(state);
+                    return;
+                }
+                state.flushing = true;
+                batch = new ArrayList<>(state.pending);
+                state.pending.clear();
+                firstSeq = state.ackedSeq + 1;
+            }
+
+            long started = System.nanoTime();
+            List<RoomEventBatchItemResponse> items = null;
+            RuntimeException failure = null;
+            try {
+                items = roomEventIngestService.ingest(null, batch, 0);
+            } catch (RuntimeException ex) {
+                failure = ex;
+            }
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+            String ack;
+            synchronized (state) {
+                ack = failure == null
+                        ? completed(state, batch, firstSeq, items, elapsedMs)
+                        : failed(state, batch, failure);
+            }
+            // ack 순서가 뒤바뀌지 않도록 flushing을 풀기 전에 보낸다.
+            if (ack != null) {
+                send(state, ack);
+            }
+            synchronized (state) {
+                state.flushing = false;
+            }
+            if (failure != null) {
+                // 재시도는 예약해 둔 scheduledFlush가 맡는다.
+                return;
+            }
+            force = false;
+        }
+    }
+
+    private String completed(ChannelState state, List<RoomEventRequest> batch, long firstSeq,
+            List<RoomEventBatchItemResponse> items, long elapsedMs) {
+        if (elapsedMs > properties.getSlowFlushMs()) {
+            state.window = Math.max(properties.getMinWindow(), state.window / 2);
+        } else {
+            state.window = Math.min(properties.getMaxWindow(), state.window + properties.getMinWindow());
+        }
+
+        List<RoomEventBatchItemResponse> rejected = new ArrayList<>();
+        for (RoomEventBatchItemResponse item : items) {
+            if (item.getStatus() == RoomEventIngestStatus.INVALID) {
+                item.setIndex((int) (firstSeq + item.getIndex()));
+                rejected.add(item);
+            }
+        }
+        state.ackedSeq += batch.size();
+        return state.closed ? null : ackBody(state, rejected);
+    }
+
+    // 실패한 배치는 저장 중에 들어온 이벤트보다 앞으로 되돌리고, 윈도를 줄인 뒤 잠시 후 다시 시도한다.
+    private String failed(ChannelState state, List<RoomEventRequest> batch, RuntimeException ex) {
+        log.warn("Event channel flush failed, shrinking window: {}", ex.getMessage());
+        if (state.closed) {
+            return null;
+        }
+        state.pending.addAll(0, batch);
+        state.window = Math.max(properties.getMinWindow(), state.window / 2);
+        if (state.scheduledFlush != null) {
+            state.scheduledFlush.cancel(false);
+        }
+        state.scheduledFlush = scheduler.schedule(() -> scheduledFlush(state), RETRY_DELAY_MS,
+                TimeUnit.MILLISECONDS);
+        return ackBody(state, List.of());
+    }
+
+    private void scheduleLinger(ChannelState state) {
+        if (state.scheduledFlush == null) {
+            state.scheduledFlush = scheduler.schedule(() -> scheduledFlush(state), properties.getLingerMs(),
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private String ackBody(ChannelState state, List<RoomEventBatchItemResponse> rejected) {
+        // 이미 허용한 범위는 윈도가 줄어도 회수하지 않는다. 축소는 이후 ack부터 반영된다.
+        state.sendLimit = Math.max(state.sendLimit, state.ackedSeq + state.window);
+        int credit = (int) (state.sendLimit - state.ackedSeq);
+        try {
+            return objectMapper.writeValueAsString(new RoomEventChannelAck(state.ackedSeq, credit, rejected));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize event channel ack", ex);
+        }
+    }
+
+    private void send(ChannelState state, String ack) {
+        try {
+            state.session.sendMessage(new TextMessage(ack));
+        } catch (IOException ex) {
+            log.warn("Failed to send event channel ack: {}", ex.getMessage());
+            try {
+                state.session.close(CloseStatus.SESSION_NOT_RELIABLE);
+            } catch (IOException ignored) {
+                // already broken
+            }
+        }
+    }
+
+    private static final class ChannelState {
+        private final WebSocketSession session;
+        private final List<RoomEventRequest> pending = new ArrayList<>();
+        private long nextSeq = 1;
+        private long ackedSeq;
+        private int window;
+        private long sendLimit;
+        private ScheduledFuture<?> scheduledFlush;
+        private boolean flushing;
+        private boolean closed;
+
+        private ChannelState(WebSocketSession session, int window) {
+            this.session = session;
+            this.window = window;
+        }
+    }
+}
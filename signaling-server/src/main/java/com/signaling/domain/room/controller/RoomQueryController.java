@@ -1,12 +1,23 @@
 package com.signaling.domain.room.controller;
 
+import com.signaling.domain.room.dto.RoomDirectoryDeltaResponse;
 import com.signaling.domain.room.dto.RoomListResponse;
+import com.signaling.domain.room.dto.RoomPageResponse;
+import com.signaling.domain.room.dto.RoomStatsResponse;
 import com.signaling.domain.room.service.RoomQueryService;
+import java.time.Instant;
 import java.util.List;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
 
 @RestController
 @RequestMapping("/api/rooms")
@@ -19,7 +30,98 @@ public class RoomQueryController {
     }
 
     @GetMapping
-    public ResponseEntity<List<RoomListResponse>> listRooms() {
-        return ResponseEntity.ok(roomQueryService.listActiveRooms());
+    public ResponseEntity<List<RoomListResponse>> listRooms(WebRequest webRequest) {
+        String etag = roomQueryService.directoryETag();
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(roomQueryService.listActiveRooms());
+    }
+
+    /**
+     * 로비 폴링용. 응답의 version을 다음 sinceVersion으로 넘기면 그 사이 추가/제거된 방만 받는다.
+     */
+    @GetMapping(params = "sinceVersion")
+    public ResponseEntity<RoomDirectoryDeltaResponse> listRoomChanges(@RequestParam long sinceVersion,
+            WebRequest webRequest) {
+        String etag = roomQueryService.deltaETag();
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        RoomDirectoryDeltaResponse response = roomQueryService.changesSince(sinceVersion);
+        return ResponseEntity.ok()
+                .eTag(roomQueryService.deltaETag(response.getVersion()))
+                .cacheControl(CacheControl.noCache())
+                .body(response);
+    }
+
+    /**
+     * limit을 주면 최신순 키셋 페이지로 응답한다. limit이 없는 기존 호출은 전체 배열을 그대로 받는다.
+     */
+    @GetMapping(params = {"limit", "!sinceVersion"})
+    public ResponseEntity<RoomPageResponse> listRoomPage(
+            @RequestParam Integer limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String hostId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant createdTo,
+            @RequestParam(required = false) Integer minParticipants) {
+        int safeLimit = clamp(limit, 1, 200, 50);
+        Cursor parsedCursor = parseCursor(cursor);
+        return ResponseEntity.ok(roomQueryService.listActiveRooms(
+                hostId,
+                createdFrom,
+                createdTo,
+                minParticipants,
+                parsedCursor != null ? parsedCursor.createdAt : null,
+                parsedCursor != null ? parsedCursor.roomId : null,
+                safeLimit
+        ));
+    }
+
+    @GetMapping("/{roomId}/stats")
+    public ResponseEntity<RoomStatsResponse> getStats(@PathVariable String roomId) {
+        return ResponseEntity.ok(roomQueryService.getStats(roomId));
+    }
+
+    private int clamp(Integer value, int min, int max, int defaultValue) {
+        if (value == null) {
+            return defaultValue;
+        }
+        if (value < min) {
+            return min;
+        }
+        return Math.min(value, max);
+    }
+
+    private Cursor parseCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String[] parts = cursor.split(":", 2);
+        if (parts.length != 2 || parts[1].isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor format");
+        }
+        try {
+            long micros = Long.parseLong(parts[0]);
+            Instant createdAt = Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                    Math.floorMod(micros, 1_000_000L) * 1_000L);
+            return new Cursor(createdAt, parts[1]);
+        } catch (NumberFormatException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor format");
+        }
+    }
+
+    private static class Cursor {
+        private final Instant createdAt;
+        private final String roomId;
+
+        private Cursor(Instant createdAt, String roomId) {
+            this.createdAt = createdAt;
+            this.roomId = roomId;
+        }
     }
 }
@@ -0,0 +1,32 @@
+package com.signaling.domain.room.controller;
+
+import com.signaling.domain.room.dto.RoomRegistryConsistencyResponse;
+import com.signaling.domain.room.service.ActiveRoomRegistry;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * GET /actuator/roomregistry 는 비교만, POST 는 차이가 있으면 DB 기준으로 다시 적재한다.
+ */
+@Component
+@Endpoint(id = "roomregistry")
+public class RoomRegistryEndpoint {
+
+    private final ActiveRoomRegistry activeRoomRegistry;
+
+    public RoomRegistryEndpoint(ActiveRoomRegistry activeRoomRegistry) {
+        this.activeRoomRegistry = activeRoomRegistry;
+    }
+
+    @ReadOperation
+    public RoomRegistryConsistencyResponse check() {
+        return activeRoomRegistry.checkConsistency(false);
+    }
+
+    @WriteOperation
+    public RoomRegistryConsistencyResponse repair() {
+        return activeRoomRegistry.checkConsistency(true);
+    }
+}
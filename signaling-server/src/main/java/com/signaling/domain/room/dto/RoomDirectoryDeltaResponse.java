@@ -0,0 +1,43 @@
+package com.signaling.domain.room.dto;
+
+import java.util.List;
+
+public class RoomDirectoryDeltaResponse {
+
+    private long version;
+    private boolean full;
+    private List<RoomListResponse> rooms;
+    private List<String> removed;
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public boolean isFull() {
+        return full;
+    }
+
+    public void setFull(boolean full) {
+        this.full = full;
+    }
+
+    public List<RoomListResponse> getRooms() {
+        return rooms;
+    }
+
+    public void setRooms(List<RoomListResponse> rooms) {
+        this.rooms = rooms;
+    }
+
+    public List<String> getRemoved() {
+        return removed;
+    }
+
+    public void setRemoved(List<String> removed) {
+        this.removed = removed;
+    }
+}
@@ -7,6 +7,9 @@ public class RoomListResponse {
     private String roomId;
     private String hostId;
     private Instant createdAt;
+    private long participants;
+    private long producers;
+    private long peakParticipants;
 
     public RoomListResponse() {
     }
@@ -17,6 +20,13 @@ public class RoomListResponse {
         this.createdAt = createdAt;
     }
 
+    public RoomListResponse(String roomId, String hostId, Instant createdAt, RoomStatsResponse stats) {
+        this(roomId, hostId, createdAt);
+        this.participants = stats.getParticipants();
+        this.producers = stats.getProducers();
+        this.peakParticipants = stats.getPeakParticipants();
+    }
+
     public String getRoomId() {
         return roomId;
     }
@@ -40,4 +50,28 @@ public class RoomListResponse {
     public void setCreatedAt(Instant createdAt) {
         this.createdAt = createdAt;
     }
+
+    public long getParticipants() {
+        return participants;
+    }
+
+    public void setParticipants(long participants) {
+        this.participants = participants;
+    }
+
+    public long getProducers() {
+        return producers;
+    }
+
+    public void setProducers(long producers) {
+        this.producers = producers;
+    }
+
+    public long getPeakParticipants() {
+        return peakParticipants;
+    }
+
+    public void setPeakParticipants(long peakParticipants) {
+        this.peakParticipants = peakParticipants;
+    }
 }
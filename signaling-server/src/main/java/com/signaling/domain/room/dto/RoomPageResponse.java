@@ -0,0 +1,34 @@
+package com.signaling.domain.room.dto;
+
+import java.util.List;
+
+public class RoomPageResponse {
+
+    private List<RoomListResponse> items;
+    private String nextCursor;
+    private boolean hasNext;
+
+    public List<RoomListResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<RoomListResponse> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+}
@@ -0,0 +1,85 @@
+package com.signaling.domain.room.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+public class RoomRegistryConsistencyResponse {
+
+    private Instant checkedAt;
+    private int registrySize;
+    private int databaseSize;
+    private List<String> missingFromRegistry;
+    private List<String> staleInRegistry;
+    private boolean consistent;
+    private boolean repaired;
+
+    public RoomRegistryConsistencyResponse() {
+    }
+
+    public RoomRegistryConsistencyResponse(Instant checkedAt, int registrySize, int databaseSize,
+            List<String> missingFromRegistry, List<String> staleInRegistry, boolean consistent, boolean repaired) {
+        this.checkedAt = checkedAt;
+        this.registrySize = registrySize;
+        this.databaseSize = databaseSize;
+        this.missingFromRegistry = missingFromRegistry;
+        this.staleInRegistry = staleInRegistry;
+        this.consistent = consistent;
+        this.repaired = repaired;
+    }
+
+    public Instant getCheckedAt() {
+        return checkedAt;
+    }
+
+    public void setCheckedAt(Instant checkedAt) {
+        this.checkedAt = checkedAt;
+    }
+
+    public int getRegistrySize() {
+        return registrySize;
+    }
+
+    public void setRegistrySize(int registrySize) {
+        this.registrySize = registrySize;
+    }
+
+    public int getDatabaseSize() {
+        return databaseSize;
+    }
+
+    public void setDatabaseSize(int databaseSize) {
+        this.databaseSize = databaseSize;
+    }
+
+    public List<String> getMissingFromRegistry() {
+        return missingFromRegistry;
+    }
+
+    public void setMissingFromRegistry(List<String> missingFromRegistry) {
+        this.missingFromRegistry = missingFromRegistry;
+    }
+
+    public List<String> getStaleInRegistry() {
+        return staleInRegistry;
+    }
+
+    public void setStaleInRegistry(List<String> staleInRegistry) {
+        this.staleInRegistry = staleInRegistry;
+    }
+
+    public boolean isConsistent() {
+        return consistent;
+    }
+
+    public void setConsistent(boolean consistent) {
+        this.consistent = consistent;
+    }
+
+    public boolean isRepaired() {
+        return repaired;
+    }
+
+    public void setRepaired(boolean repaired) {
+        this.repaired = repaired;
+    }
+}
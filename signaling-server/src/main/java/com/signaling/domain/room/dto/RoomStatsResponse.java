@@ -0,0 +1,51 @@
+package com.signaling.domain.room.dto;
+
+public class RoomStatsResponse {
+
+    private String roomId;
+    private long participants;
+    private long producers;
+    private long peakParticipants;
+
+    public RoomStatsResponse() {
+    }
+
+    public RoomStatsResponse(String roomId, long participants, long producers, long peakParticipants) {
+        this.roomId = roomId;
+        this.participants = participants;
+        this.producers = producers;
+        this.peakParticipants = peakParticipants;
+    }
+
+    public String getRoomId() {
+        return roomId;
+    }
+
+    public void setRoomId(String roomId) {
+        this.roomId = roomId;
+    }
+
+    public long getParticipants() {
+        return participants;
+    }
+
+    public void setParticipants(long participants) {
+        this.participants = participants;
+    }
+
+    public long getProducers() {
+        return producers;
+    }
+
+    public void setProducers(long producers) {
+        this.producers = producers;
+    }
+
+    public long getPeakParticipants() {
+        return peakParticipants;
+    }
+
+    public void setPeakParticipants(long peakParticipants) {
+        this.peakParticipants = peakParticipants;
+    }
+}
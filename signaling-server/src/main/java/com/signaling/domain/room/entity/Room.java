@@ -0,0 +1,67 @@
+package com.signaling.domain.room.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.Instant;
+
+/**
+ * room_events의 ROOM_CREATED/ROOM_CLOSED로부터 유지되는 방 상태 프로젝션.
+ * 쓰기는 RoomRepositoryImpl의 upsert로만 하며, ROOM_CLOSED가 먼저 도착해도 CLOSED는 되돌리지 않는다.
+ */
+@Entity
+@Table(name = "rooms", indexes = @Index(name = "idx_rooms_state_created", columnList = "state, created_at"))
+public class Room {
+
+    @Id
+    @Column(name = "room_id", length = 100)
+    private String roomId;
+
+    @Column(name = "host_id", length = 100)
+    private String hostId;
+
+    @Column(name = "created_at")
+    private Instant createdAt;
+
+    @Column(name = "closed_at")
+    private Instant closedAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "state", nullable = false, length = 20)
+    private RoomState state;
+
+    protected Room() {
+    }
+
+    public Room(String roomId, String hostId, Instant createdAt, Instant closedAt, RoomState state) {
+        this.roomId = roomId;
+        this.hostId = hostId;
+        this.createdAt = createdAt;
+        this.closedAt = closedAt;
+        this.state = state;
+    }
+
+    public String getRoomId() {
+        return roomId;
+    }
+
+    public String getHostId() {
+        return hostId;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getClosedAt() {
+        return closedAt;
+    }
+
+    public RoomState getState() {
+        return state;
+    }
+}
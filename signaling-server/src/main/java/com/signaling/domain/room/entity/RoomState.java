@@ -0,0 +1,6 @@
+package com.signaling.domain.room.entity;
+
+public enum RoomState {
+    ACTIVE,
+    CLOSED
+}
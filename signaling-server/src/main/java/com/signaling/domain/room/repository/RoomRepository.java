@@ -0,0 +1,11 @@
+package com.signaling.domain.room.repository;
+
+import com.signaling.domain.room.entity.Room;
+import com.signaling.domain.room.entity.RoomState;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface RoomRepository extends JpaRepository<Room, String>, RoomRepositoryCustom {
+    List<Room> findAllByStateOrderByCreatedAtDesc(RoomState state);
+    boolean existsByRoomIdAndState(String roomId, RoomState state);
+}
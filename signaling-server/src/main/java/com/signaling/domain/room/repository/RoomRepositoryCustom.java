@@ -0,0 +1,13 @@
+package com.signaling.domain.room.repository;
+
+import com.signaling.domain.event.entity.RoomEvent;
+import com.signaling.domain.room.dto.RoomStatsResponse;
+import java.util.List;
+
+public interface RoomRepositoryCustom {
+    void applyCreated(List<RoomEvent> createdEvents);
+
+    void applyClosed(List<RoomEvent> closedEvents);
+
+    List<RoomStatsResponse> findActiveRoomOccupancy();
+}
@@ -0,0 +1,70 @@
+package com.signaling.domain.room.repository;
+
+import com.signaling.domain.event.entity.RoomEvent;
+import com.signaling.domain.room.dto.RoomStatsResponse;
+import com.signaling.global.persistence.JdbcTimestamps;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class RoomRepositoryImpl implements RoomRepositoryCustom {
+
+    // 첫 ROOM_CREATED의 host/시각을 유지하고, 상태는 건드리지 않아 먼저 들어온 CLOSED를 되살리지 않는다.
+    // 삽입하려던 값은 행 별칭(new)으로 읽는다. VALUES() 함수는 MySQL 8.0.20부터 deprecated다.
+    private static final String UPSERT_CREATED_SQL = "INSERT INTO rooms (room_id, host_id, created_at, state) "
+            + "VALUES (?, ?, ?, 'ACTIVE') AS new ON DUPLICATE KEY UPDATE "
+            + "host_id = COALESCE(rooms.host_id, new.host_id), created_at = COALESCE(rooms.created_at, new.created_at)";
+
+    private static final String UPSERT_CLOSED_SQL = "INSERT INTO rooms (room_id, closed_at, state) "
+            + "VALUES (?, ?, 'CLOSED') AS new ON DUPLICATE KEY UPDATE "
+            + "closed_at = COALESCE(rooms.closed_at, new.closed_at), state = 'CLOSED'";
+
+    // 활성 방의 이벤트는 방이 만들어진 뒤의 것만 읽는다. (room_id, occurred_at) 인덱스가 방마다 created_at부터 범위를
+    // 잡으므로, 방보다 오래된 구간의 행은 보지 않는다. 활성 방의 created_at은 ROOM_CREATED 업서트가 항상 채운다.
+    // 보존 기간이 방의 수명보다 짧으면 하한 아래 파티션이 지워져 초기 JOINED는 없고 이후 LEFT만 남으므로,
+    // 합계가 실제보다 작아진다. 음수는 0으로 자르기 때문에 드러나지 않으니, 보존 기간은 방의 최대 수명보다 길게 둔다.
+    private static final String ACTIVE_OCCUPANCY_SQL = "SELECT e.room_id, "
+            + "SUM(CASE e.event_type WHEN 'PARTICIPANT_JOINED' THEN 1 WHEN 'PARTICIPANT_LEFT' THEN -1 ELSE 0 END) "
+            + "AS participants, "
+            + "SUM(CASE e.event_type WHEN 'PRODUCER_CREATED' THEN 1 WHEN 'PRODUCER_CLOSED' THEN -1 ELSE 0 END) "
+            + "AS producers "
+            + "FROM rooms r JOIN room_events e ON e.room_id = r.room_id AND e.occurred_at >= r.created_at "
+            + "WHERE r.state = 'ACTIVE' AND e.event_type IN "
+            + "('PARTICIPANT_JOINED', 'PARTICIPANT_LEFT', 'PRODUCER_CREATED', 'PRODUCER_CLOSED') "
+            + "GROUP BY e.room_id";
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RoomRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void applyCreated(List<RoomEvent> createdEvents) {
+        jdbcTemplate.batchUpdate(UPSERT_CREATED_SQL, createdEvents, BATCH_SIZE, (ps, event) -> {
+            ps.setString(1, event.getRoomId());
+            ps.setString(2, event.getPayload().stringField("hostId"));
+            JdbcTimestamps.bind(ps, 3, event.getOccurredAt());
+        });
+    }
+
+    @Override
+    public void applyClosed(List<RoomEvent> closedEvents) {
+        jdbcTemplate.batchUpdate(UPSERT_CLOSED_SQL, closedEvents, BATCH_SIZE, (ps, event) -> {
+            ps.setString(1, event.getRoomId());
+            JdbcTimestamps.bind(ps, 2, event.getOccurredAt());
+        });
+    }
+
+    @Override
+    public List<RoomStatsResponse> findActiveRoomOccupancy() {
+        return jdbcTemplate.query(ACTIVE_OCCUPANCY_SQL, (rs, rowNum) -> {
+            long participants = rs.getLong("participants");
+            return new RoomStatsResponse(rs.getString("room_id"), participants, rs.getLong("producers"),
+                    Math.max(0, participants));
+        });
+    }
+}
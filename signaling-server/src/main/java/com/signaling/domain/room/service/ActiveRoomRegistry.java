@@ -0,0 +1,310 @@
+package com.signaling.domain.room.service;
+
+import com.signaling.domain.event.entity.RoomEvent;
+import com.signaling.domain.event.entity.RoomEventType;
+import com.signaling.domain.room.dto.RoomRegistryConsistencyResponse;
+import com.signaling.domain.room.entity.Room;
+import com.signaling.domain.room.entity.RoomState;
+import com.signaling.domain.room.repository.RoomRepository;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Predicate;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 활성 방 목록의 메모리 사본. 읽기는 불변 스냅샷 참조 하나로 끝나고(락 없음),
+ * 쓰기는 writeLock 안에서 새 스냅샷을 만들어 교체한다.
+ * 시작 시 rooms 프로젝션으로 채우고, 이후에는 커밋된 ROOM_CREATED/ROOM_CLOSED로 갱신한다.
+ * 채우는 일은 웹 서버가 요청을 받기 전(싱글턴 초기화 직후)에 끝내, 빈 목록이 유효한 version/ETag로 나가지 않게 한다.
+ * 방이 추가/제거될 때마다 version이 1씩 오르고, 최근 변경은 고정 크기 링에 남아 델타 조회에 쓰인다.
+ */
+@Component
+public class ActiveRoomRegistry implements SmartInitializingSingleton {
+
+    private static final int RECENTLY_CLOSED_LIMIT = 10_000;
+    private static final int CHANGE_LOG_CAPACITY = 4096;
+
+    static final Comparator<Room> NEWEST_FIRST = Comparator
+            .comparing(Room::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(Room::getRoomId);
+
+    private final RoomRepository roomRepository;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(Snapshot.of(Map.of(), 0, 0));
+    private final Object writeLock = new Object();
+    // 슬롯 version % capacity. 읽는 쪽은 슬롯의 version이 기대값과 다르면 덮어쓰인 것으로 보고 전체 스냅샷을 준다.
+    private final AtomicReferenceArray<Change> changeLog = new AtomicReferenceArray<>(CHANGE_LOG_CAPACITY);
+
+    // ROOM_CLOSED 뒤에 늦게 도착한 ROOM_CREATED가 방을 되살리지 않도록 최근 종료된 방을 기억한다. writeLock으로 보호.
+    private final Map<String, Boolean> recentlyClosed = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > RECENTLY_CLOSED_LIMIT;
+        }
+    };
+
+    public ActiveRoomRegistry(RoomRepository roomRepository) {
+        this.roomRepository = roomRepository;
+    }
+
+    public List<Room> activeRooms() {
+        return snapshot.get().sorted;
+    }
+
+    public Room find(String roomId) {
+        return snapshot.get().byId.get(roomId);
+    }
+
+    public long version() {
+        return snapshot.get().version;
+    }
+
+    /**
+     * sinceVersion 이후 추가/제거된 방. 링에서 이미 밀려났거나 재적재 이전 버전, 또는 다른 프로세스가 준
+     * 미래 버전이면 전체 목록을 돌려준다. 같은 방의 여러 변경은 마지막 것만 남긴다.
+     */
+    public Delta changesSince(long sinceVersion) {
+        Snapshot current = snapshot.get();
+        if (sinceVersion == current.version) {
+            return new Delta(current.version, false, List.of(), List.of());
+        }
+        if (sinceVersion < current.minDeltaVersion || sinceVersion > current.version
+                || current.version - sinceVersion > CHANGE_LOG_CAPACITY) {
+            return new Delta(current.version, true, current.sorted, List.of());
+        }
+        Map<String, Change> latest = new LinkedHashMap<>();
+        for (long version = sinceVersion + 1; version <= current.version; version++) {
+            Change change = changeLog.get((int) (version % CHANGE_LOG_CAPACITY));
+            if (change == null || change.version != version) {
+                return new Delta(current.version, true, current.sorted, List.of());
+            }
+            latest.remove(change.roomId);
+            latest.put(change.roomId, change);
+        }
+        List<Room> added = new ArrayList<>();
+        List<String> removed = new ArrayList<>();
+        for (Change change : latest.values()) {
+            if (change.added != null) {
+                added.add(change.added);
+            } else {
+                removed.add(change.roomId);
+            }
+        }
+        added.sort(NEWEST_FIRST);
+        return new Delta(current.version, false, added, removed);
+    }
+
+    /**
+     * 최신순 정렬 목록(hostId가 있으면 호스트별 목록)에서 cursor와 createdTo 위치를 이진 탐색으로 찾고,
+     * createdFrom보다 오래된 방이 나오면 멈춘다. filter는 인덱스가 없는 조건(참가자 수 등)에만 쓴다.
+     */
+    public List<Room> page(String hostId, Instant createdFrom, Instant createdTo, Instant cursorCreatedAt,
+            String cursorRoomId, Predicate<Room> filter, int limitPlusOne) {
+        Snapshot current = snapshot.get();
+        List<Room> rooms = hostId == null ? current.sorted : current.byHost.getOrDefault(hostId, List.of());
+        int start = 0;
+        if (createdTo != null) {
+            start = firstIndexAfter(rooms, new Room("", null, createdTo, null, RoomState.ACTIVE), true);
+        }
+        if (cursorCreatedAt != null && cursorRoomId != null) {
+            start = Math.max(start,
+                    firstIndexAfter(rooms, new Room(cursorRoomId, null, cursorCreatedAt, null, RoomState.ACTIVE), false));
+        }
+        List<Room> result = new ArrayList<>(Math.min(limitPlusOne, rooms.size()));
+        for (int i = start; i < rooms.size() && result.size() < limitPlusOne; i++) {
+            Room room = rooms.get(i);
+            if (createdFrom != null && room.getCreatedAt() != null && room.getCreatedAt().isBefore(createdFrom)) {
+                break;
+            }
+            if (filter == null || filter.test(room)) {
+                result.add(room);
+            }
+        }
+        return result;
+    }
+
+    private static int firstIndexAfter(List<Room> rooms, Room probe, boolean inclusive) {
+        int low = 0;
+        int high = rooms.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int cmp = NEWEST_FIRST.compare(rooms.get(mid), probe);
+            if (cmp < 0 || (cmp == 0 && !inclusive)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        reload();
+    }
+
+    /**
+     * DB 조회를 writeLock 안에서 하므로, 조회 시작 전에 커밋된 변경은 결과에 포함되고
+     * 이후 커밋된 변경은 교체가 끝난 뒤 리스너가 적용한다.
+     */
+    public void reload() {
+        synchronized (writeLock) {
+            Map<String, Room> rooms = new HashMap<>();
+            for (Room room : roomRepository.findAllByStateOrderByCreatedAtDesc(RoomState.ACTIVE)) {
+                rooms.put(room.getRoomId(), room);
+            }
+            // 재시작 전 프로세스가 준 버전과 겹치지 않도록 시각 기반으로 건너뛰고, 그 이전 델타는 끊는다.
+            long version = Math.max(snapshot.get().version + 1, System.currentTimeMillis() * 1_000);
+            snapshot.set(Snapshot.of(rooms, version, version));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onLifecycleChanged(RoomLifecycleChangedEvent event) {
+        apply(event.getEvents());
+    }
+
+    void apply(List<RoomEvent> events) {
+        synchronized (writeLock) {
+            Snapshot current = snapshot.get();
+            Map<String, Room> next = new HashMap<>(current.byId);
+            long version = current.version;
+            for (RoomEvent event : events) {
+                String roomId = event.getRoomId();
+                if (event.getEventType() == RoomEventType.ROOM_CLOSED) {
+                    recentlyClosed.put(roomId, Boolean.TRUE);
+                    if (next.remove(roomId) != null) {
+                        version++;
+                        changeLog.set((int) (version % CHANGE_LOG_CAPACITY), new Change(version, roomId, null));
+                    }
+                } else if (event.getEventType() == RoomEventType.ROOM_CREATED
+                        && !recentlyClosed.containsKey(roomId) && !next.containsKey(roomId)) {
+                    Room room = new Room(roomId, event.getPayload().stringField("hostId"),
+                            event.getOccurredAt(), null, RoomState.ACTIVE);
+                    next.put(roomId, room);
+                    version++;
+                    changeLog.set((int) (version % CHANGE_LOG_CAPACITY), new Change(version, roomId, room));
+                }
+            }
+            if (version != current.version) {
+                snapshot.set(Snapshot.of(next, version, current.minDeltaVersion));
+            }
+        }
+    }
+
+    /**
+     * 스냅샷과 rooms 테이블의 활성 방을 비교한다. 커밋 직후 리스너가 아직 돌지 않은 방은 일시적으로 차이로 보일 수 있다.
+     */
+    public RoomRegistryConsistencyResponse checkConsistency(boolean repair) {
+        Map<String, Room> registry = snapshot.get().byId;
+        Map<String, Room> database = new HashMap<>();
+        for (Room room : roomRepository.findAllByStateOrderByCreatedAtDesc(RoomState.ACTIVE)) {
+            database.put(room.getRoomId(), room);
+        }
+        List<String> missing = new ArrayList<>();
+        for (String roomId : database.keySet()) {
+            if (!registry.containsKey(roomId)) {
+                missing.add(roomId);
+            }
+        }
+        List<String> stale = new ArrayList<>();
+        for (String roomId : registry.keySet()) {
+            if (!database.containsKey(roomId)) {
+                stale.add(roomId);
+            }
+        }
+        boolean consistent = missing.isEmpty() && stale.isEmpty();
+        boolean repaired = false;
+        if (!consistent && repair) {
+            reload();
+            repaired = true;
+        }
+        return new RoomRegistryConsistencyResponse(Instant.now(), registry.size(), database.size(), missing, stale,
+                consistent, repaired);
+    }
+
+    public static class Delta {
+        private final long version;
+        private final boolean full;
+        private final List<Room> added;
+        private final List<String> removed;
+
+        public Delta(long version, boolean full, List<Room> added, List<String> removed) {
+            this.version = version;
+            this.full = full;
+            this.added = added;
+            this.removed = removed;
+        }
+
+        public long getVersion() {
+            return version;
+        }
+
+        /**
+         * true면 added가 전체 활성 방 목록이므로 클라이언트는 기존 목록을 버려야 한다.
+         */
+        public boolean isFull() {
+            return full;
+        }
+
+        public List<Room> getAdded() {
+            return added;
+        }
+
+        public List<String> getRemoved() {
+            return removed;
+        }
+    }
+
+    private static final class Change {
+        private final long version;
+        private final String roomId;
+        private final Room added;
+
+        private Change(long version, String roomId, Room added) {
+            this.version = version;
+            this.roomId = roomId;
+            this.added = added;
+        }
+    }
+
+    private static final class Snapshot {
+        private final Map<String, Room> byId;
+        private final List<Room> sorted;
+        private final Map<String, List<Room>> byHost;
+        private final long version;
+        private final long minDeltaVersion;
+
+        private Snapshot(Map<String, Room> byId, List<Room> sorted, Map<String, List<Room>> byHost, long version,
+                long minDeltaVersion) {
+            this.byId = byId;
+            this.sorted = sorted;
+            this.byHost = byHost;
+            this.version = version;
+            this.minDeltaVersion = minDeltaVersion;
+        }
+
+        private static Snapshot of(Map<String, Room> rooms, long version, long minDeltaVersion) {
+            List<Room> sorted = new ArrayList<>(rooms.values());
+            sorted.sort(NEWEST_FIRST);
+            Map<String, List<Room>> byHost = new HashMap<>();
+            for (Room room : sorted) {
+                if (room.getHostId() != null) {
+                    byHost.computeIfAbsent(room.getHostId(), key -> new ArrayList<>()).add(room);
+                }
+            }
+            byHost.replaceAll((hostId, hostRooms) -> List.copyOf(hostRooms));
+            return new Snapshot(Map.copyOf(rooms), List.copyOf(sorted), Map.copyOf(byHost), version,
+                    minDeltaVersion);
+        }
+    }
+}
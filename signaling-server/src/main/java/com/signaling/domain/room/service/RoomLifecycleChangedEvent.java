@@ -0,0 +1,20 @@
+package com.signaling.domain.room.service;
+
+import com.signaling.domain.event.entity.RoomEvent;
+import java.util.List;
+
+/**
+ * rooms 프로젝션에 반영된 ROOM_CREATED/ROOM_CLOSED 이벤트. 커밋 이후에만 소비해야 한다.
+ */
+public class RoomLifecycleChangedEvent {
+
+    private final List<RoomEvent> events;
+
+    public RoomLifecycleChangedEvent(List<RoomEvent> events) {
+        this.events = List.copyOf(events);
+    }
+
+    public List<RoomEvent> getEvents() {
+        return events;
+    }
+}
@@ -0,0 +1,142 @@
+package com.signaling.domain.room.service;
+
+import com.signaling.domain.event.entity.RoomEvent;
+import com.signaling.domain.room.dto.RoomStatsResponse;
+import com.signaling.domain.room.repository.RoomRepository;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+/**
+ * 방별 현재 참가자/프로듀서 수와 최대 참가자 수. 커밋된 신규 이벤트만 반영하며 카운터는 원자 연산으로만 갱신한다.
+ * LEFT가 JOINED보다 먼저 도착하면 일시적으로 음수가 될 수 있어 읽을 때 0으로 자른다.
+ * 시작 시 DB 값으로 채우는 일은 웹 서버가 요청을 받기 전(싱글턴 초기화 직후)에 끝내, 채우는 도중 들어온 이벤트가
+ * DB 값과 카운터에 두 번 더해지지 않게 한다.
+ */
+@Component
+public class RoomOccupancyTracker implements SmartInitializingSingleton {
+
+    private static final int RECENTLY_CLOSED_LIMIT = 10_000;
+
+    private final RoomRepository roomRepository;
+    private final Map<String, Counters> counters = new ConcurrentHashMap<>();
+    private final LongAdder modifications = new LongAdder();
+    private final Set<String> recentlyClosed = Collections.newSetFromMap(Collections.synchronizedMap(
+            new LinkedHashMap<>() {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                    return size() > RECENTLY_CLOSED_LIMIT;
+                }
+            }));
+
+    public RoomOccupancyTracker(RoomRepository roomRepository) {
+        this.roomRepository = roomRepository;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        seed();
+    }
+
+    void seed() {
+        // 최대 참가자 수는 재생 없이는 알 수 없으므로 시작 시점의 현재 값으로 둔다.
+        for (RoomStatsResponse stats : roomRepository.findActiveRoomOccupancy()) {
+            Counters seeded = new Counters();
+            seeded.participants.set(stats.getParticipants());
+            seeded.producers.set(stats.getProducers());
+            seeded.raisePeak(stats.getParticipants());
+            counters.put(stats.getRoomId(), seeded);
+        }
+    }
+
+    public void record(List<RoomEvent> createdEvents) {
+        modifications.add(createdEvents.size());
+        for (RoomEvent event : createdEvents) {
+            String roomId = event.getRoomId();
+            switch (event.getEventType()) {
+                case ROOM_CLOSED -> {
+                    recentlyClosed.add(roomId);
+                    counters.remove(roomId);
+                }
+                case PARTICIPANT_JOINED -> {
+                    Counters room = countersFor(roomId);
+                    if (room != null) {
+                        room.raisePeak(room.participants.incrementAndGet());
+                    }
+                }
+                case PARTICIPANT_LEFT -> {
+                    Counters room = countersFor(roomId);
+                    if (room != null) {
+                        room.participants.decrementAndGet();
+                    }
+                }
+                case PRODUCER_CREATED -> {
+                    Counters room = countersFor(roomId);
+                    if (room != null) {
+                        room.producers.incrementAndGet();
+                    }
+                }
+                case PRODUCER_CLOSED -> {
+                    Counters room = countersFor(roomId);
+                    if (room != null) {
+                        room.producers.decrementAndGet();
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+    }
+
+    public RoomStatsResponse stats(String roomId) {
+        Counters room = counters.get(roomId);
+        if (room == null) {
+            return new RoomStatsResponse(roomId, 0, 0, 0);
+        }
+        return new RoomStatsResponse(roomId, Math.max(0, room.participants.get()),
+                Math.max(0, room.producers.get()), room.peakParticipants.get());
+    }
+
+    /**
+     * 카운터가 바뀌었을 수 있는지 판단하는 용도(ETag)로만 쓴다. 값 자체에는 의미가 없다.
+     */
+    public long modificationCount() {
+        return modifications.sum();
+    }
+
+    public long participants(String roomId) {
+        Counters room = counters.get(roomId);
+        return room == null ? 0 : Math.max(0, room.participants.get());
+    }
+
+    private Counters countersFor(String roomId) {
+        Counters room = counters.get(roomId);
+        if (room != null) {
+            return room;
+        }
+        if (recentlyClosed.contains(roomId)) {
+            return null;
+        }
+        return counters.computeIfAbsent(roomId, key -> new Counters());
+    }
+
+    private static final class Counters {
+        private final AtomicLong participants = new AtomicLong();
+        private final AtomicLong producers = new AtomicLong();
+        private final AtomicLong peakParticipants = new AtomicLong();
+
+        private void raisePeak(long current) {
+            long peak = peakParticipants.get();
+            while (current > peak && !peakParticipants.compareAndSet(peak, current)) {
+                peak = peakParticipants.get();
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.signaling.domain.room.service;
+
+import com.signaling.domain.event.entity.RoomEvent;
+import com.signaling.domain.event.entity.RoomEventType;
+import com.signaling.domain.room.repository.RoomRepository;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class RoomProjectionService {
+
+    private final RoomRepository roomRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public RoomProjectionService(RoomRepository roomRepository, ApplicationEventPublisher eventPublisher) {
+        this.roomRepository = roomRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * 새로 저장된 이벤트만 넘겨야 한다. 이벤트 INSERT와 같은 트랜잭션에서 rooms를 갱신하고,
+     * 변경 내용은 커밋 후 ActiveRoomRegistry가 받도록 발행한다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(List<RoomEvent> createdEvents) {
+        List<RoomEvent> opened = new ArrayList<>();
+        List<RoomEvent> closed = new ArrayList<>();
+        for (RoomEvent event : createdEvents) {
+            if (event.getEventType() == RoomEventType.ROOM_CREATED) {
+                opened.add(event);
+            } else if (event.getEventType() == RoomEventType.ROOM_CLOSED) {
+                closed.add(event);
+            }
+        }
+        if (!opened.isEmpty()) {
+            roomRepository.applyCreated(opened);
+        }
+        if (!closed.isEmpty()) {
+            roomRepository.applyClosed(closed);
+        }
+        if (!opened.isEmpty() || !closed.isEmpty()) {
+            List<RoomEvent> changed = new ArrayList<>(opened);
+            changed.addAll(closed);
+            eventPublisher.publishEvent(new RoomLifecycleChangedEvent(changed));
+        }
+    }
+}
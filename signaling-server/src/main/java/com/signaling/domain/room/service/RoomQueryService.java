@@ -1,43 +1,91 @@
 package com.signaling.domain.room.service;
 
-import com.signaling.domain.event.repository.RoomEventRepository;
-import com.signaling.domain.event.entity.RoomEventType;
-import com.signaling.domain.event.entity.RoomEvent;
+import com.signaling.domain.room.dto.RoomDirectoryDeltaResponse;
 import com.signaling.domain.room.dto.RoomListResponse;
-import java.util.Comparator;
+import com.signaling.domain.room.dto.RoomPageResponse;
+import com.signaling.domain.room.dto.RoomStatsResponse;
+import com.signaling.domain.room.entity.Room;
+import java.time.Instant;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
 
 @Service
 public class RoomQueryService {
 
-    private final RoomEventRepository roomEventRepository;
+    private final ActiveRoomRegistry activeRoomRegistry;
+    private final RoomOccupancyTracker occupancyTracker;
 
-    public RoomQueryService(RoomEventRepository roomEventRepository) {
-        this.roomEventRepository = roomEventRepository;
+    public RoomQueryService(ActiveRoomRegistry activeRoomRegistry, RoomOccupancyTracker occupancyTracker) {
+        this.activeRoomRegistry = activeRoomRegistry;
+        this.occupancyTracker = occupancyTracker;
     }
 
     public List<RoomListResponse> listActiveRooms() {
-        List<RoomEvent> events = roomEventRepository.findAll();
-        Map<String, RoomEvent> created = events.stream()
-                .filter(event -> event.getEventType() == RoomEventType.ROOM_CREATED)
-                .collect(Collectors.toMap(RoomEvent::getRoomId, event -> event, (a, b) -> a));
-        events.stream()
-                .filter(event -> event.getEventType() == RoomEventType.ROOM_CLOSED)
-                .forEach(event -> created.remove(event.getRoomId()));
-        return created.values().stream()
-                .sorted(Comparator.comparing(RoomEvent::getOccurredAt).reversed())
-                .map(event -> new RoomListResponse(
-                        event.getRoomId(),
-                        valueOf(event.getPayload().get("hostId")),
-                        event.getOccurredAt()
-                ))
+        return activeRoomRegistry.activeRooms().stream()
+                .map(this::toResponse)
                 .collect(Collectors.toList());
     }
 
-    private String valueOf(Object value) {
-        return value == null ? null : value.toString();
+    public RoomPageResponse listActiveRooms(String hostId, Instant createdFrom, Instant createdTo,
+            Integer minParticipants, Instant cursorCreatedAt, String cursorRoomId, int limit) {
+        List<Room> rooms = activeRoomRegistry.page(hostId, createdFrom, createdTo, cursorCreatedAt, cursorRoomId,
+                minParticipants == null ? null
+                        : room -> occupancyTracker.participants(room.getRoomId()) >= minParticipants,
+                limit + 1);
+        boolean hasMore = rooms.size() > limit;
+        if (hasMore) {
+            rooms = rooms.subList(0, limit);
+        }
+        RoomPageResponse response = new RoomPageResponse();
+        response.setItems(rooms.stream().map(this::toResponse).toList());
+        response.setHasNext(hasMore);
+        response.setNextCursor(hasMore ? encodeCursor(rooms.get(rooms.size() - 1)) : null);
+        return response;
+    }
+
+    public RoomDirectoryDeltaResponse changesSince(long sinceVersion) {
+        ActiveRoomRegistry.Delta delta = activeRoomRegistry.changesSince(sinceVersion);
+        RoomDirectoryDeltaResponse response = new RoomDirectoryDeltaResponse();
+        response.setVersion(delta.getVersion());
+        response.setFull(delta.isFull());
+        response.setRooms(delta.getAdded().stream().map(this::toResponse).toList());
+        response.setRemoved(delta.getRemoved());
+        return response;
+    }
+
+    /**
+     * 전체 목록은 참가자 수도 담고 있으므로 방 목록 버전과 카운터 변경 횟수를 함께 쓴다.
+     */
+    public String directoryETag() {
+        return "W/\"rooms-" + activeRoomRegistry.version() + "-" + occupancyTracker.modificationCount() + "\"";
+    }
+
+    public String deltaETag() {
+        return deltaETag(activeRoomRegistry.version());
+    }
+
+    public String deltaETag(long version) {
+        return "W/\"rooms-" + version + "\"";
+    }
+
+    public RoomStatsResponse getStats(String roomId) {
+        if (activeRoomRegistry.find(roomId) == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Room not active");
+        }
+        return occupancyTracker.stats(roomId);
+    }
+
+    private RoomListResponse toResponse(Room room) {
+        return new RoomListResponse(room.getRoomId(), room.getHostId(), room.getCreatedAt(),
+                occupancyTracker.stats(room.getRoomId()));
+    }
+
+    // rooms.created_at은 마이크로초까지 저장되므로 커서도 마이크로초 단위로 둔다.
+    private String encodeCursor(Room room) {
+        Instant createdAt = room.getCreatedAt();
+        return (createdAt.getEpochSecond() * 1_000_000 + createdAt.getNano() / 1_000) + ":" + room.getRoomId();
     }
 }
@@ -0,0 +1,15 @@
+package com.signaling.global.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 이 컨트롤러의 요청/응답 본문은 JSON 외에 CBOR, Smile로도 주고받는다. 붙이지 않은 컨트롤러는 JSON만 쓴다.
+ * 협상은 {@link WebConfig}의 바이너리 컨버터가 처리한다.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface BinaryBodies {
+}
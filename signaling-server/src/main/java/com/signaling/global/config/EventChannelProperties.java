@@ -0,0 +1,65 @@
+package com.signaling.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "event-channel")
+public class EventChannelProperties {
+
+    private int maxWindow = 512;
+    private int minWindow = 16;
+    private int batchSize = 200;
+    private long lingerMs = 20;
+    private long slowFlushMs = 500;
+    // 프레임 하나의 최대 크기. WebSocket 컨테이너의 텍스트 버퍼를 이 크기로 잡고, SFU 클라이언트도 이 크기 안에서 프레임을 나눈다.
+    private int maxFrameBytes = 256 * 1024;
+
+    public int getMaxWindow() {
+        return maxWindow;
+    }
+
+    public void setMaxWindow(int maxWindow) {
+        this.maxWindow = maxWindow;
+    }
+
+    public int getMinWindow() {
+        return minWindow;
+    }
+
+    public void setMinWindow(int minWindow) {
+        this.minWindow = minWindow;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getLingerMs() {
+        return lingerMs;
+    }
+
+    public void setLingerMs(long lingerMs) {
+        this.lingerMs = lingerMs;
+    }
+
+    public long getSlowFlushMs() {
+        return slowFlushMs;
+    }
+
+    public void setSlowFlushMs(long slowFlushMs) {
+        this.slowFlushMs = slowFlushMs;
+    }
+
+    public int getMaxFrameBytes() {
+        return maxFrameBytes;
+    }
+
+    public void setMaxFrameBytes(int maxFrameBytes) {
+        this.maxFrameBytes = maxFrameBytes;
+    }
+}
@@ -0,0 +1,55 @@
+package com.signaling.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "event-dedupe")
+public class EventDedupeProperties {
+
+    private boolean enabled = true;
+    private long recentWindowSeconds = 300;
+    private int recentMaxEntries = 20000;
+    private int bloomExpectedInsertions = 1_000_000;
+    private double bloomFalsePositiveRate = 0.01;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getRecentWindowSeconds() {
+        return recentWindowSeconds;
+    }
+
+    public void setRecentWindowSeconds(long recentWindowSeconds) {
+        this.recentWindowSeconds = recentWindowSeconds;
+    }
+
+    public int getRecentMaxEntries() {
+        return recentMaxEntries;
+    }
+
+    public void setRecentMaxEntries(int recentMaxEntries) {
+        this.recentMaxEntries = recentMaxEntries;
+    }
+
+    public int getBloomExpectedInsertions() {
+        return bloomExpectedInsertions;
+    }
+
+    public void setBloomExpectedInsertions(int bloomExpectedInsertions) {
+        this.bloomExpectedInsertions = bloomExpectedInsertions;
+    }
+
+    public double getBloomFalsePositiveRate() {
+        return bloomFalsePositiveRate;
+    }
+
+    public void setBloomFalsePositiveRate(double bloomFalsePositiveRate) {
+        this.bloomFalsePositiveRate = bloomFalsePositiveRate;
+    }
+}
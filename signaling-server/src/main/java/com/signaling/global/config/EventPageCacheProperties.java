@@ -0,0 +1,46 @@
+package com.signaling.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "event-page-cache")
+public class EventPageCacheProperties {
+
+    private boolean enabled = true;
+    private int maxEntries = 10_000;
+    private long maxBytes = 64L * 1024 * 1024;
+    private int maxPageBytes = 1024 * 1024;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public void setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public void setMaxBytes(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    public int getMaxPageBytes() {
+        return maxPageBytes;
+    }
+
+    public void setMaxPageBytes(int maxPageBytes) {
+        this.maxPageBytes = maxPageBytes;
+    }
+}
@@ -0,0 +1,85 @@
+package com.signaling.global.config;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "event-partition")
+public class EventPartitionProperties {
+
+    private boolean maintenanceEnabled = true;
+    private Granularity granularity = Granularity.MONTHLY;
+    private int premakeCount = 3;
+    // 0이면 파티션을 지우지 않고, 조회에도 보존 하한을 걸지 않는다. 시작 시 참가자 수를 이벤트로 다시 세므로
+    // 방의 최대 수명보다 길게 둔다(RoomRepositoryImpl.ACTIVE_OCCUPANCY_SQL).
+    private int retentionDays = 0;
+    private int idDeleteBatchSize = 5000;
+    // p_future에 이보다 많은 행이 있으면 나누지 않는다. REORGANIZE는 행을 모두 복사하는 동안 쓰기를 막는다.
+    private long maxFutureRowsToSplit = 100_000;
+
+    public boolean isMaintenanceEnabled() {
+        return maintenanceEnabled;
+    }
+
+    public void setMaintenanceEnabled(boolean maintenanceEnabled) {
+        this.maintenanceEnabled = maintenanceEnabled;
+    }
+
+    public Granularity getGranularity() {
+        return granularity;
+    }
+
+    public void setGranularity(Granularity granularity) {
+        this.granularity = granularity;
+    }
+
+    public int getPremakeCount() {
+        return premakeCount;
+    }
+
+    public void setPremakeCount(int premakeCount) {
+        this.premakeCount = premakeCount;
+    }
+
+    public int getRetentionDays() {
+        return retentionDays;
+    }
+
+    public void setRetentionDays(int retentionDays) {
+        this.retentionDays = retentionDays;
+    }
+
+    /**
+     * 조회와 total이 보는 가장 이른 시각. UTC 자정으로 내려 맞춰 하루 동안 같은 값이므로 캐시 키에 넣어도 된다.
+     * 보존 기간이 0이면 null이다.
+     */
+    public Instant retentionFloor(Instant now) {
+        if (retentionDays <= 0) {
+            return null;
+        }
+        return now.truncatedTo(ChronoUnit.DAYS).minus(retentionDays, ChronoUnit.DAYS);
+    }
+
+    public int getIdDeleteBatchSize() {
+        return idDeleteBatchSize;
+    }
+
+    public void setIdDeleteBatchSize(int idDeleteBatchSize) {
+        this.idDeleteBatchSize = idDeleteBatchSize;
+    }
+
+    public long getMaxFutureRowsToSplit() {
+        return maxFutureRowsToSplit;
+    }
+
+    public void setMaxFutureRowsToSplit(long maxFutureRowsToSplit) {
+        this.maxFutureRowsToSplit = maxFutureRowsToSplit;
+    }
+
+    public enum Granularity {
+        DAILY,
+        MONTHLY
+    }
+}
@@ -0,0 +1,90 @@
+package com.signaling.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "event-stream")
+public class EventStreamProperties {
+
+    private int maxSubscribers = 1000;
+    private int bufferSize = 1024;
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DISCONNECT;
+    private int replayPageSize = 500;
+    private long heartbeatSeconds = 15;
+    private long timeoutMinutes = 30;
+    private long slowSendMs = 5000;
+    private int senderThreads = 4;
+
+    public int getMaxSubscribers() {
+        return maxSubscribers;
+    }
+
+    public void setMaxSubscribers(int maxSubscribers) {
+        this.maxSubscribers = maxSubscribers;
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    public int getReplayPageSize() {
+        return replayPageSize;
+    }
+
+    public void setReplayPageSize(int replayPageSize) {
+        this.replayPageSize = replayPageSize;
+    }
+
+    public long getHeartbeatSeconds() {
+        return heartbeatSeconds;
+    }
+
+    public void setHeartbeatSeconds(long heartbeatSeconds) {
+        this.heartbeatSeconds = heartbeatSeconds;
+    }
+
+    public long getTimeoutMinutes() {
+        return timeoutMinutes;
+    }
+
+    public void setTimeoutMinutes(long timeoutMinutes) {
+        this.timeoutMinutes = timeoutMinutes;
+    }
+
+    public long getSlowSendMs() {
+        return slowSendMs;
+    }
+
+    public void setSlowSendMs(long slowSendMs) {
+        this.slowSendMs = slowSendMs;
+    }
+
+    public int getSenderThreads() {
+        return senderThreads;
+    }
+
+    public void setSenderThreads(int senderThreads) {
+        this.senderThreads = senderThreads;
+    }
+
+    /**
+     * 구독자 버퍼가 가득 찼을 때의 처리. DISCONNECT는 재개 커서를 알려주고 끊고, DROP_OLDEST는 오래된 이벤트를 버린다.
+     */
+    public enum OverflowPolicy {
+        DISCONNECT,
+        DROP_OLDEST
+    }
+}
@@ -0,0 +1,73 @@
+package com.signaling.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "event-wal")
+public class EventWalProperties {
+
+    private boolean enabled = false;
+    private String directory = "./data/event-wal";
+    private int segmentSizeBytes = 64 * 1024 * 1024;
+    private int flushBatchSize = 500;
+    private long flushIntervalMs = 200;
+    private int maxFlushAttempts = 5;
+    private String deadLetterFile = "./data/event-wal-dead-letter.ndjson";
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(String directory) {
+        this.directory = directory;
+    }
+
+    public int getSegmentSizeBytes() {
+        return segmentSizeBytes;
+    }
+
+    public void setSegmentSizeBytes(int segmentSizeBytes) {
+        this.segmentSizeBytes = segmentSizeBytes;
+    }
+
+    public int getFlushBatchSize() {
+        return flushBatchSize;
+    }
+
+    public void setFlushBatchSize(int flushBatchSize) {
+        this.flushBatchSize = flushBatchSize;
+    }
+
+    public long getFlushIntervalMs() {
+        return flushIntervalMs;
+    }
+
+    public void setFlushIntervalMs(long flushIntervalMs) {
+        this.flushIntervalMs = flushIntervalMs;
+    }
+
+    public int getMaxFlushAttempts() {
+        return maxFlushAttempts;
+    }
+
+    public void setMaxFlushAttempts(int maxFlushAttempts) {
+        this.maxFlushAttempts = maxFlushAttempts;
+    }
+
+    public String getDeadLetterFile() {
+        return deadLetterFile;
+    }
+
+    public void setDeadLetterFile(String deadLetterFile) {
+        this.deadLetterFile = deadLetterFile;
+    }
+}
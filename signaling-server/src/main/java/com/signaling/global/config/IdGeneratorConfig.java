@@ -0,0 +1,17 @@
+package com.signaling.global.config;
+
+import com.signaling.global.id.SnowflakeIdGenerator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class IdGeneratorConfig {
+
+    @Bean
+    public SnowflakeIdGenerator snowflakeIdGenerator(IdGeneratorProperties properties) {
+        if (properties.getNodeId() == null) {
+            throw new IllegalStateException("id-generator.node-id must be set to a value unique per node");
+        }
+        return new SnowflakeIdGenerator(properties.getNodeId());
+    }
+}
@@ -0,0 +1,20 @@
+package com.signaling.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "id-generator")
+public class IdGeneratorProperties {
+
+    // 노드마다 달라야 하므로 기본값을 두지 않는다. 두 노드가 같은 값을 쓰면 같은 id가 발급될 수 있다.
+    private Long nodeId;
+
+    public Long getNodeId() {
+        return nodeId;
+    }
+
+    public void setNodeId(Long nodeId) {
+        this.nodeId = nodeId;
+    }
+}
@@ -46,6 +46,7 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.POST, "/api/members/signup").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/members/login").permitAll()
                         .requestMatchers("/api/rooms/*/events/**").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/api/rooms/*/events:batch").permitAll()
                         .requestMatchers("/api/rooms/**").authenticated()
                         .anyRequest().permitAll()
                 )
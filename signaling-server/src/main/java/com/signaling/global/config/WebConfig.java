@@ -1,18 +1,93 @@
 package com.signaling.global.config;
 
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilders;
+
+    public WebConfig(ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilders) {
+        this.objectMapperBuilders = objectMapperBuilders;
+    }
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/api/**")
                 .allowedOrigins("http://localhost:5173")
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
                 .allowedHeaders("*")
+                .exposedHeaders("ETag")
                 .allowCredentials(true);
     }
+
+    /**
+     * application/cbor, application/x-jackson-smile 요청/응답을 JSON과 같은 Jackson 설정으로 처리한다.
+     * JSON 컨버터 뒤에 두어 Accept가 없거나 와일드카드일 때는 JSON이 기본으로 선택된다.
+     * {@link BinaryBodies}가 붙은 컨트롤러에서만 읽고 쓰므로, 인증·회원·방 API는 지금처럼 JSON만 협상한다.
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+                || converter instanceof MappingJackson2SmileHttpMessageConverter);
+        int jsonIndex = 0;
+        for (int i = 0; i < converters.size(); i++) {
+            if (converters.get(i) instanceof MappingJackson2HttpMessageConverter) {
+                jsonIndex = i + 1;
+            }
+        }
+        converters.add(jsonIndex, new MappingJackson2SmileHttpMessageConverter(
+                objectMapperBuilders.getObject().factory(new SmileFactory()).build()) {
+            @Override
+            protected boolean canRead(MediaType mediaType) {
+                return allowsBinaryBodies() && super.canRead(mediaType);
+            }
+
+            @Override
+            protected boolean canWrite(MediaType mediaType) {
+                return allowsBinaryBodies() && super.canWrite(mediaType);
+            }
+        });
+        converters.add(jsonIndex, new MappingJackson2CborHttpMessageConverter(
+                objectMapperBuilders.getObject().factory(new CBORFactory()).build()) {
+            @Override
+            protected boolean canRead(MediaType mediaType) {
+                return allowsBinaryBodies() && super.canRead(mediaType);
+            }
+
+            @Override
+            protected boolean canWrite(MediaType mediaType) {
+                return allowsBinaryBodies() && super.canWrite(mediaType);
+            }
+        });
+    }
+
+    /**
+     * 현재 요청을 처리할 핸들러가 {@link BinaryBodies} 컨트롤러인지 본다. 핸들러 매핑이 끝난 뒤에만 참이 될 수 있다.
+     */
+    static boolean allowsBinaryBodies() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return false;
+        }
+        Object handler = attributes.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+                RequestAttributes.SCOPE_REQUEST);
+        return handler instanceof HandlerMethod method && method.getBeanType().isAnnotationPresent(BinaryBodies.class);
+    }
 }
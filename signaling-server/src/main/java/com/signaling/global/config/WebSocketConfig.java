@@ -0,0 +1,41 @@
+package com.signaling.global.config;
+
+import com.signaling.domain.event.ws.RoomEventChannelHandler;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+import org.springframework.web.socket.server.standard.ServletServerContainerFactoryBean;
+
+/**
+ * /api/events/ws 핸드셰이크는 InternalApiAuthFilter가 이벤트 API와 같은 토큰/IP 규칙으로 검사한다.
+ */
+@Configuration
+@EnableWebSocket
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private final RoomEventChannelHandler roomEventChannelHandler;
+    private final EventChannelProperties eventChannelProperties;
+
+    public WebSocketConfig(RoomEventChannelHandler roomEventChannelHandler,
+            EventChannelProperties eventChannelProperties) {
+        this.roomEventChannelHandler = roomEventChannelHandler;
+        this.eventChannelProperties = eventChannelProperties;
+    }
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(roomEventChannelHandler, "/api/events/ws");
+    }
+
+    /**
+     * Tomcat 기본 텍스트 버퍼(8KB)로는 이벤트 100개짜리 프레임도 1009로 끊겨 SFU가 같은 프레임을 끝없이 다시 보낸다.
+     */
+    @Bean
+    public ServletServerContainerFactoryBean webSocketContainer() {
+        ServletServerContainerFactoryBean container = new ServletServerContainerFactoryBean();
+        container.setMaxTextMessageBufferSize(eventChannelProperties.getMaxFrameBytes());
+        return container;
+    }
+}
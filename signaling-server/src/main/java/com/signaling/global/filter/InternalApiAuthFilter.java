@@ -14,7 +14,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 @Component
 public class InternalApiAuthFilter extends OncePerRequestFilter {
 
-    private static final Pattern EVENTS_PATH = Pattern.compile("^/api/rooms/[^/]+/events.*");
+    private static final Pattern INTERNAL_PATH = Pattern.compile("^/api/(rooms/[^/]+/)?events.*|^/actuator/(metrics|roomregistry).*");
 
     private final InternalApiProperties internalApiProperties;
 
@@ -47,7 +47,7 @@ public class InternalApiAuthFilter extends OncePerRequestFilter {
 
     private boolean requiresAuth(HttpServletRequest request) {
         String path = request.getRequestURI();
-        return path != null && EVENTS_PATH.matcher(path).matches();
+        return path != null && INTERNAL_PATH.matcher(path).matches();
     }
 
     private String extractClientIp(HttpServletRequest request) {
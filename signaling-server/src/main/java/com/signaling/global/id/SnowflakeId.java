@@ -0,0 +1,16 @@
+package com.signaling.global.id;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * 엔티티 ID를 {@link SnowflakeIdGenerator}로 발급한다. IDENTITY와 달리 INSERT 전에 키가 정해지므로 JDBC 배치가 가능하다.
+ */
+@IdGeneratorType(SnowflakeIdentifierGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface SnowflakeId {
+}
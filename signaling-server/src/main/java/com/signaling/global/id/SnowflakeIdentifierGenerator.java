@@ -0,0 +1,22 @@
+package com.signaling.global.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+/**
+ * {@link SnowflakeId} 필드의 ID를 발급한다. 스프링 부트가 Hibernate BeanContainer로 SpringBeanContainer를 등록하므로,
+ * Hibernate가 이 클래스를 만들 때 스프링 빈인 {@link SnowflakeIdGenerator}가 생성자로 주입된다.
+ */
+public class SnowflakeIdentifierGenerator implements IdentifierGenerator {
+
+    private final SnowflakeIdGenerator generator;
+
+    public SnowflakeIdentifierGenerator(SnowflakeIdGenerator generator) {
+        this.generator = generator;
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return generator.nextId();
+    }
+}
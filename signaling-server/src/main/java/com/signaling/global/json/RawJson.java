@@ -0,0 +1,136 @@
+package com.signaling.global.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.json.JsonGeneratorImpl;
+import com.fasterxml.jackson.core.util.JsonGeneratorDelegate;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+
+/**
+ * 서버가 내용을 해석하지 않는 JSON 객체 텍스트. 요청에서는 토큰을 그대로 JSON 텍스트로 복사하고(Map/트리 생성 없음),
+ * DB 컬럼 문자열을 그대로 담으며, JSON 응답에는 원문 그대로 끼워 넣는다.
+ * 원문은 위임을 벗긴 생성기가 Jackson의 JSON 텍스트 생성기일 때만 쓰고, CBOR/Smile, 트리 변환(TokenBuffer),
+ * JSON이 아닌 텍스트 포맷처럼 그 밖의 출력에서는 텍스트를 스트리밍 파싱해 토큰을 옮긴다.
+ */
+@JsonSerialize(using = RawJson.Serializer.class)
+@JsonDeserialize(using = RawJson.Deserializer.class)
+public final class RawJson {
+
+    public static final RawJson EMPTY_OBJECT = new RawJson("{}");
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private final String json;
+
+    private RawJson(String json) {
+        this.json = json;
+    }
+
+    /**
+     * 이미 유효한 JSON 객체로 알려진 텍스트(DB 컬럼, 테스트 고정값)에만 쓴다.
+     */
+    public static RawJson of(String json) {
+        return new RawJson(Objects.requireNonNull(json, "json must not be null"));
+    }
+
+    public String text() {
+        return json;
+    }
+
+    /**
+     * 최상위 필드 하나만 스트리밍으로 찾는다. 스칼라가 아니거나 없으면 null.
+     */
+    public String stringField(String name) {
+        try (JsonParser parser = JSON.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (name.equals(field)) {
+                    return value.isScalarValue() && value != JsonToken.VALUE_NULL ? parser.getText() : null;
+                }
+                parser.skipChildren();
+            }
+            return null;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof RawJson raw && json.equals(raw.json);
+    }
+
+    @Override
+    public int hashCode() {
+        return json.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return json;
+    }
+
+    static class Serializer extends StdSerializer<RawJson> {
+
+        Serializer() {
+            super(RawJson.class);
+        }
+
+        @Override
+        public void serialize(RawJson value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            if (writesJsonText(gen)) {
+                gen.writeRawValue(value.json);
+                return;
+            }
+            try (JsonParser parser = JSON.createParser(value.json)) {
+                parser.nextToken();
+                gen.copyCurrentStructure(parser);
+            }
+        }
+    }
+
+    /**
+     * 위임 생성기를 끝까지 벗겨 실제 출력이 JSON 텍스트인지 본다. 모르는 생성기는 토큰 복사로 처리한다.
+     */
+    static boolean writesJsonText(JsonGenerator gen) {
+        JsonGenerator target = gen;
+        while (target instanceof JsonGeneratorDelegate delegate) {
+            target = delegate.delegate();
+        }
+        return target instanceof JsonGeneratorImpl;
+    }
+
+    static class Deserializer extends StdDeserializer<RawJson> {
+
+        Deserializer() {
+            super(RawJson.class);
+        }
+
+        @Override
+        public RawJson deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            if (parser.currentToken() != JsonToken.START_OBJECT) {
+                return (RawJson) context.handleUnexpectedToken(RawJson.class, parser);
+            }
+            StringWriter writer = new StringWriter();
+            try (JsonGenerator generator = JSON.createGenerator(writer)) {
+                generator.copyCurrentStructure(parser);
+            }
+            return new RawJson(writer.toString());
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.signaling.global.persistence;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Calendar;
+import java.util.TimeZone;
+
+/**
+ * Hibernate가 Instant를 UTC 기준으로 저장하므로, JDBC로 직접 읽고 쓰는 경로도 같은 기준을 사용한다.
+ */
+public final class JdbcTimestamps {
+
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+    private JdbcTimestamps() {
+    }
+
+    public static void bind(PreparedStatement ps, int index, Instant value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, java.sql.Types.TIMESTAMP);
+            return;
+        }
+        ps.setTimestamp(index, Timestamp.from(value), Calendar.getInstance(UTC));
+    }
+
+    public static Instant read(ResultSet rs, String column) throws SQLException {
+        Timestamp timestamp = rs.getTimestamp(column, Calendar.getInstance(UTC));
+        return timestamp == null ? null : timestamp.toInstant();
+    }
+}
@@ -1,39 +0,0 @@
-package com.signaling.global.persistence;
-
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import jakarta.persistence.AttributeConverter;
-import jakarta.persistence.Converter;
-import java.util.Collections;
-import java.util.Map;
-
-@Converter
-public class MapToJsonConverter implements AttributeConverter<Map<String, Object>, String> {
-
-    private static final ObjectMapper objectMapper = new ObjectMapper();
-    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {};
-
-    @Override
-    public String convertToDatabaseColumn(Map<String, Object> attribute) {
-        if (attribute == null || attribute.isEmpty()) {
-            return "{}";
-        }
-        try {
-            return objectMapper.writeValueAsString(attribute);
-        } catch (Exception ex) {
-            throw new IllegalStateException("Failed to serialize rtpCapabilities", ex);
-        }
-    }
-
-    @Override
-    public Map<String, Object> convertToEntityAttribute(String dbData) {
-        if (dbData == null || dbData.isBlank()) {
-            return Collections.emptyMap();
-        }
-        try {
-            return objectMapper.readValue(dbData, MAP_TYPE);
-        } catch (Exception ex) {
-            throw new IllegalStateException("Failed to deserialize rtpCapabilities", ex);
-        }
-    }
-}
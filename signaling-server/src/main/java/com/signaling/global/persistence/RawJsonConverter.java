@@ -0,0 +1,22 @@
+package com.signaling.global.persistence;
+
+import com.signaling.global.json.RawJson;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter
+public class RawJsonConverter implements AttributeConverter<RawJson, String> {
+
+    @Override
+    public String convertToDatabaseColumn(RawJson attribute) {
+        return attribute == null ? RawJson.EMPTY_OBJECT.text() : attribute.text();
+    }
+
+    @Override
+    public RawJson convertToEntityAttribute(String dbData) {
+        if (dbData == null || dbData.isBlank()) {
+            return RawJson.EMPTY_OBJECT;
+        }
+        return RawJson.of(dbData);
+    }
+}
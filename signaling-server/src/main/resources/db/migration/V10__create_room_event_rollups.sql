@@ -0,0 +1,41 @@
+-- Per-room event counts in UTC time buckets. MINUTE rows are upserted in the ingest transaction;
+-- HOUR and DAY rows are rebuilt from the finer bucket by RoomEventRollupService's compactor.
+CREATE TABLE IF NOT EXISTS room_event_rollups (
+  bucket_size VARCHAR(8) NOT NULL,
+  room_id VARCHAR(100) NOT NULL,
+  bucket_start DATETIME NOT NULL,
+  event_type VARCHAR(40) NOT NULL,
+  event_count BIGINT NOT NULL,
+  PRIMARY KEY (bucket_size, room_id, bucket_start, event_type),
+  KEY idx_room_event_rollups_size_start (bucket_size, bucket_start, room_id, event_type, event_count)
+);
+
+-- INSERT ... SELECT cannot take a row alias, so each SELECT is wrapped in a derived table named new instead of VALUES().
+INSERT INTO room_event_rollups (bucket_size, room_id, bucket_start, event_type, event_count)
+SELECT * FROM (
+  SELECT 'MINUTE' AS bucket_size, room_id, DATE_FORMAT(occurred_at, '%Y-%m-%d %H:%i:00') AS bucket_start, event_type,
+         COUNT(*) AS event_count
+  FROM room_events
+  GROUP BY room_id, DATE_FORMAT(occurred_at, '%Y-%m-%d %H:%i:00'), event_type
+) AS new
+ON DUPLICATE KEY UPDATE event_count = new.event_count;
+
+INSERT INTO room_event_rollups (bucket_size, room_id, bucket_start, event_type, event_count)
+SELECT * FROM (
+  SELECT 'HOUR' AS bucket_size, room_id, DATE_FORMAT(bucket_start, '%Y-%m-%d %H:00:00') AS bucket_start, event_type,
+         SUM(event_count) AS event_count
+  FROM room_event_rollups
+  WHERE bucket_size = 'MINUTE'
+  GROUP BY room_id, DATE_FORMAT(bucket_start, '%Y-%m-%d %H:00:00'), event_type
+) AS new
+ON DUPLICATE KEY UPDATE event_count = new.event_count;
+
+INSERT INTO room_event_rollups (bucket_size, room_id, bucket_start, event_type, event_count)
+SELECT * FROM (
+  SELECT 'DAY' AS bucket_size, room_id, DATE(bucket_start) AS bucket_start, event_type,
+         SUM(event_count) AS event_count
+  FROM room_event_rollups
+  WHERE bucket_size = 'HOUR'
+  GROUP BY room_id, DATE(bucket_start), event_type
+) AS new
+ON DUPLICATE KEY UPDATE event_count = new.event_count;
@@ -0,0 +1,58 @@
+-- A partitioned table cannot have a unique key without the partitioning column, so event_id uniqueness moves
+-- to this companion table. Ingest claims the event_id here before inserting into room_events.
+CREATE TABLE IF NOT EXISTS room_event_ids (
+  event_id VARCHAR(100) NOT NULL,
+  id BIGINT NOT NULL,
+  occurred_at DATETIME(6) NOT NULL,
+  PRIMARY KEY (event_id),
+  KEY idx_room_event_ids_occurred_at (occurred_at)
+);
+
+INSERT IGNORE INTO room_event_ids (event_id, id, occurred_at)
+SELECT event_id, id, occurred_at
+FROM room_events;
+
+-- Drop every unique key except PRIMARY (uq_room_events_event_id, or a Hibernate-named one on older schemas).
+SET @drop_unique = (
+  SELECT GROUP_CONCAT(DISTINCT CONCAT('DROP INDEX `', INDEX_NAME, '`') SEPARATOR ', ')
+  FROM INFORMATION_SCHEMA.STATISTICS
+  WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 'room_events'
+    AND NON_UNIQUE = 0
+    AND INDEX_NAME <> 'PRIMARY'
+);
+SET @sql = CONCAT('ALTER TABLE room_events DROP PRIMARY KEY, ADD PRIMARY KEY (id, occurred_at), ',
+  IFNULL(CONCAT(@drop_unique, ', '), ''),
+  'ADD INDEX idx_room_events_event_id (event_id)'
+);
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- Monthly UTC partitions from the oldest event up to the current month, plus an empty catch-all that
+-- RoomEventPartitionMaintenance splits ahead of time (daily or monthly, per event-partition.granularity).
+SET SESSION group_concat_max_len = 1000000;
+SET @first_month = (
+  SELECT DATE_FORMAT(COALESCE(MIN(occurred_at), UTC_TIMESTAMP()), '%Y-%m-01')
+  FROM room_events
+);
+SET @partitions = (
+  WITH RECURSIVE months (month_start) AS (
+    SELECT CAST(@first_month AS DATE)
+    UNION ALL
+    SELECT month_start + INTERVAL 1 MONTH
+    FROM months
+    WHERE month_start + INTERVAL 1 MONTH <= UTC_DATE()
+  )
+  SELECT GROUP_CONCAT(
+    CONCAT('PARTITION p', DATE_FORMAT(month_start, '%Y%m'), ' VALUES LESS THAN (''',
+      DATE_FORMAT(month_start + INTERVAL 1 MONTH, '%Y-%m-%d 00:00:00'), ''')')
+    ORDER BY month_start SEPARATOR ', ')
+  FROM months
+);
+SET @sql = CONCAT('ALTER TABLE room_events PARTITION BY RANGE COLUMNS (occurred_at) (', @partitions,
+  ', PARTITION p_future VALUES LESS THAN (MAXVALUE))'
+);
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,7 @@
+-- Marks a detached room_events table whose rows were already subtracted from room_event_counts. The marker is
+-- written in the same transaction as the subtraction, so a purge that stops before DROP TABLE is not counted twice.
+CREATE TABLE IF NOT EXISTS room_event_partition_purges (
+  table_name VARCHAR(64) NOT NULL,
+  subtracted_at DATETIME(6) NOT NULL,
+  PRIMARY KEY (table_name)
+);
@@ -0,0 +1,3 @@
+-- room_events ids are now issued by the application (time-ordered snowflake ids) so inserts can be batched.
+-- Existing AUTO_INCREMENT ids are far below the snowflake range, so (occurred_at, id) ordering stays stable.
+ALTER TABLE room_events MODIFY id BIGINT NOT NULL;
@@ -0,0 +1,50 @@
+-- A pre-event-sourcing rooms table (no lifecycle state) may still exist; keep it aside instead of dropping it.
+SET @table_exists = (
+  SELECT COUNT(*)
+  FROM INFORMATION_SCHEMA.TABLES
+  WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 'rooms'
+);
+SET @col_exists = (
+  SELECT COUNT(*)
+  FROM INFORMATION_SCHEMA.COLUMNS
+  WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 'rooms'
+    AND COLUMN_NAME = 'state'
+);
+SET @sql = IF(@table_exists = 1 AND @col_exists = 0,
+  'RENAME TABLE rooms TO rooms_legacy',
+  'SELECT 1'
+);
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- Room lifecycle projection maintained in the ingest transaction.
+-- created_at is nullable because ROOM_CLOSED may be stored before its ROOM_CREATED.
+CREATE TABLE IF NOT EXISTS rooms (
+  room_id VARCHAR(100) NOT NULL,
+  host_id VARCHAR(100) NULL,
+  created_at DATETIME(6) NULL,
+  closed_at DATETIME(6) NULL,
+  state VARCHAR(20) NOT NULL,
+  PRIMARY KEY (room_id),
+  KEY idx_rooms_state_created (state, created_at)
+);
+
+-- Backfill: first ROOM_CREATED per room supplies host/time, any ROOM_CLOSED makes the room terminal.
+INSERT IGNORE INTO rooms (room_id, host_id, created_at, closed_at, state)
+SELECT r.room_id,
+       NULLIF(JSON_UNQUOTE(JSON_EXTRACT(c.payload, '$.hostId')), 'null'),
+       c.occurred_at,
+       r.closed_at,
+       IF(r.closed_at IS NULL, 'ACTIVE', 'CLOSED')
+FROM (
+  SELECT room_id,
+         MIN(CASE WHEN event_type = 'ROOM_CREATED' THEN id END) AS created_id,
+         MIN(CASE WHEN event_type = 'ROOM_CLOSED' THEN occurred_at END) AS closed_at
+  FROM room_events
+  WHERE event_type IN ('ROOM_CREATED', 'ROOM_CLOSED')
+  GROUP BY room_id
+) r
+LEFT JOIN room_events c ON c.id = r.created_id;
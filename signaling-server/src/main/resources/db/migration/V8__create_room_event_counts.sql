@@ -0,0 +1,16 @@
+-- Per-room, per-type event counters maintained in the ingest transaction (unfiltered totals without COUNT(*)).
+CREATE TABLE IF NOT EXISTS room_event_counts (
+  room_id VARCHAR(100) NOT NULL,
+  event_type VARCHAR(40) NOT NULL,
+  event_count BIGINT NOT NULL,
+  PRIMARY KEY (room_id, event_type)
+);
+
+-- INSERT ... SELECT cannot take a row alias, so the SELECT is wrapped in a derived table named new instead of VALUES().
+INSERT INTO room_event_counts (room_id, event_type, event_count)
+SELECT * FROM (
+  SELECT room_id, event_type, COUNT(*) AS event_count
+  FROM room_events
+  GROUP BY room_id, event_type
+) AS new
+ON DUPLICATE KEY UPDATE event_count = new.event_count;
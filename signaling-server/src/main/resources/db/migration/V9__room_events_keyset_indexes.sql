@@ -0,0 +1,47 @@
+-- Keyset search orders by (occurred_at, id) within a room; make the tie-breaker part of the index.
+SET @idx_exists = (
+  SELECT COUNT(*)
+  FROM INFORMATION_SCHEMA.STATISTICS
+  WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 'room_events'
+    AND INDEX_NAME = 'idx_room_events_room_time_id'
+);
+SET @sql = IF(@idx_exists = 0,
+  'CREATE INDEX idx_room_events_room_time_id ON room_events (room_id, occurred_at, id)',
+  'SELECT 1'
+);
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- Type-filtered search within a room (replaces the commented-out room+type+time index in V1).
+SET @idx_exists = (
+  SELECT COUNT(*)
+  FROM INFORMATION_SCHEMA.STATISTICS
+  WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 'room_events'
+    AND INDEX_NAME = 'idx_room_events_room_type_time_id'
+);
+SET @sql = IF(@idx_exists = 0,
+  'CREATE INDEX idx_room_events_room_type_time_id ON room_events (room_id, event_type, occurred_at, id)',
+  'SELECT 1'
+);
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- (room_id, occurred_at) is now a prefix of idx_room_events_room_time_id.
+SET @idx_exists = (
+  SELECT COUNT(*)
+  FROM INFORMATION_SCHEMA.STATISTICS
+  WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 'room_events'
+    AND INDEX_NAME = 'idx_room_events_room_time'
+);
+SET @sql = IF(@idx_exists > 0,
+  'DROP INDEX idx_room_events_room_time ON room_events',
+  'SELECT 1'
+);
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
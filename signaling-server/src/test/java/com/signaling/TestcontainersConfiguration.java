@@ -0,0 +1,25 @@
+package com.signaling;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * DB를 쓰는 테스트가 모두 import하는 MySQL 컨테이너. Flyway가 빈 스키마부터 V1을 적용한다.
+ * 이벤트 저장은 room_event_ids, 카운터, 롤업, rooms까지 함께 쓰므로, 공용 개발 DB에서 돌리면 정리되지 않은 행이 남는다.
+ * 같은 설정을 import한 테스트끼리는 스프링 컨텍스트와 함께 컨테이너도 공유한다.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class TestcontainersConfiguration {
+
+    @Bean
+    @ServiceConnection
+    MySQLContainer<?> mysqlContainer() {
+        // 운영 datasource URL과 같은 드라이버 옵션을 준다.
+        return new MySQLContainer<>(DockerImageName.parse("mysql:8.4"))
+                .withUrlParam("serverTimezone", "Asia/Seoul")
+                .withUrlParam("rewriteBatchedStatements", "true");
+    }
+}
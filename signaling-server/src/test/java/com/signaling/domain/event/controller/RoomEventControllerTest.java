@@ -0,0 +1,54 @@
+package com.signaling.domain.event.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import com.signaling.domain.event.dto.RoomEventTotalMode;
+import com.signaling.domain.event.service.RoomEventCountService;
+import com.signaling.domain.event.service.RoomEventIngestService;
+import com.signaling.domain.event.service.RoomEventPageCache;
+import com.signaling.domain.event.service.RoomEventService;
+import com.signaling.domain.event.service.RoomEventWaiters;
+import com.signaling.domain.event.sse.RoomEventStreamHub;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+class RoomEventControllerTest {
+
+    private final RoomEventCountService roomEventCountService = mock(RoomEventCountService.class);
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        RoomEventController controller = new RoomEventController(mock(RoomEventService.class),
+                mock(RoomEventIngestService.class), roomEventCountService, mock(RoomEventPageCache.class),
+                mock(RoomEventStreamHub.class), mock(RoomEventWaiters.class));
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+        when(roomEventCountService.count(any(), any(), any(), any(), any()))
+                .thenReturn(new RoomEventCountService.Total(null, false));
+    }
+
+    @Test
+    void longPollSkipsTheTotalByDefault() throws Exception {
+        mockMvc.perform(get("/api/rooms/room-1/events").param("waitMs", "0"))
+                .andExpect(request().asyncStarted());
+
+        verify(roomEventCountService).count(eq("room-1"), isNull(), isNull(), isNull(), eq(RoomEventTotalMode.NONE));
+    }
+
+    @Test
+    void longPollStillCountsWhenAsked() throws Exception {
+        mockMvc.perform(get("/api/rooms/room-1/events").param("waitMs", "0").param("includeTotal", "exact"))
+                .andExpect(request().asyncStarted());
+
+        verify(roomEventCountService).count(eq("room-1"), isNull(), isNull(), isNull(), eq(RoomEventTotalMode.EXACT));
+    }
+}
@@ -0,0 +1,103 @@
+package com.signaling.domain.event.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.signaling.domain.event.entity.RoomEvent;
+import com.signaling.domain.event.service.RoomEventIngestService;
+import com.signaling.domain.event.service.RoomEventService;
+import jakarta.validation.Validation;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class RoomEventIngestStreamControllerTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private final RoomEventService roomEventService = mock(RoomEventService.class);
+
+    private RoomEventIngestStreamController controller;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(roomEventService.saveAllIfNotExists(anyList())).thenAnswer(invocation -> {
+            List<RoomEvent> events = invocation.getArgument(0);
+            return events.stream().map(event -> new RoomEventService.SaveResult(event, true)).toList();
+        });
+        RoomEventIngestService ingestService = new RoomEventIngestService(roomEventService,
+                Validation.buildDefaultValidatorFactory().getValidator(), objectMapper,
+                mock(ObjectProvider.class));
+        controller = new RoomEventIngestStreamController(ingestService, objectMapper);
+    }
+
+    @Test
+    void everyLineGetsAnAckInOrder() throws Exception {
+        MockHttpServletResponse response = post(event("e-1") + "\n\n" + event("e-2") + "\r\n{broken\n");
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        List<JsonNode> acks = acks(response);
+        assertThat(acks).extracting(ack -> ack.get("status").asText()).containsExactly("CREATED", "CREATED",
+                "INVALID");
+        assertThat(acks).extracting(ack -> ack.get("index").asInt()).containsExactly(0, 1, 2);
+    }
+
+    @Test
+    void oversizedLineIsRejectedWithBadRequestBeforeAnythingIsStored() throws Exception {
+        String huge = "x".repeat(RoomEventIngestService.MAX_STREAM_LINE_BYTES + 1);
+
+        MockHttpServletResponse response = post(huge + "\n" + event("e-1") + "\n");
+
+        assertThat(response.getStatus()).isEqualTo(400);
+        assertThat(objectMapper.readTree(response.getContentAsString()).get("error").asText())
+                .contains(String.valueOf(RoomEventIngestService.MAX_STREAM_LINE_BYTES));
+        verify(roomEventService, never()).saveAllIfNotExists(anyList());
+    }
+
+    @Test
+    void lineAtTheLimitWithoutTrailingNewlineIsStillRead() throws Exception {
+        String line = event("e-1");
+        String padded = line.substring(0, line.length() - 1)
+                + " ".repeat(RoomEventIngestService.MAX_STREAM_LINE_BYTES - line.length()) + "}";
+
+        MockHttpServletResponse response = post(padded);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(acks(response)).extracting(ack -> ack.get("status").asText()).containsExactly("CREATED");
+    }
+
+    private MockHttpServletResponse post(String body) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/events:stream");
+        request.setContentType("application/x-ndjson");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        controller.ingestStream(request, response);
+        return response;
+    }
+
+    private List<JsonNode> acks(MockHttpServletResponse response) throws Exception {
+        return response.getContentAsString().lines().filter(line -> !line.isBlank()).map(line -> {
+            try {
+                return objectMapper.readTree(line);
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+        }).toList();
+    }
+
+    private static String event(String eventId) {
+        return "{\"eventId\":\"" + eventId + "\",\"eventType\":\"PARTICIPANT_JOINED\",\"roomId\":\"stream-room\","
+                + "\"occurredAt\":\"2026-01-01T00:00:00Z\",\"payload\":{}}";
+    }
+}
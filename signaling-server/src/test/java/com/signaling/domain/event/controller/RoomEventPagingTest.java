@@ -0,0 +1,92 @@
+package com.signaling.domain.event.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.signaling.domain.event.controller.RoomEventPaging.Cursor;
+import com.signaling.domain.event.dto.RoomEventField;
+import com.signaling.domain.event.dto.RoomEventPageResponse;
+import com.signaling.domain.event.dto.RoomEventResponse;
+import com.signaling.domain.event.dto.RoomEventTotalMode;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+
+class RoomEventPagingTest {
+
+    private static final Instant BASE = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Test
+    void cursorRoundTripsThroughTheEncodedForm() {
+        Cursor cursor = RoomEventPaging.parseCursor(RoomEventPaging.encodeCursor(item(7)));
+
+        assertThat(Cursor.timeOf(cursor)).isEqualTo(BASE.plusMillis(7));
+        assertThat(Cursor.idOf(cursor)).isEqualTo(7L);
+        assertThat(RoomEventPaging.parseCursor(" ")).isNull();
+        assertThat(Cursor.timeOf(null)).isNull();
+        assertThatThrownBy(() -> RoomEventPaging.parseCursor("abc")).isInstanceOf(ResponseStatusException.class);
+        assertThatThrownBy(() -> RoomEventPaging.parseCursor("1:x")).isInstanceOf(ResponseStatusException.class);
+    }
+
+    @Test
+    void forwardPageDropsTheLookaheadRow() {
+        RoomEventPageResponse page = RoomEventPaging.toPage(items(1, 2, 3), 2, true,
+                EnumSet.allOf(RoomEventField.class));
+
+        assertThat(page.getItems()).extracting(RoomEventResponse::getId).containsExactly(1L, 2L);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(page.getPrevCursor()).isEqualTo(BASE.plusMillis(1).toEpochMilli() + ":1");
+        assertThat(page.getNextCursor()).isEqualTo(BASE.plusMillis(2).toEpochMilli() + ":2");
+    }
+
+    @Test
+    void backwardPageIsReturnedInTimeOrder() {
+        RoomEventPageResponse page = RoomEventPaging.toPage(items(3, 2), 2, false,
+                EnumSet.allOf(RoomEventField.class));
+
+        assertThat(page.getItems()).extracting(RoomEventResponse::getId).containsExactly(2L, 3L);
+        assertThat(page.isHasNext()).isFalse();
+    }
+
+    @Test
+    void cursorsSurviveWhenIdAndTimeAreNotSelected() {
+        RoomEventPageResponse page = RoomEventPaging.toPage(items(1), 5, true, EnumSet.of(RoomEventField.EVENT_ID));
+
+        assertThat(page.getNextCursor()).isEqualTo(BASE.plusMillis(1).toEpochMilli() + ":1");
+        assertThat(page.getItems().get(0).getId()).isNull();
+        assertThat(page.getItems().get(0).getEventId()).isEqualTo("e-1");
+    }
+
+    @Test
+    void parametersAreNormalized() {
+        assertThat(RoomEventPaging.clamp(null, 1, 500, 100)).isEqualTo(100);
+        assertThat(RoomEventPaging.clamp(0, 1, 500, 100)).isEqualTo(1);
+        assertThat(RoomEventPaging.clamp(1000, 1, 500, 100)).isEqualTo(500);
+        assertThat(RoomEventPaging.isForward("PREV")).isFalse();
+        assertThat(RoomEventPaging.isForward(null)).isTrue();
+        assertThat(RoomEventPaging.parseTotalMode("Approximate")).isEqualTo(RoomEventTotalMode.APPROXIMATE);
+        assertThatThrownBy(() -> RoomEventPaging.parseTotalMode("all")).isInstanceOf(ResponseStatusException.class);
+        assertThat(RoomEventPaging.resolveFields(List.of("id", " eventType"), true))
+                .containsExactlyInAnyOrder(RoomEventField.ID, RoomEventField.EVENT_TYPE, RoomEventField.PAYLOAD);
+        assertThat(RoomEventPaging.resolveFields(null, false)).doesNotContain(RoomEventField.PAYLOAD);
+    }
+
+    private static List<RoomEventResponse> items(long... ids) {
+        List<RoomEventResponse> items = new ArrayList<>();
+        for (long id : ids) {
+            items.add(item(id));
+        }
+        return items;
+    }
+
+    private static RoomEventResponse item(long id) {
+        RoomEventResponse response = new RoomEventResponse();
+        response.setId(id);
+        response.setEventId("e-" + id);
+        response.setOccurredAt(BASE.plusMillis(id));
+        return response;
+    }
+}
@@ -0,0 +1,60 @@
+package com.signaling.domain.event.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.signaling.domain.event.entity.RoomEventType;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+class RoomEventFieldsResponseTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @Test
+    void allFieldsKeepTheExistingResponseShape() throws Exception {
+        List<RoomEventResponse> items = List.of(event());
+
+        List<RoomEventResponse> selected = RoomEventFieldsResponse.select(items, EnumSet.allOf(RoomEventField.class));
+
+        assertThat(selected).isSameAs(items);
+        JsonNode json = objectMapper.valueToTree(selected.get(0));
+        assertThat(json.has("payload")).isTrue();
+        assertThat(json.get("payload").isNull()).isTrue();
+    }
+
+    @Test
+    void selectedFieldsDropEverythingElse() {
+        List<RoomEventResponse> selected = RoomEventFieldsResponse.select(List.of(event()),
+                EnumSet.of(RoomEventField.EVENT_ID, RoomEventField.EVENT_TYPE));
+
+        JsonNode json = objectMapper.valueToTree(selected.get(0));
+        assertThat(json.fieldNames()).toIterable().containsExactlyInAnyOrder("eventId", "eventType");
+        assertThat(json.get("eventId").asText()).isEqualTo("e-1");
+    }
+
+    @Test
+    void plainResponseStillWritesNullFields() {
+        RoomEventResponse response = new RoomEventResponse();
+        response.setEventId("e-1");
+
+        JsonNode json = objectMapper.valueToTree(response);
+
+        assertThat(json.has("roomId")).isTrue();
+        assertThat(json.has("payload")).isTrue();
+    }
+
+    private RoomEventResponse event() {
+        RoomEventResponse response = new RoomEventResponse();
+        response.setId(1L);
+        response.setEventId("e-1");
+        response.setEventType(RoomEventType.PARTICIPANT_JOINED);
+        response.setOccurredAt(Instant.parse("2026-01-01T00:00:00Z"));
+        response.setRoomId("room-1");
+        return response;
+    }
+}
@@ -0,0 +1,133 @@
+package com.signaling.domain.event.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.signaling.domain.event.entity.RoomEventType;
+import com.signaling.global.json.RawJson;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * SFU가 보내는 이벤트 구성(입장/퇴장/프로듀서 위주)으로 JSON, CBOR, Smile의 크기와 직렬화/역직렬화 비용 비교.
+ * ./gradlew benchmark 로 실행한다.
+ */
+@Tag("benchmark")
+class RoomEventWireFormatBenchmarkTest {
+
+    private static final ObjectMapper PAYLOAD_WRITER = new ObjectMapper();
+    private static final int EVENTS = 1_000;
+    private static final int WARMUP_ROUNDS = 200;
+    private static final int MEASURED_ROUNDS = 500;
+
+    @Test
+    void compareJsonCborAndSmile() throws Exception {
+        List<RoomEventRequest> events = typicalEventMix();
+
+        run("JSON ", Jackson2ObjectMapperBuilder.json().build(), events);
+        run("CBOR ", Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()).build(), events);
+        run("Smile", Jackson2ObjectMapperBuilder.json().factory(new SmileFactory()).build(), events);
+    }
+
+    private void run(String label, ObjectMapper mapper, List<RoomEventRequest> events) throws Exception {
+        ObjectWriter writer = mapper.writerFor(RoomEventRequest.class);
+        ObjectReader reader = mapper.readerFor(RoomEventRequest.class);
+
+        List<byte[]> encoded = new ArrayList<>(events.size());
+        long bytes = 0;
+        for (RoomEventRequest event : events) {
+            byte[] body = writer.writeValueAsBytes(event);
+            encoded.add(body);
+            bytes += body.length;
+        }
+        RoomEventRequest decoded = reader.readValue(encoded.get(0));
+        assertThat(decoded.getEventId()).isEqualTo(events.get(0).getEventId());
+        assertThat(decoded.getPayload()).isEqualTo(events.get(0).getPayload());
+
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            roundTrip(writer, reader, events, encoded);
+        }
+        long serializeNanos = 0;
+        long parseNanos = 0;
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            long[] nanos = roundTrip(writer, reader, events, encoded);
+            serializeNanos += nanos[0];
+            parseNanos += nanos[1];
+        }
+        long total = (long) EVENTS * MEASURED_ROUNDS;
+        System.out.printf("%s: %,7.1f bytes/event, serialize %,6.0f ns/event, parse %,6.0f ns/event%n",
+                label, (double) bytes / EVENTS, (double) serializeNanos / total, (double) parseNanos / total);
+    }
+
+    private long[] roundTrip(ObjectWriter writer, ObjectReader reader, List<RoomEventRequest> events,
+            List<byte[]> encoded) throws Exception {
+        long start = System.nanoTime();
+        for (RoomEventRequest event : events) {
+            writer.writeValueAsBytes(event);
+        }
+        long serialized = System.nanoTime();
+        for (byte[] body : encoded) {
+            reader.readValue(body);
+        }
+        return new long[] {serialized - start, System.nanoTime() - serialized};
+    }
+
+    private List<RoomEventRequest> typicalEventMix() throws Exception {
+        List<RoomEventRequest> events = new ArrayList<>(EVENTS);
+        for (int i = 0; i < EVENTS; i++) {
+            String roomId = "room-" + (i % 20);
+            String userId = "user-" + (i % 300);
+            Map<String, Object> payload = new LinkedHashMap<>();
+            RoomEventType eventType;
+            switch (i % 10) {
+                case 0 -> {
+                    eventType = RoomEventType.ROOM_CREATED;
+                    payload.put("hostId", userId);
+                    payload.put("name", "Weekly sync " + i);
+                }
+                case 1, 2, 3 -> {
+                    eventType = RoomEventType.PARTICIPANT_JOINED;
+                    payload.put("userId", userId);
+                    payload.put("role", "viewer");
+                    payload.put("sessionId", UUID.randomUUID().toString());
+                }
+                case 4, 5 -> {
+                    eventType = RoomEventType.PARTICIPANT_LEFT;
+                    payload.put("userId", userId);
+                    payload.put("role", "viewer");
+                    payload.put("sessionId", UUID.randomUUID().toString());
+                }
+                case 6, 7 -> {
+                    eventType = RoomEventType.PRODUCER_CREATED;
+                    payload.put("producerId", UUID.randomUUID().toString());
+                    payload.put("kind", i % 2 == 0 ? "video" : "audio");
+                    payload.put("userId", userId);
+                }
+                case 8 -> {
+                    eventType = RoomEventType.PRODUCER_CLOSED;
+                    payload.put("producerId", UUID.randomUUID().toString());
+                }
+                default -> eventType = RoomEventType.ROOM_CLOSED;
+            }
+            RoomEventRequest event = new RoomEventRequest();
+            event.setEventId(UUID.randomUUID().toString());
+            event.setEventType(eventType);
+            event.setRoomId(roomId);
+            event.setOccurredAt(Instant.now());
+            event.setPayload(RawJson.of(PAYLOAD_WRITER.writeValueAsString(payload)));
+            events.add(event);
+        }
+        return events;
+    }
+}
@@ -0,0 +1,167 @@
+package com.signaling.domain.event.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.signaling.TestcontainersConfiguration;
+import com.signaling.domain.event.entity.RoomEvent;
+import com.signaling.domain.event.entity.RoomEventType;
+import com.signaling.global.id.SnowflakeIdGenerator;
+import com.signaling.global.json.RawJson;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * room_events에는 event_id 유니크 키가 없으므로, room_event_ids에 먼저 자리를 잡은 쪽만 이벤트를 넣는지 확인한다.
+ */
+@SpringBootTest(properties = "event-partition.maintenance-enabled=false")
+@Import(TestcontainersConfiguration.class)
+class RoomEventDedupeTest {
+
+    private static final int THREADS = 8;
+    private static final int EVENTS_PER_BATCH = 50;
+    private static final Instant OCCURRED_AT = Instant.parse("2026-10-01T00:00:00Z");
+
+    @Autowired
+    private RoomEventRepository roomEventRepository;
+
+    @Autowired
+    private SnowflakeIdGenerator idGenerator;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<String> eventIds = new ArrayList<>();
+
+    @AfterEach
+    void cleanUp() {
+        if (eventIds.isEmpty()) {
+            return;
+        }
+        String in = String.join(", ", Collections.nCopies(eventIds.size(), "?"));
+        jdbcTemplate.update("DELETE FROM room_events WHERE event_id IN (" + in + ")", eventIds.toArray());
+        jdbcTemplate.update("DELETE FROM room_event_ids WHERE event_id IN (" + in + ")", eventIds.toArray());
+    }
+
+    @Test
+    void secondInsertOfTheSameEventIdIsRejected() {
+        String eventId = newEventId();
+        RoomEvent first = event(eventId, 0);
+        RoomEvent second = event(eventId, 5);
+
+        assertThat(roomEventRepository.insertIfAbsent(first)).isTrue();
+        assertThat(roomEventRepository.insertIfAbsent(second)).isFalse();
+
+        assertThat(rows("room_events", eventId)).isEqualTo(1);
+        List<RoomEvent> stored = transactionTemplate.execute(status ->
+                roomEventRepository.findCommittedByEventIdIn(List.of(eventId)));
+        assertThat(stored).singleElement().satisfies(event -> {
+            assertThat(event.getId()).isEqualTo(first.getId());
+            assertThat(event.getOccurredAt()).isEqualTo(first.getOccurredAt());
+        });
+    }
+
+    @Test
+    void batchInsertsOnlyUnclaimedEventsAndReturnsStoredIds() {
+        RoomEvent existing = event(newEventId(), 0);
+        roomEventRepository.insertIfAbsent(existing);
+        RoomEvent duplicate = event(existing.getEventId(), 1);
+        RoomEvent fresh = event(newEventId(), 2);
+
+        Map<String, Long> storedIds = transactionTemplate.execute(status ->
+                roomEventRepository.insertAllIfAbsent(List.of(duplicate, fresh)));
+
+        assertThat(storedIds).containsEntry(existing.getEventId(), existing.getId())
+                .containsEntry(fresh.getEventId(), fresh.getId());
+        assertThat(rows("room_events", existing.getEventId())).isEqualTo(1);
+        assertThat(rows("room_events", fresh.getEventId())).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentOverlappingBatchesStoreEachEventOnce() throws Exception {
+        List<String> shared = new ArrayList<>();
+        for (int i = 0; i < EVENTS_PER_BATCH; i++) {
+            shared.add(newEventId());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Map<String, Long>>> futures = new ArrayList<>();
+        try {
+            for (int t = 0; t < THREADS; t++) {
+                // 스레드마다 다른 id, 다른 순서로 같은 event_id를 넣는다.
+                List<RoomEvent> batch = new ArrayList<>();
+                for (int i = 0; i < shared.size(); i++) {
+                    batch.add(event(shared.get(i), i));
+                }
+                Collections.shuffle(batch);
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return transactionTemplate.execute(status -> roomEventRepository.insertAllIfAbsent(batch));
+                }));
+            }
+            start.countDown();
+
+            Map<String, Long> winners = futures.get(0).get(30, TimeUnit.SECONDS);
+            for (Future<Map<String, Long>> future : futures) {
+                assertThat(future.get(30, TimeUnit.SECONDS)).isEqualTo(winners);
+            }
+            assertThat(winners).containsOnlyKeys(shared);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (String eventId : shared) {
+            assertThat(rows("room_events", eventId)).as(eventId).isEqualTo(1);
+            assertThat(rows("room_event_ids", eventId)).as(eventId).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void occurredAtIsStoredAtMicrosecondPrecision() {
+        // 나노초가 남아 있으면 MySQL이 반올림해 저장하므로, 엔티티에서 미리 잘라 둔 값 그대로 읽혀야 한다.
+        String eventId = newEventId();
+        RoomEvent event = new RoomEvent(eventId, RoomEventType.PARTICIPANT_JOINED, "dedupe-room",
+                Instant.parse("2026-10-01T00:00:59.999999999Z"), RawJson.of("{}")).withId(idGenerator.nextId());
+
+        assertThat(event.getOccurredAt()).isEqualTo(Instant.parse("2026-10-01T00:00:59.999999Z"));
+        assertThat(roomEventRepository.insertIfAbsent(event)).isTrue();
+        List<RoomEvent> stored = transactionTemplate.execute(status ->
+                roomEventRepository.findCommittedByEventIdIn(List.of(eventId)));
+        assertThat(stored).singleElement().extracting(RoomEvent::getOccurredAt).isEqualTo(event.getOccurredAt());
+    }
+
+    private String newEventId() {
+        String eventId = "dedupe-" + UUID.randomUUID();
+        eventIds.add(eventId);
+        return eventId;
+    }
+
+    private RoomEvent event(String eventId, int offsetSeconds) {
+        return new RoomEvent(eventId, RoomEventType.PARTICIPANT_JOINED, "dedupe-room",
+                OCCURRED_AT.plusSeconds(offsetSeconds), RawJson.of("{}")).withId(idGenerator.nextId());
+    }
+
+    private long rows(String table, String eventId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE event_id = ?", Long.class,
+                eventId);
+    }
+}
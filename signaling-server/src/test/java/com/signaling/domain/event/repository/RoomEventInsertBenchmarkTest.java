@@ -0,0 +1,89 @@
+package com.signaling.domain.event.repository;
+
+import com.signaling.global.id.SnowflakeIdGenerator;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+
+/**
+ * IDENTITY 키(행마다 INSERT 후 키 회수)와 애플리케이션 발급 키(JDBC 배치 INSERT)의 삽입 처리량 비교.
+ * ./gradlew benchmark 로 실행하며, 운영 테이블을 건드리지 않도록 임시 테이블을 사용한다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+class RoomEventInsertBenchmarkTest {
+
+    private static final int EVENTS = 20_000;
+    private static final int BATCH_SIZE = 500;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SnowflakeIdGenerator idGenerator;
+
+    @BeforeEach
+    void createTables() {
+        dropTables();
+        jdbcTemplate.execute("CREATE TABLE bench_events_identity LIKE room_events");
+        jdbcTemplate.execute("ALTER TABLE bench_events_identity MODIFY id BIGINT NOT NULL AUTO_INCREMENT");
+        jdbcTemplate.execute("CREATE TABLE bench_events_snowflake LIKE room_events");
+    }
+
+    @AfterEach
+    void dropTables() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS bench_events_identity");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS bench_events_snowflake");
+    }
+
+    @Test
+    void compareIdentityAndSnowflakeInsertThroughput() {
+        List<String> eventIds = new ArrayList<>(EVENTS);
+        for (int i = 0; i < EVENTS; i++) {
+            eventIds.add(UUID.randomUUID().toString());
+        }
+        Timestamp occurredAt = Timestamp.from(Instant.now());
+
+        long identityStart = System.nanoTime();
+        for (String eventId : eventIds) {
+            jdbcTemplate.update(connection -> {
+                PreparedStatement ps = connection.prepareStatement(
+                        "INSERT IGNORE INTO bench_events_identity (event_id, event_type, room_id, occurred_at, payload) "
+                                + "VALUES (?, 'PARTICIPANT_JOINED', 'bench-room', ?, '{}')",
+                        Statement.RETURN_GENERATED_KEYS);
+                ps.setString(1, eventId);
+                ps.setTimestamp(2, occurredAt);
+                return ps;
+            }, new GeneratedKeyHolder());
+        }
+        long identityNanos = System.nanoTime() - identityStart;
+
+        long snowflakeStart = System.nanoTime();
+        jdbcTemplate.batchUpdate(
+                "INSERT IGNORE INTO bench_events_snowflake (id, event_id, event_type, room_id, occurred_at, payload) "
+                        + "VALUES (?, ?, 'PARTICIPANT_JOINED', 'bench-room', ?, '{}')",
+                eventIds, BATCH_SIZE, (ps, eventId) -> {
+                    ps.setLong(1, idGenerator.nextId());
+                    ps.setString(2, eventId);
+                    ps.setTimestamp(3, occurredAt);
+                });
+        long snowflakeNanos = System.nanoTime() - snowflakeStart;
+
+        System.out.printf("IDENTITY row-by-row : %,d events in %,d ms (%,.0f events/s)%n",
+                EVENTS, identityNanos / 1_000_000, EVENTS / (identityNanos / 1e9));
+        System.out.printf("Snowflake batch(%d): %,d events in %,d ms (%,.0f events/s)%n",
+                BATCH_SIZE, EVENTS, snowflakeNanos / 1_000_000, EVENTS / (snowflakeNanos / 1e9));
+    }
+}
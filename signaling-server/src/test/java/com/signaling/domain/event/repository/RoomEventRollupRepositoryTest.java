@@ -0,0 +1,108 @@
+package com.signaling.domain.event.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.signaling.TestcontainersConfiguration;
+import com.signaling.domain.event.dto.RoomEventBucketSize;
+import com.signaling.domain.event.entity.RoomEvent;
+import com.signaling.domain.event.entity.RoomEventType;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+@Import(TestcontainersConfiguration.class)
+class RoomEventRollupRepositoryTest {
+
+    private static final Instant HOUR = Instant.parse("2026-01-01T10:00:00Z");
+    private static final Instant DAY = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Autowired
+    private RoomEventRollupRepository rollupRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final String roomId = "rollup-" + UUID.randomUUID();
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM room_event_rollups WHERE room_id = ?", roomId);
+    }
+
+    @Test
+    void minuteIncrementsAddUpAndRebuildOverwritesCoarserBuckets() {
+        rollupRepository.incrementMinutes(List.of(event(HOUR.plusSeconds(5)), event(HOUR.plusSeconds(50))));
+        rollupRepository.incrementMinutes(List.of(event(HOUR.plusSeconds(70))));
+
+        assertThat(count(RoomEventBucketSize.MINUTE, HOUR)).isEqualTo(2);
+        assertThat(count(RoomEventBucketSize.MINUTE, HOUR.plusSeconds(60))).isEqualTo(1);
+
+        // 두 번 다시 만들어도 더해지지 않고 같은 값으로 덮어쓴다.
+        rollupRepository.rebuild(RoomEventBucketSize.HOUR, HOUR);
+        rollupRepository.rebuild(RoomEventBucketSize.HOUR, HOUR);
+        rollupRepository.rebuild(RoomEventBucketSize.DAY, DAY);
+        assertThat(count(RoomEventBucketSize.HOUR, HOUR)).isEqualTo(3);
+        assertThat(count(RoomEventBucketSize.DAY, DAY)).isEqualTo(3);
+
+        rollupRepository.incrementMinutes(List.of(event(HOUR.plusSeconds(120))));
+        rollupRepository.rebuild(RoomEventBucketSize.HOUR, HOUR);
+        assertThat(count(RoomEventBucketSize.HOUR, HOUR)).isEqualTo(4);
+    }
+
+    @Test
+    void rebuildInsideAnOpenTransactionDoesNotBlockMinuteIncrements() throws Exception {
+        rollupRepository.incrementMinutes(List.of(event(HOUR.plusSeconds(5))));
+        TransactionTemplate repeatableRead = new TransactionTemplate(transactionManager);
+        repeatableRead.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        CountDownLatch rebuilt = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Void> compactor = CompletableFuture.runAsync(() -> repeatableRead.executeWithoutResult(
+                status -> {
+                    rollupRepository.rebuild(RoomEventBucketSize.HOUR, HOUR);
+                    rebuilt.countDown();
+                    try {
+                        release.await(30, TimeUnit.SECONDS);
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                }));
+        try {
+            assertThat(rebuilt.await(10, TimeUnit.SECONDS)).isTrue();
+            // 읽은 분 단위 행에 공유 잠금이 남아 있으면 잠금 대기 시간까지 막힌다.
+            CompletableFuture.runAsync(() -> rollupRepository.incrementMinutes(List.of(event(HOUR.plusSeconds(6)))))
+                    .get(5, TimeUnit.SECONDS);
+        } finally {
+            release.countDown();
+            compactor.get(30, TimeUnit.SECONDS);
+        }
+        assertThat(count(RoomEventBucketSize.MINUTE, HOUR)).isEqualTo(2);
+    }
+
+    private long count(RoomEventBucketSize size, Instant bucketStart) {
+        return rollupRepository.findBuckets(roomId, size, bucketStart, bucketStart.plusMillis(1), null).stream()
+                .mapToLong(RoomEventRollupRepository.Row::getCount)
+                .sum();
+    }
+
+    private RoomEvent event(Instant occurredAt) {
+        return new RoomEvent(UUID.randomUUID().toString(), RoomEventType.PARTICIPANT_JOINED, roomId, occurredAt,
+                null);
+    }
+}
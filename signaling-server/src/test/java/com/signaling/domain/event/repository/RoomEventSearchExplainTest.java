@@ -0,0 +1,149 @@
+package com.signaling.domain.event.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.signaling.TestcontainersConfiguration;
+import com.signaling.domain.event.dto.RoomEventField;
+import com.signaling.domain.event.entity.RoomEventType;
+import com.signaling.domain.event.repository.RoomEventPartitionRepository.Partition;
+import com.signaling.global.id.SnowflakeIdGenerator;
+import com.signaling.global.persistence.JdbcTimestamps;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * RoomEventRepositoryImpl.search/count가 만드는 쿼리 모양별로 EXPLAIN이 기대한 인덱스의 range 접근인지 확인한다.
+ * 손으로 옮긴 SQL이 아니라 {@link StatementCapture}로 가로챈 실제 SQL과 바인딩 값을 그대로 EXPLAIN한다.
+ * 빈 컨테이너 DB에는 이번 달 파티션과 p_future만 있으므로, 이벤트를 가장 이른 범위 파티션의 경계 양쪽에 나눠 넣어
+ * 두 파티션에 걸치게 한다.
+ */
+@SpringBootTest(properties = "event-partition.maintenance-enabled=false")
+@Import({StatementCapture.class, TestcontainersConfiguration.class})
+class RoomEventSearchExplainTest {
+
+    private static final String ROOM = "explain-room-" + UUID.randomUUID();
+    private static final String OTHER_ROOM = "explain-other-" + UUID.randomUUID();
+    private static final int EVENTS_PER_ROOM = 3_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SnowflakeIdGenerator idGenerator;
+
+    @Autowired
+    private RoomEventRepository roomEventRepository;
+
+    @Autowired
+    private RoomEventPartitionRepository partitionRepository;
+
+    private Instant base;
+    private Partition lowerPartition;
+
+    @BeforeEach
+    void seed() {
+        lowerPartition = partitionRepository.findPartitions().get(0);
+        assertThat(lowerPartition.getUpperBound()).as("room_events must be range partitioned").isNotNull();
+        base = lowerPartition.getUpperBound().minusSeconds(EVENTS_PER_ROOM / 2);
+        RoomEventType[] types = RoomEventType.values();
+        List<Object[]> rows = new ArrayList<>();
+        for (String roomId : List.of(ROOM, OTHER_ROOM)) {
+            for (int i = 0; i < EVENTS_PER_ROOM; i++) {
+                rows.add(new Object[] {roomId, types[i % types.length].name(), base.plusSeconds(i)});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO room_events (id, event_id, event_type, room_id, occurred_at, payload) "
+                + "VALUES (?, ?, ?, ?, ?, '{}')", rows, 500, (ps, row) -> {
+                    ps.setLong(1, idGenerator.nextId());
+                    ps.setString(2, UUID.randomUUID().toString());
+                    ps.setString(3, (String) row[1]);
+                    ps.setString(4, (String) row[0]);
+                    JdbcTimestamps.bind(ps, 5, (Instant) row[2]);
+                });
+        jdbcTemplate.execute("ANALYZE TABLE room_events");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM room_events WHERE room_id IN (?, ?)", ROOM, OTHER_ROOM);
+    }
+
+    @Test
+    void forwardCursorUsesRoomTimeIdRange() {
+        assertRange(() -> search(ROOM, null, true), "idx_room_events_room_time_id");
+    }
+
+    @Test
+    void backwardCursorUsesRoomTimeIdRange() {
+        assertRange(() -> search(ROOM, null, false), "idx_room_events_room_time_id");
+    }
+
+    @Test
+    void typeFilteredCursorUsesRoomTypeTimeIdRange() {
+        assertRange(() -> search(ROOM, List.of(RoomEventType.PARTICIPANT_JOINED), true),
+                "idx_room_events_room_type_time_id");
+    }
+
+    @Test
+    void crossRoomFeedUsesTypeTimeRange() {
+        // InnoDB 보조 인덱스 끝에 PK(id, occurred_at)가 붙으므로 (event_type, occurred_at)만으로도 (occurred_at, id) 순서가 나온다.
+        assertRange(() -> search(null, List.of(RoomEventType.ROOM_CREATED), true), "idx_room_events_type_time");
+    }
+
+    @Test
+    void timeRangeCountUsesRoomTimeIdRange() {
+        assertRange(() -> roomEventRepository.count(ROOM, cursorTime(), cursorTime().plusSeconds(600), null),
+                "idx_room_events_room_time_id");
+    }
+
+    @Test
+    void timeBoundedSearchReadsOnlyCoveringPartition() {
+        // 10분 구간은 경계 아래 파티션 하나에 들어간다.
+        assertThat(partitions(() -> roomEventRepository.search(ROOM, base, base.plusSeconds(600), null, null, null,
+                true, 101, EnumSet.allOf(RoomEventField.class)))).containsExactly(lowerPartition.getName());
+    }
+
+    @Test
+    void forwardCursorSkipsPartitionsBeforeTheCursor() {
+        // 기간 조건이 없어도 다음 페이지는 커서 시각이 하한이 되어, 커서보다 앞선 파티션은 읽지 않는다.
+        List<String> partitions = partitions(() -> roomEventRepository.search(ROOM, null, null, null,
+                lowerPartition.getUpperBound(), 0L, true, 101, EnumSet.allOf(RoomEventField.class)));
+
+        assertThat(partitions).isNotEmpty().doesNotContain(lowerPartition.getName());
+    }
+
+    private Instant cursorTime() {
+        return base.plusSeconds(EVENTS_PER_ROOM / 2);
+    }
+
+    private void search(String roomId, List<RoomEventType> types, boolean forward) {
+        roomEventRepository.search(roomId, null, null, types, cursorTime(), Long.MAX_VALUE / 2, forward, 101,
+                EnumSet.allOf(RoomEventField.class));
+    }
+
+    private List<String> partitions(Runnable query) {
+        StatementCapture.CapturedStatement statement = StatementCapture.captureSingle(query, "room_events");
+        List<Map<String, Object>> plan = StatementCapture.explain(jdbcTemplate, statement);
+        assertThat(plan).hasSize(1);
+        return List.of(((String) plan.get(0).get("partitions")).split(","));
+    }
+
+    private void assertRange(Runnable query, String expectedKey) {
+        StatementCapture.CapturedStatement statement = StatementCapture.captureSingle(query, "room_events");
+        List<Map<String, Object>> plan = StatementCapture.explain(jdbcTemplate, statement);
+        assertThat(plan).hasSize(1);
+        assertThat(plan.get(0).get("key")).as("index for %s", statement).isEqualTo(expectedKey);
+        assertThat(plan.get(0).get("type")).as("access type for %s", statement).isEqualTo("range");
+    }
+}
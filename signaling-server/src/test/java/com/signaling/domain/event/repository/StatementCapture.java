@@ -0,0 +1,163 @@
+package com.signaling.domain.event.repository;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.ColumnMapRowMapper;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapperResultSetExtractor;
+
+/**
+ * DataSource를 감싸 capture 안에서 준비된 PreparedStatement의 SQL과 바인딩 호출을 그대로 기록한다.
+ * Hibernate/Querydsl과 JdbcTemplate이 실제로 보내는 쿼리를 같은 파라미터로 EXPLAIN하는 데 쓴다.
+ */
+@TestConfiguration
+class StatementCapture {
+
+    private static final ThreadLocal<List<CapturedStatement>> RECORDING = new ThreadLocal<>();
+
+    @Bean
+    static BeanPostProcessor statementCapturingDataSource() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource ? proxy(DataSource.class, dataSource) : bean;
+            }
+        };
+    }
+
+    /**
+     * action이 현재 스레드에서 준비한 SELECT 문을 순서대로 돌려준다.
+     */
+    static List<CapturedStatement> capture(Runnable action) {
+        List<CapturedStatement> statements = new ArrayList<>();
+        RECORDING.set(statements);
+        try {
+            action.run();
+        } finally {
+            RECORDING.remove();
+        }
+        return statements.stream().filter(statement -> statement.sql.trim().regionMatches(true, 0, "select", 0, 6))
+                .toList();
+    }
+
+    static CapturedStatement captureSingle(Runnable action) {
+        List<CapturedStatement> statements = capture(action);
+        if (statements.size() != 1) {
+            throw new IllegalStateException("Expected one SELECT but captured " + statements);
+        }
+        return statements.get(0);
+    }
+
+    /**
+     * action이 준비한 SELECT 중 table을 FROM으로 읽는 한 문장. 같은 동작에서 도는 다른 테이블 쿼리는 건너뛴다.
+     */
+    static CapturedStatement captureSingle(Runnable action, String table) {
+        Pattern from = Pattern.compile("(?i)\\bfrom\\s+" + Pattern.quote(table) + "\\b");
+        List<CapturedStatement> statements = capture(action).stream()
+                .filter(statement -> from.matcher(statement.sql).find())
+                .toList();
+        if (statements.size() != 1) {
+            throw new IllegalStateException("Expected one SELECT from " + table + " but captured " + statements);
+        }
+        return statements.get(0);
+    }
+
+    static List<Map<String, Object>> explain(JdbcTemplate jdbcTemplate, CapturedStatement statement) {
+        return jdbcTemplate.execute((ConnectionCallback<List<Map<String, Object>>>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement("EXPLAIN " + statement.sql)) {
+                statement.bind(ps);
+                try (ResultSet rs = ps.executeQuery()) {
+                    return new RowMapperResultSetExtractor<>(new ColumnMapRowMapper()).extractData(rs);
+                }
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target) {
+        return (T) Proxy.newProxyInstance(StatementCapture.class.getClassLoader(), new Class<?>[] {type},
+                new Recorder(target, null));
+    }
+
+    static final class CapturedStatement {
+        private final String sql;
+        private final List<Object[]> bindings = new ArrayList<>();
+
+        private CapturedStatement(String sql) {
+            this.sql = sql;
+        }
+
+        String sql() {
+            return sql;
+        }
+
+        // 원래 문장에 했던 setXxx 호출을 같은 인자로 되풀이한다. 타임존 Calendar 등도 그대로 전달된다.
+        private void bind(PreparedStatement ps) throws SQLException {
+            for (Object[] binding : bindings) {
+                Method method = (Method) binding[0];
+                try {
+                    method.invoke(ps, (Object[]) binding[1]);
+                } catch (IllegalAccessException | InvocationTargetException ex) {
+                    throw new SQLException("Failed to replay " + method.getName(), ex);
+                }
+            }
+        }
+
+        @Override
+        public String toString() {
+            return sql;
+        }
+    }
+
+    private static final class Recorder implements InvocationHandler {
+        private final Object target;
+        private final CapturedStatement captured;
+
+        private Recorder(Object target, CapturedStatement captured) {
+            this.target = target;
+            this.captured = captured;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getTargetException();
+            }
+            if (result instanceof Connection connection && method.getName().equals("getConnection")) {
+                return Proxy.newProxyInstance(StatementCapture.class.getClassLoader(),
+                        new Class<?>[] {Connection.class}, new Recorder(connection, null));
+            }
+            List<CapturedStatement> recording = RECORDING.get();
+            if (recording != null && result instanceof PreparedStatement statement
+                    && method.getName().equals("prepareStatement")) {
+                CapturedStatement next = new CapturedStatement((String) args[0]);
+                recording.add(next);
+                return Proxy.newProxyInstance(StatementCapture.class.getClassLoader(),
+                        new Class<?>[] {PreparedStatement.class}, new Recorder(statement, next));
+            }
+            if (captured != null && method.getName().startsWith("set") && args != null && args.length >= 2
+                    && args[0] instanceof Integer) {
+                captured.bindings.add(new Object[] {method, args.clone()});
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.signaling.domain.event.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.signaling.domain.event.entity.RoomEvent;
+import com.signaling.domain.event.entity.RoomEventType;
+import com.signaling.global.config.EventDedupeProperties;
+import com.signaling.global.json.RawJson;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+
+class RecentEventIdFilterTest {
+
+    @Test
+    void rememberingTheSameEventIdAgainDoesNotGrowTheOrderQueue() {
+        RecentEventIdFilter filter = filter(100);
+        RoomEvent event = event("e-1");
+
+        for (int i = 0; i < 1_000; i++) {
+            filter.remember(event);
+        }
+
+        assertThat(filter.queuedEntries()).isEqualTo(1);
+        assertThat(filter.findRecent("e-1")).isSameAs(event);
+    }
+
+    @Test
+    void overflowMovesOldestEventIdsIntoTheBloomFilter() {
+        RecentEventIdFilter filter = filter(2);
+
+        filter.remember(event("e-1"));
+        filter.remember(event("e-1"));
+        filter.remember(event("e-2"));
+        filter.remember(event("e-3"));
+
+        assertThat(filter.queuedEntries()).isEqualTo(2);
+        assertThat(filter.findRecent("e-1")).isNull();
+        assertThat(filter.mightHaveSeen("e-1")).isTrue();
+        assertThat(filter.findRecent("e-2")).isNotNull();
+        assertThat(filter.findRecent("e-3")).isNotNull();
+    }
+
+    @Test
+    void unseenEventIdIsNeitherRecentNorInTheBloomFilter() {
+        RecentEventIdFilter filter = filter(100);
+        filter.remember(event("e-1"));
+
+        assertThat(filter.findRecent("e-2")).isNull();
+        assertThat(filter.mightHaveSeen("e-2")).isFalse();
+    }
+
+    private static RecentEventIdFilter filter(int maxEntries) {
+        EventDedupeProperties properties = new EventDedupeProperties();
+        properties.setEnabled(true);
+        properties.setRecentWindowSeconds(3600);
+        properties.setRecentMaxEntries(maxEntries);
+        properties.setBloomExpectedInsertions(10_000);
+        properties.setBloomFalsePositiveRate(0.0001);
+        return new RecentEventIdFilter(properties, new SimpleMeterRegistry());
+    }
+
+    private static RoomEvent event(String eventId) {
+        return new RoomEvent(eventId, RoomEventType.PARTICIPANT_JOINED, "dedupe-room",
+                Instant.parse("2026-01-01T00:00:00Z"), RawJson.EMPTY_OBJECT);
+    }
+}
@@ -0,0 +1,88 @@
+package com.signaling.domain.event.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.signaling.TestcontainersConfiguration;
+import com.signaling.domain.event.dto.RoomEventField;
+import com.signaling.domain.event.dto.RoomEventResponse;
+import com.signaling.domain.event.entity.RoomEvent;
+import com.signaling.domain.event.entity.RoomEventType;
+import com.signaling.domain.event.repository.RoomEventRepository;
+import com.signaling.domain.event.repository.RoomEventSlice;
+import com.signaling.global.json.RawJson;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+@SpringBootTest
+@Import(TestcontainersConfiguration.class)
+class RoomEventBulkSearchTest {
+
+    private static final Instant BASE = Instant.now().truncatedTo(ChronoUnit.SECONDS).minusSeconds(3600);
+
+    @Autowired
+    private RoomEventService roomEventService;
+
+    @Autowired
+    private RoomEventRepository roomEventRepository;
+
+    private final List<String> eventIds = new ArrayList<>();
+
+    @AfterEach
+    void cleanUp() {
+        roomEventRepository.deleteAll(roomEventRepository.findAllByEventIdIn(eventIds));
+    }
+
+    @Test
+    void eachSliceKeepsItsOwnDirectionAndPosition() {
+        String first = "bulk-a-" + UUID.randomUUID();
+        String second = "bulk-b-" + UUID.randomUUID();
+        save(first, 5);
+        save(second, 5);
+
+        List<List<RoomEventResponse>> bySlice = roomEventService.searchRooms(List.of(
+                new RoomEventSlice(second, null, null, false, 3),
+                new RoomEventSlice(first, null, null, true, 3)), null, EnumSet.allOf(RoomEventField.class));
+
+        assertThat(bySlice).hasSize(2);
+        assertThat(bySlice.get(0)).extracting(RoomEventResponse::getRoomId).containsOnly(second);
+        assertThat(bySlice.get(0)).extracting(RoomEventResponse::getOccurredAt)
+                .containsExactly(BASE.plusSeconds(4), BASE.plusSeconds(3), BASE.plusSeconds(2));
+        assertThat(bySlice.get(1)).extracting(RoomEventResponse::getOccurredAt)
+                .containsExactly(BASE, BASE.plusSeconds(1), BASE.plusSeconds(2));
+    }
+
+    @Test
+    void roomIdMatchedByCollationLandsInItsSlice() {
+        String stored = "Bulk-Case-" + UUID.randomUUID();
+        save(stored, 2);
+
+        // 기본 콜레이션은 대소문자를 가리지 않으므로 소문자로 물어도 행이 나오고, room_id는 저장된 값 그대로다.
+        List<List<RoomEventResponse>> bySlice = roomEventService.searchRooms(
+                List.of(new RoomEventSlice(stored.toLowerCase(Locale.ROOT), null, null, true, 10)), null,
+                EnumSet.allOf(RoomEventField.class));
+
+        assertThat(bySlice.get(0)).hasSize(2);
+        assertThat(bySlice.get(0)).extracting(RoomEventResponse::getRoomId).containsOnly(stored);
+    }
+
+    private void save(String roomId, int count) {
+        List<RoomEvent> events = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String eventId = "bulk-" + UUID.randomUUID();
+            eventIds.add(eventId);
+            events.add(new RoomEvent(eventId, RoomEventType.PARTICIPANT_JOINED, roomId, BASE.plusSeconds(i),
+                    RawJson.of("{}")));
+        }
+        roomEventService.saveAllIfNotExists(events);
+    }
+}
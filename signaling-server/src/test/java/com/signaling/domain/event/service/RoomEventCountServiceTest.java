@@ -0,0 +1,132 @@
+package com.signaling.domain.event.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.signaling.domain.event.dto.RoomEventTotalMode;
+import com.signaling.domain.event.entity.RoomEvent;
+import com.signaling.domain.event.entity.RoomEventType;
+import com.signaling.domain.event.repository.RoomEventRepository;
+import com.signaling.domain.room.entity.RoomState;
+import com.signaling.domain.room.repository.RoomRepository;
+import com.signaling.global.config.EventPartitionProperties;
+import com.signaling.global.json.RawJson;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RoomEventCountServiceTest {
+
+    private static final String ROOM_ID = "count-room";
+    private static final Instant FROM = Instant.parse("2026-01-01T00:00:00Z");
+    private static final Instant TO = Instant.parse("2026-01-02T00:00:00Z");
+
+    private final RoomEventRepository roomEventRepository = mock(RoomEventRepository.class);
+    private final RoomRepository roomRepository = mock(RoomRepository.class);
+    private final EventPartitionProperties partitionProperties = new EventPartitionProperties();
+    private final RoomEventCountService service = new RoomEventCountService(roomEventRepository, roomRepository,
+            partitionProperties);
+    private final AtomicLong stored = new AtomicLong(10);
+
+    @BeforeEach
+    void setUp() {
+        when(roomRepository.existsByRoomIdAndState(ROOM_ID, RoomState.CLOSED)).thenReturn(true);
+        when(roomEventRepository.count(eq(ROOM_ID), any(), any(), any())).thenAnswer(invocation -> stored.get());
+    }
+
+    @Test
+    void closedRoomCountIsCachedPerFilter() {
+        assertThat(exact(FROM, TO)).isEqualTo(10);
+        stored.set(99);
+        assertThat(exact(FROM, TO)).isEqualTo(10);
+        assertThat(exact(FROM, TO.plusSeconds(1))).isEqualTo(99);
+
+        verify(roomEventRepository, times(2)).count(eq(ROOM_ID), any(), any(), any());
+    }
+
+    @Test
+    void eventCommittedWhileCountingKeepsTheStaleCountOutOfTheCache() {
+        // 세는 도중 늦은 이벤트가 커밋되고 post-commit evict가 돈 상황.
+        when(roomEventRepository.count(eq(ROOM_ID), any(), any(), any())).thenAnswer(invocation -> {
+            long counted = stored.get();
+            stored.incrementAndGet();
+            service.evict(List.of(new RoomEvent("late", RoomEventType.PARTICIPANT_LEFT, ROOM_ID, FROM,
+                    RawJson.EMPTY_OBJECT)));
+            return counted;
+        }).thenAnswer(invocation -> stored.get());
+
+        assertThat(exact(FROM, TO)).isEqualTo(10);
+        assertThat(exact(FROM, TO)).isEqualTo(11);
+        assertThat(exact(FROM, TO)).isEqualTo(11);
+        verify(roomEventRepository, times(2)).count(eq(ROOM_ID), any(), any(), any());
+    }
+
+    @Test
+    void eventStoredOnAnotherNodeChangesTheVersionAndIsRecounted() {
+        when(roomEventRepository.sumTypeCounts(ROOM_ID, null)).thenReturn(10L);
+        assertThat(exact(FROM, TO)).isEqualTo(10);
+
+        // 다른 노드가 저장해 이 노드의 evict는 돌지 않았지만 카운터 합계가 바뀐 상황.
+        stored.set(11);
+        when(roomEventRepository.sumTypeCounts(ROOM_ID, null)).thenReturn(11L);
+
+        assertThat(exact(FROM, TO)).isEqualTo(11);
+        assertThat(exact(FROM, TO)).isEqualTo(11);
+        verify(roomEventRepository, times(2)).count(eq(ROOM_ID), any(), any(), any());
+    }
+
+    @Test
+    void activeRoomIsNeverCached() {
+        when(roomRepository.existsByRoomIdAndState(ROOM_ID, RoomState.CLOSED)).thenReturn(false);
+
+        exact(FROM, TO);
+        exact(FROM, TO);
+
+        verify(roomEventRepository, times(2)).count(eq(ROOM_ID), any(), any(), any());
+    }
+
+    @Test
+    void unboundedCountUsesTheTypeCounters() {
+        when(roomEventRepository.sumTypeCounts(ROOM_ID, null)).thenReturn(42L);
+
+        assertThat(exact(null, null)).isEqualTo(42);
+        verify(roomEventRepository, never()).count(any(), any(), any(), any());
+    }
+
+    @Test
+    void unboundedCountWithRetentionCountsFromTheFloor() {
+        partitionProperties.setRetentionDays(30);
+        Instant floor = partitionProperties.retentionFloor(Instant.now());
+
+        assertThat(exact(null, null)).isEqualTo(10);
+        assertThat(exact(floor.minusSeconds(60), null)).isEqualTo(10);
+
+        // 하한 아래를 묻는 두 요청은 같은 필터로 캐시된다.
+        verify(roomEventRepository, times(1)).count(eq(ROOM_ID), eq(floor), isNull(), any());
+    }
+
+    @Test
+    void approximateCountStopsAtTheLimit() {
+        when(roomEventRepository.countUpTo(eq(ROOM_ID), eq(FROM), eq(TO), isNull(), anyInt()))
+                .thenReturn((long) RoomEventCountService.APPROXIMATE_LIMIT + 1);
+
+        RoomEventCountService.Total total = service.count(ROOM_ID, FROM, TO, null, RoomEventTotalMode.APPROXIMATE);
+
+        assertThat(total.getValue()).isEqualTo(RoomEventCountService.APPROXIMATE_LIMIT);
+        assertThat(total.isApproximate()).isTrue();
+    }
+
+    private long exact(Instant from, Instant to) {
+        return service.count(ROOM_ID, from, to, null, RoomEventTotalMode.EXACT).getValue();
+    }
+}
@@ -0,0 +1,77 @@
+package com.signaling.domain.event.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.signaling.domain.event.repository.RoomEventRepository;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Calendar;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+class RoomEventExportServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final RoomEventRepository roomEventRepository = mock(RoomEventRepository.class);
+    private final RoomEventExportService exportService =
+            new RoomEventExportService(roomEventRepository, objectMapper);
+
+    @Test
+    void nullPayloadIsWrittenAsJsonNull() throws Exception {
+        streamRows(row(1L, "e-1", null), row(2L, "e-2", "{\"hostId\":\"h-1\"}"));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long written = exportService.export("room-1", null, null, null, output);
+
+        assertThat(written).isEqualTo(2);
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.has("payload")).isTrue();
+        assertThat(first.get("payload").isNull()).isTrue();
+        assertThat(first.get("eventId").asText()).isEqualTo("e-1");
+        assertThat(objectMapper.readTree(lines[1]).get("payload").get("hostId").asText()).isEqualTo("h-1");
+    }
+
+    @Test
+    void emptyHistoryWritesNothing() throws Exception {
+        streamRows();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        assertThat(exportService.export("room-1", null, null, null, output)).isZero();
+        assertThat(output.size()).isZero();
+    }
+
+    private void streamRows(ResultSet... rows) {
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(4);
+            for (ResultSet row : rows) {
+                handler.processRow(row);
+            }
+            return null;
+        }).when(roomEventRepository).streamAll(eq("room-1"), any(), any(), any(), any());
+    }
+
+    private ResultSet row(long id, String eventId, String payload) throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong("id")).thenReturn(id);
+        when(rs.getString("event_id")).thenReturn(eventId);
+        when(rs.getString("event_type")).thenReturn("PARTICIPANT_JOINED");
+        when(rs.getString("room_id")).thenReturn("room-1");
+        when(rs.getString("payload")).thenReturn(payload);
+        when(rs.getTimestamp(eq("occurred_at"), any(Calendar.class)))
+                .thenReturn(Timestamp.from(Instant.parse("2026-01-01T00:00:00Z")));
+        return rs;
+    }
+}
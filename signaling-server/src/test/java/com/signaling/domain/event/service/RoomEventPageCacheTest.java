@@ -0,0 +1,82 @@
+package com.signaling.domain.event.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.signaling.domain.event.dto.RoomEventPageResponse;
+import com.signaling.domain.event.entity.RoomEvent;
+import com.signaling.domain.event.entity.RoomEventType;
+import com.signaling.domain.room.repository.RoomRepository;
+import com.signaling.domain.room.service.ActiveRoomRegistry;
+import com.signaling.global.config.EventPageCacheProperties;
+import com.signaling.global.config.EventPartitionProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class RoomEventPageCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final RoomEventPageCache cache = new RoomEventPageCache(new EventPageCacheProperties(),
+            mock(ActiveRoomRegistry.class), mock(RoomRepository.class), new EventPartitionProperties(),
+            new ObjectMapper(), new SimpleMeterRegistry());
+
+    @Test
+    void unchangedVersionServesTheCachedBody() {
+        RoomEventPageCache.CachedPage first = cache.get("room-1", "filter", 3L, () -> page(3L));
+        RoomEventPageCache.CachedPage second = cache.get("room-1", "filter", 3L, () -> page(3L));
+
+        assertThat(loads).hasValue(1);
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void changedVersionRebuildsThePageAndItsEtag() throws Exception {
+        RoomEventPageCache.CachedPage stale = cache.get("room-1", "filter", 3L, () -> page(3L));
+
+        // 다른 노드가 저장해 이 노드의 evict 없이 버전만 바뀐 경우.
+        RoomEventPageCache.CachedPage fresh = cache.get("room-1", "filter", 4L, () -> page(4L));
+
+        assertThat(loads).hasValue(2);
+        assertThat(fresh.getEtag()).isNotEqualTo(stale.getEtag());
+        assertThat(new ObjectMapper().readTree(fresh.getBody()).get("total").asLong()).isEqualTo(4L);
+        assertThat(cache.get("room-1", "filter", 4L, () -> page(4L))).isSameAs(fresh);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void pageWithoutTotalIsStillCheckedAgainstTheVersion() {
+        cache.get("room-1", "filter", 3L, () -> page(null));
+        cache.get("room-1", "filter", 3L, () -> page(null));
+        assertThat(loads).hasValue(1);
+
+        cache.get("room-1", "filter", 4L, () -> page(null));
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void evictDropsOnlyTheSavedRoomsPages() {
+        cache.get("room-1", "filter", 3L, () -> page(3L));
+        cache.get("room-1", "other", 3L, () -> page(3L));
+        cache.get("room-2", "filter", 3L, () -> page(3L));
+
+        cache.evict(List.of(new RoomEvent("e-late", RoomEventType.PARTICIPANT_LEFT, "room-1",
+                Instant.parse("2026-01-01T00:00:00Z"), null)));
+        cache.get("room-1", "filter", 3L, () -> page(3L));
+        cache.get("room-1", "other", 3L, () -> page(3L));
+        cache.get("room-2", "filter", 3L, () -> page(3L));
+
+        assertThat(loads).hasValue(5);
+    }
+
+    private RoomEventPageResponse page(Long total) {
+        loads.incrementAndGet();
+        RoomEventPageResponse response = new RoomEventPageResponse();
+        response.setItems(List.of());
+        response.setTotal(total);
+        return response;
+    }
+}
@@ -0,0 +1,242 @@
+package com.signaling.domain.event.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.signaling.TestcontainersConfiguration;
+import com.signaling.domain.event.entity.RoomEvent;
+import com.signaling.domain.event.entity.RoomEventType;
+import com.signaling.domain.event.repository.RoomEventPartitionRepository;
+import com.signaling.domain.event.repository.RoomEventPartitionRepository.Partition;
+import com.signaling.global.config.EventPartitionProperties;
+import com.signaling.global.config.EventPartitionProperties.Granularity;
+import com.signaling.global.json.RawJson;
+import com.signaling.global.persistence.JdbcTimestamps;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 파티션 DDL을 직접 내므로 전용 컨테이너에서 돌린다. 테스트마다 room_events를 비우고 월 단위 파티션을 새로 잡는다.
+ */
+@SpringBootTest(properties = "event-partition.maintenance-enabled=false")
+@Import(TestcontainersConfiguration.class)
+class RoomEventPartitionMaintenanceTest {
+
+    private static final DateTimeFormatter MONTH_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+    private static final String ROOM = "partition-room";
+
+    @Autowired
+    private RoomEventPartitionMaintenance maintenance;
+
+    @Autowired
+    private RoomEventPartitionRepository partitionRepository;
+
+    @Autowired
+    private EventPartitionProperties properties;
+
+    @Autowired
+    private RoomEventService roomEventService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void resetTables() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS room_events_expired");
+        for (String table : List.of("room_events", "room_event_ids", "room_event_counts", "room_event_rollups",
+                "room_event_partition_purges")) {
+            jdbcTemplate.execute("TRUNCATE TABLE " + table);
+        }
+    }
+
+    @AfterEach
+    void restoreProperties() {
+        EventPartitionProperties defaults = new EventPartitionProperties();
+        properties.setGranularity(defaults.getGranularity());
+        properties.setPremakeCount(defaults.getPremakeCount());
+        properties.setRetentionDays(defaults.getRetentionDays());
+        properties.setMaxFutureRowsToSplit(defaults.getMaxFutureRowsToSplit());
+    }
+
+    @Test
+    void premakeSplitsFutureIntoMonthlyPartitionsAhead() {
+        partitionBy("2026-01");
+        properties.setPremakeCount(2);
+
+        maintenance.maintain(Instant.parse("2026-01-15T00:00:00Z"));
+        maintenance.maintain(Instant.parse("2026-01-15T01:00:00Z"));
+
+        List<Partition> partitions = partitionRepository.findPartitions();
+        assertThat(partitions).extracting(Partition::getName)
+                .containsExactly("p202601", "p202602", "p202603", "p_future");
+        assertThat(partitions).extracting(Partition::getUpperBound).containsExactly(
+                Instant.parse("2026-02-01T00:00:00Z"), Instant.parse("2026-03-01T00:00:00Z"),
+                Instant.parse("2026-04-01T00:00:00Z"), null);
+    }
+
+    @Test
+    void dailyGranularityContinuesAfterTheLastMonthlyPartition() {
+        partitionBy("2026-01");
+        properties.setGranularity(Granularity.DAILY);
+        properties.setPremakeCount(1);
+
+        maintenance.maintain(Instant.parse("2026-01-31T12:00:00Z"));
+
+        assertThat(partitionRepository.findPartitions()).extracting(Partition::getName)
+                .containsExactly("p202601", "p20260201", "p_future");
+    }
+
+    @Test
+    void futurePartitionHoldingTooManyRowsIsNotSplit() {
+        partitionBy("2026-01");
+        properties.setPremakeCount(2);
+        List<String> eventIds = save(Instant.parse("2027-06-01T00:00:00Z"), 1);
+
+        properties.setMaxFutureRowsToSplit(0);
+        maintenance.maintain(Instant.parse("2026-01-15T00:00:00Z"));
+        assertThat(partitionRepository.findPartitions()).extracting(Partition::getName)
+                .containsExactly("p202601", "p_future");
+
+        properties.setMaxFutureRowsToSplit(10);
+        maintenance.maintain(Instant.parse("2026-01-15T00:00:00Z"));
+        assertThat(partitionRepository.findPartitions()).extracting(Partition::getName)
+                .containsExactly("p202601", "p202602", "p202603", "p_future");
+        assertThat(countEvents(eventIds)).isEqualTo(1);
+    }
+
+    @Test
+    void expiredPartitionIsDroppedWithItsIdsCountsAndRollups() {
+        partitionBy("2026-01", "2026-02", "2026-03");
+        properties.setPremakeCount(0);
+        properties.setRetentionDays(30);
+        List<String> expired = save(Instant.parse("2026-01-10T00:00:00Z"), 3);
+        List<String> kept = save(Instant.parse("2026-03-10T00:00:00Z"), 2);
+
+        // 하한은 2026-02-13이고, 그보다 하루 더 지난 02-12 이전에 끝나는 p202601만 지워진다.
+        maintenance.maintain(Instant.parse("2026-03-15T06:00:00Z"));
+
+        assertThat(partitionRepository.findPartitions()).extracting(Partition::getName)
+                .containsExactly("p202602", "p202603", "p_future");
+        assertThat(partitionRepository.hasDetached()).isFalse();
+        assertThat(countEvents(expired)).isZero();
+        assertThat(countEvents(kept)).isEqualTo(2);
+        assertThat(countIds(expired)).isZero();
+        assertThat(countIds(kept)).isEqualTo(2);
+        assertThat(typeCount()).isEqualTo(2);
+        assertThat(rollupsBefore(Instant.parse("2026-02-01T00:00:00Z"))).isZero();
+        assertThat(rollupsBefore(Instant.parse("2026-04-01T00:00:00Z"))).isPositive();
+    }
+
+    @Test
+    void partitionWithinTheDayOfMarginIsKept() {
+        partitionBy("2026-01", "2026-02", "2026-03");
+        properties.setPremakeCount(0);
+        properties.setRetentionDays(30);
+        save(Instant.parse("2026-01-10T00:00:00Z"), 1);
+
+        // 하한 2026-02-01에 p202601이 막 끝났지만, 하루 여유가 지나기 전이라 남는다.
+        maintenance.maintain(Instant.parse("2026-03-03T06:00:00Z"));
+
+        assertThat(partitionRepository.findPartitions()).extracting(Partition::getName)
+                .containsExactly("p202601", "p202602", "p202603", "p_future");
+    }
+
+    @Test
+    void detachedTableLeftByACrashIsPurgedOnTheNextRun() {
+        partitionBy("2026-01", "2026-02");
+        properties.setPremakeCount(0);
+        save(Instant.parse("2026-01-10T00:00:00Z"), 3);
+        save(Instant.parse("2026-02-10T00:00:00Z"), 1);
+
+        // 떼어 낸 직후, 카운터를 맞추기 전에 멈춘 상황.
+        partitionRepository.detach("p202601");
+        assertThat(partitionRepository.hasDetached()).isTrue();
+        assertThat(typeCount()).isEqualTo(4);
+
+        maintenance.maintain(Instant.parse("2026-02-15T00:00:00Z"));
+
+        assertThat(partitionRepository.hasDetached()).isFalse();
+        assertThat(typeCount()).isEqualTo(1);
+        assertThat(partitionRepository.findPartitions()).extracting(Partition::getName)
+                .containsExactly("p202602", "p_future");
+    }
+
+    @Test
+    void crashAfterSubtractingCountsDoesNotSubtractThemAgain() {
+        partitionBy("2026-01", "2026-02");
+        properties.setPremakeCount(0);
+        save(Instant.parse("2026-01-10T00:00:00Z"), 3);
+        save(Instant.parse("2026-02-10T00:00:00Z"), 1);
+
+        // 카운터를 빼고 완료 표시까지 커밋한 뒤, 보관 테이블을 지우기 전에 멈춘 상황.
+        partitionRepository.detach("p202601");
+        jdbcTemplate.update("UPDATE room_event_counts SET event_count = event_count - 3 WHERE room_id = ?", ROOM);
+        jdbcTemplate.update("INSERT INTO room_event_partition_purges (table_name, subtracted_at) "
+                + "VALUES ('room_events_expired', UTC_TIMESTAMP(6))");
+
+        maintenance.maintain(Instant.parse("2026-02-15T00:00:00Z"));
+
+        assertThat(partitionRepository.hasDetached()).isFalse();
+        assertThat(typeCount()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM room_event_partition_purges", Long.class))
+                .isZero();
+    }
+
+    private void partitionBy(String... months) {
+        StringBuilder sql = new StringBuilder("ALTER TABLE room_events PARTITION BY RANGE COLUMNS (occurred_at) (");
+        for (String month : months) {
+            YearMonth value = YearMonth.parse(month);
+            sql.append("PARTITION ").append(MONTH_NAME.format(value)).append(" VALUES LESS THAN ('")
+                    .append(value.plusMonths(1).atDay(1)).append(" 00:00:00'), ");
+        }
+        sql.append("PARTITION p_future VALUES LESS THAN (MAXVALUE))");
+        jdbcTemplate.execute(sql.toString());
+    }
+
+    private List<String> save(Instant occurredAt, int count) {
+        List<RoomEvent> events = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            events.add(new RoomEvent("partition-" + UUID.randomUUID(), RoomEventType.PARTICIPANT_JOINED, ROOM,
+                    occurredAt.plusSeconds(i), RawJson.of("{}")));
+        }
+        roomEventService.saveAllIfNotExists(events);
+        return events.stream().map(RoomEvent::getEventId).toList();
+    }
+
+    private long countEvents(List<String> eventIds) {
+        return countIn("room_events", eventIds);
+    }
+
+    private long countIds(List<String> eventIds) {
+        return countIn("room_event_ids", eventIds);
+    }
+
+    private long countIn(String table, List<String> eventIds) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE event_id IN ("
+                + String.join(", ", Collections.nCopies(eventIds.size(), "?")) + ")", Long.class, eventIds.toArray());
+    }
+
+    private long typeCount() {
+        return jdbcTemplate.queryForObject("SELECT event_count FROM room_event_counts WHERE room_id = ? "
+                + "AND event_type = ?", Long.class, ROOM, RoomEventType.PARTICIPANT_JOINED.name());
+    }
+
+    private long rollupsBefore(Instant before) {
+        return jdbcTemplate.query("SELECT COUNT(*) FROM room_event_rollups WHERE room_id = ? AND bucket_start < ?",
+                ps -> {
+                    ps.setString(1, ROOM);
+                    JdbcTimestamps.bind(ps, 2, before);
+                }, (rs, rowNum) -> rs.getLong(1)).get(0);
+    }
+}
@@ -0,0 +1,114 @@
+package com.signaling.domain.event.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.signaling.TestcontainersConfiguration;
+import com.signaling.domain.event.entity.RoomEvent;
+import com.signaling.domain.event.entity.RoomEventType;
+import com.signaling.domain.event.repository.RoomEventRepository;
+import com.signaling.global.json.RawJson;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+@SpringBootTest
+@Import(TestcontainersConfiguration.class)
+class RoomEventServiceConcurrencyTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private RoomEventService roomEventService;
+
+    @Autowired
+    private RoomEventRepository roomEventRepository;
+
+    private final List<String> eventIds = new ArrayList<>();
+
+    @AfterEach
+    void cleanUp() {
+        roomEventRepository.deleteAll(roomEventRepository.findAllByEventIdIn(eventIds));
+    }
+
+    @Test
+    void sameEventIdFromManyThreadsIsCreatedExactlyOnce() throws Exception {
+        String eventId = "concurrency-" + UUID.randomUUID();
+        eventIds.add(eventId);
+        Instant occurredAt = Instant.now();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<RoomEventService.SaveResult>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return roomEventService.saveIfNotExists(new RoomEvent(eventId,
+                            RoomEventType.PARTICIPANT_JOINED, "concurrency-room", occurredAt,
+                            RawJson.of("{\"userId\":\"user-1\"}")));
+                }));
+            }
+            start.countDown();
+
+            List<RoomEventService.SaveResult> results = new ArrayList<>();
+            for (Future<RoomEventService.SaveResult> future : futures) {
+                results.add(future.get(30, TimeUnit.SECONDS));
+            }
+
+            assertThat(results).filteredOn(RoomEventService.SaveResult::isCreated).hasSize(1);
+            assertThat(results).extracting(result -> result.getEvent().getId()).containsOnly(
+                    results.get(0).getEvent().getId());
+            assertThat(roomEventRepository.findAllByEventIdIn(List.of(eventId))).hasSize(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void overlappingBatchesNeverSurfaceConstraintViolations() throws Exception {
+        Instant occurredAt = Instant.now();
+        for (int i = 0; i < 20; i++) {
+            eventIds.add("concurrency-batch-" + UUID.randomUUID());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<RoomEventService.SaveResult>>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    List<RoomEvent> events = eventIds.stream()
+                            .map(id -> new RoomEvent(id, RoomEventType.PRODUCER_CREATED, "concurrency-room",
+                                    occurredAt, RawJson.EMPTY_OBJECT))
+                            .toList();
+                    start.await();
+                    return roomEventService.saveAllIfNotExists(events);
+                }));
+            }
+            start.countDown();
+
+            int created = 0;
+            for (Future<List<RoomEventService.SaveResult>> future : futures) {
+                List<RoomEventService.SaveResult> results = future.get(30, TimeUnit.SECONDS);
+                assertThat(results).hasSize(eventIds.size());
+                created += (int) results.stream().filter(RoomEventService.SaveResult::isCreated).count();
+            }
+
+            assertThat(created).isEqualTo(eventIds.size());
+            assertThat(roomEventRepository.findAllByEventIdIn(eventIds)).hasSize(eventIds.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
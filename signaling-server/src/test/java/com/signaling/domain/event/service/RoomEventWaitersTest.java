@@ -0,0 +1,114 @@
+package com.signaling.domain.event.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.signaling.domain.event.dto.RoomEventPageResponse;
+import com.signaling.domain.event.dto.RoomEventResponse;
+import com.signaling.domain.event.entity.RoomEvent;
+import com.signaling.domain.event.entity.RoomEventType;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.server.ResponseStatusException;
+
+class RoomEventWaitersTest {
+
+    private static final long WAIT_MS = 30_000;
+
+    private RoomEventWaiters waiters;
+
+    @AfterEach
+    void tearDown() {
+        waiters.shutdown();
+    }
+
+    @Test
+    void matchingEventWakesTheWaiterWithAReloadedPage() throws Exception {
+        waiters = new RoomEventWaiters(1, 1);
+        CountDownLatch reloaded = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        DeferredResult<RoomEventPageResponse> result = waiters.await("room-1", WAIT_MS, event -> true, () -> {
+            if (loads.getAndIncrement() == 0) {
+                return page();
+            }
+            reloaded.countDown();
+            return page(new RoomEventResponse());
+        });
+        assertThat(result.hasResult()).isFalse();
+
+        waiters.signal(List.of(event("room-2")));
+        assertThat(result.hasResult()).isFalse();
+        waiters.signal(List.of(event("room-1")));
+
+        assertThat(reloaded.await(2, TimeUnit.SECONDS)).isTrue();
+        awaitResult(result);
+        assertThat(((RoomEventPageResponse) result.getResult()).getItems()).hasSize(1);
+    }
+
+    @Test
+    void fullReloadQueueRejectsWithServiceUnavailable() throws Exception {
+        waiters = new RoomEventWaiters(1, 1);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        DeferredResult<RoomEventPageResponse> first = waiters.await("room-1", WAIT_MS, event -> true,
+                blockingReload(running, release));
+        DeferredResult<RoomEventPageResponse> queued = waiters.await("room-2", WAIT_MS, event -> true,
+                blockingReload(new CountDownLatch(1), release));
+        DeferredResult<RoomEventPageResponse> rejected = waiters.await("room-3", WAIT_MS, event -> true,
+                blockingReload(new CountDownLatch(1), release));
+
+        // 스레드 하나는 첫 재조회에 묶이고 대기열 한 칸은 두 번째가 차지한다.
+        waiters.signal(List.of(event("room-1")));
+        assertThat(running.await(2, TimeUnit.SECONDS)).isTrue();
+        waiters.signal(List.of(event("room-2"), event("room-3")));
+
+        assertThat(rejected.getResult()).isInstanceOfSatisfying(ResponseStatusException.class,
+                ex -> assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+        release.countDown();
+        awaitResult(first);
+        awaitResult(queued);
+        assertThat(first.getResult()).isInstanceOf(RoomEventPageResponse.class);
+        assertThat(queued.getResult()).isInstanceOf(RoomEventPageResponse.class);
+    }
+
+    private Supplier<RoomEventPageResponse> blockingReload(CountDownLatch running, CountDownLatch release) {
+        AtomicInteger loads = new AtomicInteger();
+        return () -> {
+            if (loads.getAndIncrement() > 0) {
+                running.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return page();
+        };
+    }
+
+    private static void awaitResult(DeferredResult<?> result) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (!result.hasResult() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(result.hasResult()).isTrue();
+    }
+
+    private static RoomEventPageResponse page(RoomEventResponse... items) {
+        RoomEventPageResponse response = new RoomEventPageResponse();
+        response.setItems(List.of(items));
+        return response;
+    }
+
+    private static RoomEvent event(String roomId) {
+        return new RoomEvent("e-" + roomId, RoomEventType.PARTICIPANT_JOINED, roomId,
+                Instant.parse("2026-01-01T00:00:00Z"), null);
+    }
+}
@@ -0,0 +1,125 @@
+package com.signaling.domain.event.sse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.signaling.domain.event.entity.RoomEvent;
+import com.signaling.domain.event.entity.RoomEventType;
+import com.signaling.domain.event.repository.RoomEventRepository;
+import com.signaling.global.config.EventStreamProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class RoomEventStreamHubTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Deque<SseEmitter> emitters = new ArrayDeque<>();
+    private RoomEventStreamHub hub;
+
+    @BeforeEach
+    void setUp() {
+        EventStreamProperties properties = new EventStreamProperties();
+        properties.setSenderThreads(1);
+        properties.setSlowSendMs(100);
+        hub = new RoomEventStreamHub(mock(RoomEventRepository.class), properties, meterRegistry) {
+            @Override
+            SseEmitter createEmitter(long timeoutMs) {
+                return emitters.poll();
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        hub.shutdown();
+    }
+
+    @Test
+    void stalledSubscriberIsEvictedWithoutStarvingOthers() throws Exception {
+        BlockingEmitter stalled = new BlockingEmitter();
+        RecordingEmitter healthy = new RecordingEmitter();
+        emitters.add(stalled);
+        emitters.add(healthy);
+        hub.subscribe("room-a", null, null, null);
+        hub.subscribe("room-b", null, null, null);
+
+        // 전송 스레드가 하나뿐이라 막힌 쓰기가 그대로 있으면 room-b는 전송되지 않는다.
+        hub.publish(List.of(event("room-a")));
+        assertThat(stalled.entered.await(2, TimeUnit.SECONDS)).isTrue();
+        hub.publish(List.of(event("room-b")));
+
+        assertThat(healthy.received.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(slowDisconnects()).isEqualTo(1.0);
+        assertThat(subscribers()).isEqualTo(1.0);
+
+        stalled.release.countDown();
+        assertThat(stalled.completed.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(slowDisconnects()).isEqualTo(1.0);
+    }
+
+    @Test
+    void promptSubscriberStaysConnected() throws Exception {
+        RecordingEmitter healthy = new RecordingEmitter();
+        emitters.add(healthy);
+        hub.subscribe("room-b", null, null, null);
+
+        hub.publish(List.of(event("room-b")));
+
+        assertThat(healthy.received.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(slowDisconnects()).isZero();
+        assertThat(subscribers()).isEqualTo(1.0);
+    }
+
+    private double slowDisconnects() {
+        return meterRegistry.get("room_events.stream.disconnects").tag("reason", "slow").counter().count();
+    }
+
+    private double subscribers() {
+        return meterRegistry.get("room_events.stream.subscribers").gauge().value();
+    }
+
+    private static RoomEvent event(String roomId) {
+        return new RoomEvent("e-" + roomId, RoomEventType.PARTICIPANT_JOINED, roomId,
+                Instant.parse("2026-01-01T00:00:00Z"), null);
+    }
+
+    private static final class BlockingEmitter extends SseEmitter {
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+        private final CountDownLatch received = new CountDownLatch(1);
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            received.countDown();
+        }
+    }
+}
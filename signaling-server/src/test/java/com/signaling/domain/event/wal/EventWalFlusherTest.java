@@ -0,0 +1,163 @@
+package com.signaling.domain.event.wal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.signaling.domain.event.dto.RoomEventRequest;
+import com.signaling.domain.event.entity.RoomEvent;
+import com.signaling.domain.event.entity.RoomEventType;
+import com.signaling.domain.event.service.RoomEventIngestService;
+import com.signaling.domain.event.service.RoomEventService;
+import com.signaling.global.config.EventWalProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+
+class EventWalFlusherTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    @TempDir
+    Path directory;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private final RoomEventService roomEventService = mock(RoomEventService.class);
+    private final RoomEventIngestService roomEventIngestService = mock(RoomEventIngestService.class);
+    private final List<String> saved = new ArrayList<>();
+    private final AtomicBoolean databaseDown = new AtomicBoolean();
+
+    private EventWriteAheadLog wal;
+    private EventWalFlusher flusher;
+    private Path deadLetterFile;
+
+    @BeforeEach
+    void setUp() {
+        EventWalProperties properties = new EventWalProperties();
+        properties.setDirectory(directory.resolve("wal").toString());
+        properties.setSegmentSizeBytes(4096);
+        properties.setFlushBatchSize(10);
+        properties.setMaxFlushAttempts(MAX_ATTEMPTS);
+        deadLetterFile = directory.resolve("dead-letter.ndjson");
+        properties.setDeadLetterFile(deadLetterFile.toString());
+
+        when(roomEventIngestService.toEntity(any())).thenAnswer(invocation -> {
+            RoomEventRequest request = invocation.getArgument(0);
+            return new RoomEvent(request.getEventId(), request.getEventType(), request.getRoomId(),
+                    request.getOccurredAt(), request.getPayload());
+        });
+        when(roomEventService.saveAllIfNotExists(anyList())).thenAnswer(invocation -> {
+            List<RoomEvent> events = invocation.getArgument(0);
+            if (databaseDown.get()) {
+                throw new CannotGetJdbcConnectionException("database is down");
+            }
+            if (events.stream().anyMatch(event -> event.getEventId().startsWith("poison"))) {
+                throw new IllegalStateException("poison event");
+            }
+            events.forEach(event -> saved.add(event.getEventId()));
+            return List.of();
+        });
+
+        wal = new EventWriteAheadLog(properties);
+        flusher = new EventWalFlusher(wal, roomEventService, roomEventIngestService, objectMapper, properties,
+                new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        wal.close();
+    }
+
+    @Test
+    void replaysWalRecordsIntoTheDatabaseOnce() throws IOException {
+        wal.append(List.of(record("e-1"), record("e-2"), record("e-3")));
+
+        flusher.flush();
+        flusher.flush();
+
+        assertThat(saved).containsExactly("e-1", "e-2", "e-3");
+        assertThat(deadLetterFile).doesNotExist();
+    }
+
+    @Test
+    void poisonBatchIsRetriedBoundedTimesThenOnlyThePoisonEventIsDeadLettered() throws IOException {
+        wal.append(List.of(record("e-1"), record("poison-1"), record("e-2")));
+
+        for (int i = 1; i < MAX_ATTEMPTS; i++) {
+            flusher.flush();
+            assertThat(saved).isEmpty();
+            assertThat(deadLetterFile).doesNotExist();
+        }
+        flusher.flush();
+
+        assertThat(saved).containsExactly("e-1", "e-2");
+        List<String> lines = Files.readAllLines(deadLetterFile);
+        assertThat(lines).hasSize(1);
+        assertThat(objectMapper.readTree(lines.get(0)).get("record").asText()).contains("poison-1");
+
+        // 막혔던 로그가 다시 흐른다.
+        wal.append(List.of(record("e-3")));
+        flusher.flush();
+        assertThat(saved).containsExactly("e-1", "e-2", "e-3");
+        assertThat(Files.readAllLines(deadLetterFile)).hasSize(1);
+    }
+
+    @Test
+    void unavailableDatabaseIsRetriedWithoutDeadLettering() throws IOException {
+        wal.append(List.of(record("e-1"), record("e-2")));
+        databaseDown.set(true);
+
+        for (int i = 0; i < MAX_ATTEMPTS * 3; i++) {
+            flusher.flush();
+        }
+        assertThat(saved).isEmpty();
+        assertThat(deadLetterFile).doesNotExist();
+
+        databaseDown.set(false);
+        flusher.flush();
+        assertThat(saved).containsExactly("e-1", "e-2");
+    }
+
+    @Test
+    void unreadableRecordIsDeadLetteredAndSkipped() throws IOException {
+        wal.append(List.of("{not json".getBytes(StandardCharsets.UTF_8), record("e-1")));
+
+        flusher.flush();
+
+        assertThat(saved).containsExactly("e-1");
+        assertThat(Files.readAllLines(deadLetterFile)).hasSize(1);
+    }
+
+    @Test
+    void emptyLogDoesNotTouchTheDatabase() {
+        flusher.flush();
+
+        verify(roomEventService, never()).saveAllIfNotExists(anyList());
+    }
+
+    private byte[] record(String eventId) throws IOException {
+        RoomEventRequest request = new RoomEventRequest();
+        request.setEventId(eventId);
+        request.setEventType(RoomEventType.PARTICIPANT_JOINED);
+        request.setRoomId("wal-room");
+        request.setOccurredAt(Instant.parse("2026-01-01T00:00:00Z"));
+        return objectMapper.writeValueAsBytes(request);
+    }
+}
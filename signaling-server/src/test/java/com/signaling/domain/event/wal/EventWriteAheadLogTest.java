@@ -0,0 +1,111 @@
+package com.signaling.domain.event.wal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.signaling.global.config.EventWalProperties;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class EventWriteAheadLogTest {
+
+    @TempDir
+    Path directory;
+
+    private EventWriteAheadLog wal;
+
+    @AfterEach
+    void close() {
+        if (wal != null) {
+            wal.close();
+        }
+    }
+
+    @Test
+    void recordsSurviveRestartAndAreReadBackInOrder() {
+        wal = open(4096);
+        wal.append(List.of(bytes("a"), bytes("b"), bytes("c")));
+        wal.close();
+
+        wal = open(4096);
+        assertThat(readAll(wal)).containsExactly("a", "b", "c");
+    }
+
+    @Test
+    void tornTailIsDroppedOnRecoveryAndLaterAppendsStillRead() throws IOException {
+        wal = open(4096);
+        wal.append(List.of(bytes("a"), bytes("b")));
+        wal.close();
+
+        // 세 번째 레코드의 헤더만 쓰이고 본문은 기록되기 전에 종료된 상황.
+        int tail = 2 * WalSegment.HEADER_BYTES + 2;
+        try (RandomAccessFile file = new RandomAccessFile(directory.resolve(WalSegment.fileName(1)).toFile(), "rw")) {
+            file.seek(tail);
+            file.writeInt(100);
+            file.writeInt(12345);
+            file.write(bytes("partial"));
+        }
+
+        wal = open(4096);
+        wal.append(List.of(bytes("c")));
+        assertThat(readAll(wal)).containsExactly("a", "b", "c");
+    }
+
+    @Test
+    void appendsRollSegmentsAndReleaseDeletesFlushedFiles() throws IOException {
+        // 세그먼트 하나에 레코드 두 개(각 8 + 20바이트)만 들어간다.
+        wal = open(64);
+        for (int i = 0; i < 5; i++) {
+            wal.append(List.of(bytes(String.format("record-%013d", i))));
+        }
+        assertThat(walFiles()).hasSize(3);
+
+        EventWriteAheadLog.Batch batch = wal.read(wal.oldestPosition(), 10);
+        assertThat(batch.getRecords()).hasSize(5);
+        wal.release(batch.getNext());
+
+        assertThat(walFiles()).containsExactly(WalSegment.fileName(3));
+        assertThat(wal.read(batch.getNext(), 10).getRecords()).isEmpty();
+    }
+
+    @Test
+    void closedSegmentRejectsAccessInsteadOfTouchingTheUnmappedBuffer() {
+        WalSegment segment = WalSegment.create(directory, 1, 64);
+        segment.append(bytes("a"));
+        segment.delete();
+
+        assertThatThrownBy(() -> segment.read(0)).isInstanceOf(IllegalStateException.class);
+        assertThat(Files.exists(directory.resolve(WalSegment.fileName(1)))).isFalse();
+    }
+
+    private EventWriteAheadLog open(int segmentSize) {
+        EventWalProperties properties = new EventWalProperties();
+        properties.setDirectory(directory.toString());
+        properties.setSegmentSizeBytes(segmentSize);
+        return new EventWriteAheadLog(properties);
+    }
+
+    private List<String> readAll(EventWriteAheadLog log) {
+        return log.read(log.oldestPosition(), 100).getRecords().stream()
+                .map(record -> new String(record, StandardCharsets.UTF_8))
+                .toList();
+    }
+
+    private List<String> walFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString()).sorted().toList();
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
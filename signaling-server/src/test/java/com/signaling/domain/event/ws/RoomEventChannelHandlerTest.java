@@ -0,0 +1,206 @@
+package com.signaling.domain.event.ws;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.signaling.domain.event.dto.RoomEventBatchItemResponse;
+import com.signaling.domain.event.dto.RoomEventIngestStatus;
+import com.signaling.domain.event.dto.RoomEventRequest;
+import com.signaling.domain.event.service.RoomEventIngestService;
+import com.signaling.global.config.EventChannelProperties;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+class RoomEventChannelHandlerTest {
+
+    private static final int MAX_WINDOW = 8;
+    private static final int BATCH_SIZE = 4;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private final RoomEventIngestService ingestService = mock(RoomEventIngestService.class);
+    private final WebSocketSession session = mock(WebSocketSession.class);
+    private final List<JsonNode> acks = new CopyOnWriteArrayList<>();
+
+    private RoomEventChannelHandler handler;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        EventChannelProperties properties = new EventChannelProperties();
+        properties.setMaxWindow(MAX_WINDOW);
+        properties.setMinWindow(2);
+        properties.setBatchSize(BATCH_SIZE);
+        properties.setLingerMs(50);
+        properties.setSlowFlushMs(5_000);
+
+        Map<String, Object> attributes = new ConcurrentHashMap<>();
+        when(session.getAttributes()).thenReturn(attributes);
+        when(session.getId()).thenReturn("channel-test");
+        when(session.isOpen()).thenReturn(true);
+        doAnswer(invocation -> {
+            TextMessage message = invocation.getArgument(0);
+            acks.add(objectMapper.readTree(message.getPayload()));
+            return null;
+        }).when(session).sendMessage(any());
+        when(ingestService.ingest(isNull(), anyList(), anyInt()))
+                .thenAnswer(invocation -> items(invocation.getArgument(1)));
+
+        handler = new RoomEventChannelHandler(ingestService, objectMapper, properties);
+        handler.afterConnectionEstablished(session);
+    }
+
+    @AfterEach
+    void tearDown() {
+        handler.shutdown();
+    }
+
+    @Test
+    void connectionStartsWithTheFullWindowAsCredit() {
+        assertThat(acks).hasSize(1);
+        assertThat(acks.get(0).get("ack").asLong()).isZero();
+        assertThat(acks.get(0).get("credit").asInt()).isEqualTo(MAX_WINDOW);
+    }
+
+    @Test
+    void fullBatchIsStoredAndRejectedEventsAreReportedBySeq() throws Exception {
+        handler.handleMessage(session, frame(1, "e-1", "e-2", "bad-3", "e-4"));
+
+        verify(ingestService).ingest(isNull(), anyList(), anyInt());
+        JsonNode ack = lastAck();
+        assertThat(ack.get("ack").asLong()).isEqualTo(4);
+        assertThat(ack.get("credit").asInt()).isEqualTo(MAX_WINDOW);
+        assertThat(ack.get("rejected")).hasSize(1);
+        assertThat(ack.get("rejected").get(0).get("index").asInt()).isEqualTo(3);
+    }
+
+    @Test
+    void partialBatchIsStoredAfterLinger() throws Exception {
+        handler.handleMessage(session, frame(1, "e-1", "e-2"));
+
+        verify(ingestService, timeout(2_000)).ingest(isNull(), anyList(), anyInt());
+        waitForAck(2);
+    }
+
+    @Test
+    void framesOutOfSequenceOrBeyondCreditCloseTheSession() throws Exception {
+        handler.handleMessage(session, frame(2, "e-1"));
+        handler.handleMessage(session, frame(1, "e-1", "e-2", "e-3", "e-4", "e-5", "e-6", "e-7", "e-8", "e-9"));
+
+        verify(session, times(2)).close(argThat(status -> status.getCode() == CloseStatus.POLICY_VIOLATION.getCode()));
+        verify(ingestService, never()).ingest(any(), anyList(), anyInt());
+    }
+
+    @Test
+    void slowStoreDoesNotBlockFramesOrCloseForTheSameSession() throws Exception {
+        CountDownLatch storing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        when(ingestService.ingest(isNull(), anyList(), anyInt())).thenAnswer(invocation -> {
+            if (calls.incrementAndGet() == 1) {
+                storing.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            return items(invocation.getArgument(1));
+        });
+
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> send(frame(1, "e-1", "e-2", "e-3", "e-4")));
+        assertThat(storing.await(2, TimeUnit.SECONDS)).isTrue();
+
+        // 저장이 끝나지 않았어도 다음 프레임은 바로 받아 둔다.
+        CompletableFuture.runAsync(() -> send(frame(5, "e-5", "e-6", "e-7", "e-8"))).get(1, TimeUnit.SECONDS);
+        assertThat(calls).hasValue(1);
+
+        release.countDown();
+        first.get(2, TimeUnit.SECONDS);
+        verify(ingestService, timeout(2_000).times(2)).ingest(isNull(), anyList(), anyInt());
+        waitForAck(8);
+    }
+
+    @Test
+    void failedStoreIsRetriedWithTheSameEvents() throws Exception {
+        List<List<String>> attempts = new CopyOnWriteArrayList<>();
+        when(ingestService.ingest(isNull(), anyList(), anyInt())).thenAnswer(invocation -> {
+            List<RoomEventRequest> requests = invocation.getArgument(1);
+            attempts.add(requests.stream().map(RoomEventRequest::getEventId).toList());
+            if (attempts.size() == 1) {
+                throw new IllegalStateException("database hiccup");
+            }
+            return items(requests);
+        });
+
+        handler.handleMessage(session, frame(1, "e-1", "e-2", "e-3", "e-4"));
+        assertThat(lastAck().get("ack").asLong()).isZero();
+
+        verify(ingestService, timeout(3_000).times(2)).ingest(isNull(), anyList(), anyInt());
+        waitForAck(4);
+        assertThat(attempts.get(1)).isEqualTo(attempts.get(0));
+    }
+
+    private void send(TextMessage message) {
+        try {
+            handler.handleMessage(session, message);
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private void waitForAck(long seq) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (lastAck().get("ack").asLong() < seq && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(lastAck().get("ack").asLong()).isEqualTo(seq);
+    }
+
+    private JsonNode lastAck() {
+        return acks.get(acks.size() - 1);
+    }
+
+    private static List<RoomEventBatchItemResponse> items(List<RoomEventRequest> requests) {
+        List<RoomEventBatchItemResponse> items = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            String eventId = requests.get(i).getEventId();
+            boolean bad = eventId.startsWith("bad");
+            items.add(new RoomEventBatchItemResponse(i, eventId,
+                    bad ? RoomEventIngestStatus.INVALID : RoomEventIngestStatus.CREATED, bad ? null : (long) i,
+                    bad ? "rejected" : null));
+        }
+        return items;
+    }
+
+    private static TextMessage frame(long seq, String... eventIds) {
+        StringBuilder json = new StringBuilder("{\"seq\":").append(seq).append(",\"events\":[");
+        for (int i = 0; i < eventIds.length; i++) {
+            json.append(i == 0 ? "" : ",").append("{\"eventId\":\"").append(eventIds[i])
+                    .append("\",\"eventType\":\"PARTICIPANT_JOINED\",\"roomId\":\"channel-room\","
+                            + "\"occurredAt\":\"2026-01-01T00:00:00Z\"}");
+        }
+        return new TextMessage(json.append("]}").toString());
+    }
+}
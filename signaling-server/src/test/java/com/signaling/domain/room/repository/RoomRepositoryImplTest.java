@@ -0,0 +1,54 @@
+package com.signaling.domain.room.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.signaling.TestcontainersConfiguration;
+import com.signaling.domain.event.entity.RoomEvent;
+import com.signaling.domain.event.entity.RoomEventType;
+import com.signaling.domain.room.entity.Room;
+import com.signaling.domain.room.entity.RoomState;
+import com.signaling.global.json.RawJson;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+@SpringBootTest
+@Import(TestcontainersConfiguration.class)
+class RoomRepositoryImplTest {
+
+    private static final Instant CREATED_AT = Instant.parse("2026-01-01T00:00:00Z");
+    private static final Instant CLOSED_AT = Instant.parse("2026-01-01T01:00:00Z");
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Test
+    void firstCreatedWinsAndLateCreatedDoesNotReopenAClosedRoom() {
+        String roomId = "upsert-" + UUID.randomUUID();
+        try {
+            roomRepository.applyClosed(List.of(event(roomId, RoomEventType.ROOM_CLOSED, CLOSED_AT, "{}")));
+            roomRepository.applyCreated(List.of(event(roomId, RoomEventType.ROOM_CREATED, CREATED_AT,
+                    "{\"hostId\":\"host-1\"}")));
+            roomRepository.applyCreated(List.of(event(roomId, RoomEventType.ROOM_CREATED, CLOSED_AT,
+                    "{\"hostId\":\"host-2\"}")));
+            roomRepository.applyClosed(List.of(event(roomId, RoomEventType.ROOM_CLOSED, CLOSED_AT.plusSeconds(60),
+                    "{}")));
+
+            Room room = roomRepository.findById(roomId).orElseThrow();
+            assertThat(room.getState()).isEqualTo(RoomState.CLOSED);
+            assertThat(room.getHostId()).isEqualTo("host-1");
+            assertThat(room.getCreatedAt()).isEqualTo(CREATED_AT);
+            assertThat(room.getClosedAt()).isEqualTo(CLOSED_AT);
+        } finally {
+            roomRepository.deleteById(roomId);
+        }
+    }
+
+    private static RoomEvent event(String roomId, RoomEventType type, Instant occurredAt, String payload) {
+        return new RoomEvent(UUID.randomUUID().toString(), type, roomId, occurredAt, RawJson.of(payload));
+    }
+}
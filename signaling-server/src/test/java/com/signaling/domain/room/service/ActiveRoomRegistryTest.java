@@ -0,0 +1,104 @@
+package com.signaling.domain.room.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.signaling.domain.event.entity.RoomEvent;
+import com.signaling.domain.event.entity.RoomEventType;
+import com.signaling.domain.room.entity.Room;
+import com.signaling.domain.room.repository.RoomRepository;
+import com.signaling.global.json.RawJson;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class ActiveRoomRegistryTest {
+
+    private static final Instant BASE = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final ActiveRoomRegistry registry = new ActiveRoomRegistry(mock(RoomRepository.class));
+
+    @Test
+    void keysetPagesWalkAllRoomsNewestFirstWithoutGapsOrRepeats() {
+        List<RoomEvent> events = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            // 두 방씩 같은 생성 시각을 줘서 roomId 보조 정렬도 확인한다.
+            events.add(created("room-" + i, "host-" + (i % 3), BASE.plusMillis(i / 2)));
+        }
+        registry.apply(events);
+
+        List<String> seen = new ArrayList<>();
+        Room last = null;
+        while (true) {
+            List<Room> page = registry.page(null, null, null,
+                    last == null ? null : last.getCreatedAt(), last == null ? null : last.getRoomId(), null, 7);
+            page.forEach(room -> seen.add(room.getRoomId()));
+            if (page.size() < 7) {
+                break;
+            }
+            last = page.get(page.size() - 1);
+        }
+        assertThat(seen).doesNotHaveDuplicates().hasSize(25);
+        assertThat(seen).containsExactlyElementsOf(registry.activeRooms().stream().map(Room::getRoomId).toList());
+    }
+
+    @Test
+    void filtersByHostAndCreatedRangeAndDropsClosedRooms() {
+        registry.apply(List.of(
+                created("a", "host-1", BASE),
+                created("b", "host-1", BASE.plusSeconds(10)),
+                created("c", "host-2", BASE.plusSeconds(20)),
+                created("d", "host-1", BASE.plusSeconds(30))));
+        registry.apply(List.of(event("d", RoomEventType.ROOM_CLOSED, RawJson.EMPTY_OBJECT, BASE.plusSeconds(40))));
+
+        List<Room> hostRooms = registry.page("host-1", BASE.plusSeconds(5), BASE.plusSeconds(30), null, null, null,
+                10);
+        assertThat(hostRooms).extracting(Room::getRoomId).containsExactly("b");
+
+        registry.apply(List.of(created("d", "host-1", BASE.plusSeconds(30))));
+        assertThat(registry.find("d")).isNull();
+    }
+
+    @Test
+    void deltaReturnsOnlyChangesSinceVersionAndFallsBackToFullSnapshot() {
+        registry.apply(List.of(created("a", "host-1", BASE), created("b", "host-1", BASE.plusSeconds(1))));
+        long since = registry.version();
+
+        registry.apply(List.of(created("c", "host-2", BASE.plusSeconds(2))));
+        registry.apply(List.of(event("a", RoomEventType.ROOM_CLOSED, RawJson.EMPTY_OBJECT, BASE.plusSeconds(3))));
+
+        ActiveRoomRegistry.Delta delta = registry.changesSince(since);
+        assertThat(delta.isFull()).isFalse();
+        assertThat(delta.getVersion()).isEqualTo(since + 2);
+        assertThat(delta.getAdded()).extracting(Room::getRoomId).containsExactly("c");
+        assertThat(delta.getRemoved()).containsExactly("a");
+
+        assertThat(registry.changesSince(delta.getVersion()).getAdded()).isEmpty();
+
+        ActiveRoomRegistry.Delta future = registry.changesSince(delta.getVersion() + 100);
+        assertThat(future.isFull()).isTrue();
+        assertThat(future.getAdded()).extracting(Room::getRoomId).containsExactly("c", "b");
+    }
+
+    @Test
+    void repeatedCreatedKeepsTheFirstHostLikeTheRoomsUpsert() {
+        // rooms 업서트는 COALESCE(rooms.host_id, new.host_id)로 첫 값을 유지한다. 스냅샷도 같아야 정합성 검사가 맞는다.
+        registry.apply(List.of(created("a", "host-1", BASE)));
+        long version = registry.version();
+        registry.apply(List.of(created("a", "host-2", BASE.plusSeconds(5))));
+
+        assertThat(registry.find("a").getHostId()).isEqualTo("host-1");
+        assertThat(registry.find("a").getCreatedAt()).isEqualTo(BASE);
+        assertThat(registry.version()).isEqualTo(version);
+    }
+
+    private RoomEvent created(String roomId, String hostId, Instant at) {
+        return event(roomId, RoomEventType.ROOM_CREATED, RawJson.of("{\"hostId\":\"" + hostId + "\"}"), at);
+    }
+
+    private RoomEvent event(String roomId, RoomEventType type, RawJson payload, Instant at) {
+        return new RoomEvent(UUID.randomUUID().toString(), type, roomId, at, payload);
+    }
+}
@@ -0,0 +1,91 @@
+package com.signaling.domain.room.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.signaling.domain.event.entity.RoomEvent;
+import com.signaling.domain.event.entity.RoomEventType;
+import com.signaling.domain.room.dto.RoomStatsResponse;
+import com.signaling.domain.room.repository.RoomRepository;
+import com.signaling.global.json.RawJson;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+class RoomOccupancyTrackerTest {
+
+    private final RoomOccupancyTracker tracker = new RoomOccupancyTracker(mock(RoomRepository.class));
+
+    @Test
+    void concurrentJoinsAndLeavesForSameRoomAreNotLost() throws Exception {
+        int threads = 8;
+        int joinsPerThread = 1_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < joinsPerThread; i++) {
+                        tracker.record(List.of(event("room-1", RoomEventType.PARTICIPANT_JOINED)));
+                    }
+                    for (int i = 0; i < joinsPerThread / 2; i++) {
+                        tracker.record(List.of(event("room-1", RoomEventType.PARTICIPANT_LEFT)));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        RoomStatsResponse stats = tracker.stats("room-1");
+        assertThat(stats.getParticipants()).isEqualTo(threads * joinsPerThread / 2);
+        assertThat(stats.getPeakParticipants()).isGreaterThanOrEqualTo(stats.getParticipants());
+    }
+
+    @Test
+    void outOfOrderLeaveDoesNotGoNegativeAndClosedRoomIsIgnored() {
+        tracker.record(List.of(event("room-2", RoomEventType.PARTICIPANT_LEFT)));
+        assertThat(tracker.stats("room-2").getParticipants()).isZero();
+
+        tracker.record(List.of(
+                event("room-2", RoomEventType.PARTICIPANT_JOINED),
+                event("room-2", RoomEventType.PARTICIPANT_JOINED),
+                event("room-2", RoomEventType.PRODUCER_CREATED)));
+        RoomStatsResponse stats = tracker.stats("room-2");
+        assertThat(stats.getParticipants()).isEqualTo(1);
+        assertThat(stats.getProducers()).isEqualTo(1);
+
+        tracker.record(List.of(event("room-2", RoomEventType.ROOM_CLOSED)));
+        tracker.record(List.of(event("room-2", RoomEventType.PARTICIPANT_JOINED)));
+        assertThat(tracker.stats("room-2").getParticipants()).isZero();
+    }
+
+    @Test
+    void seedRunsBeforeTrafficAndLaterEventsAreAddedOnTop() {
+        RoomRepository roomRepository = mock(RoomRepository.class);
+        when(roomRepository.findActiveRoomOccupancy()).thenReturn(List.of(new RoomStatsResponse("room-3", 4, 2, 0)));
+        RoomOccupancyTracker seeded = new RoomOccupancyTracker(roomRepository);
+
+        // 스프링이 웹 서버를 열기 전에 호출한다.
+        seeded.afterSingletonsInstantiated();
+        seeded.record(List.of(event("room-3", RoomEventType.PARTICIPANT_JOINED)));
+
+        RoomStatsResponse stats = seeded.stats("room-3");
+        assertThat(stats.getParticipants()).isEqualTo(5);
+        assertThat(stats.getProducers()).isEqualTo(2);
+        assertThat(stats.getPeakParticipants()).isEqualTo(5);
+    }
+
+    private RoomEvent event(String roomId, RoomEventType type) {
+        return new RoomEvent(UUID.randomUUID().toString(), type, roomId, Instant.now(), RawJson.EMPTY_OBJECT);
+    }
+}
@@ -0,0 +1,79 @@
+package com.signaling.global.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class SnowflakeIdGeneratorTest {
+
+    @Test
+    void idsAreStrictlyIncreasingWithinOneThread() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(3);
+        long previous = generator.nextId();
+        for (int i = 0; i < 100_000; i++) {
+            long next = generator.nextId();
+            assertThat(next).isGreaterThan(previous);
+            previous = next;
+        }
+    }
+
+    @Test
+    void idsStayMonotonicWhenClockMovesBackwards() {
+        AtomicLong clock = new AtomicLong(SnowflakeIdGenerator.EPOCH_MILLIS + 10_000);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, clock::get);
+        long first = generator.nextId();
+        clock.addAndGet(-5_000);
+        assertThat(generator.nextId()).isGreaterThan(first);
+    }
+
+    @Test
+    void sequenceOverflowBorrowsTheNextMillisecond() {
+        AtomicLong clock = new AtomicLong(SnowflakeIdGenerator.EPOCH_MILLIS + 10_000);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, clock::get);
+        long previous = generator.nextId();
+        for (int i = 0; i < 10_000; i++) {
+            long next = generator.nextId();
+            assertThat(next).isGreaterThan(previous);
+            previous = next;
+        }
+        assertThat(SnowflakeIdGenerator.timestampOf(previous).toEpochMilli()).isGreaterThan(clock.get());
+    }
+
+    @Test
+    void idsAreUniqueAcrossThreads() throws Exception {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(7);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 50_000; i++) {
+                        ids.add(generator.nextId());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(ids).hasSize(8 * 50_000);
+    }
+
+    @Test
+    void rejectsNodeIdOutOfRange() {
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(1024)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
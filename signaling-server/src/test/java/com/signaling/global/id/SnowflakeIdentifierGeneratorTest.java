@@ -0,0 +1,41 @@
+package com.signaling.global.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.signaling.TestcontainersConfiguration;
+import com.signaling.domain.event.entity.RoomEvent;
+import com.signaling.domain.event.entity.RoomEventType;
+import com.signaling.domain.event.repository.RoomEventRepository;
+import com.signaling.global.json.RawJson;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Hibernate가 만든 식별자 생성기에 설정된 노드의 생성기 빈이 주입되는지 확인한다. 기본값(0)과 구분되도록 노드 7을 쓴다.
+ */
+@SpringBootTest(properties = "id-generator.node-id=7")
+@Import(TestcontainersConfiguration.class)
+class SnowflakeIdentifierGeneratorTest {
+
+    @Autowired
+    private RoomEventRepository roomEventRepository;
+
+    @Test
+    void jpaPersistedEventsGetIdsFromTheInjectedGenerator() {
+        RoomEvent saved = roomEventRepository.saveAndFlush(new RoomEvent("snowflake-" + UUID.randomUUID(),
+                RoomEventType.PARTICIPANT_JOINED, "snowflake-room", Instant.now(), RawJson.EMPTY_OBJECT));
+        try {
+            long id = saved.getId();
+            assertThat((id >>> 12) & 0x3FF).isEqualTo(7L);
+            assertThat(SnowflakeIdGenerator.timestampOf(id)).isCloseTo(Instant.now(), within(1, ChronoUnit.MINUTES));
+        } finally {
+            roomEventRepository.delete(saved);
+        }
+    }
+}
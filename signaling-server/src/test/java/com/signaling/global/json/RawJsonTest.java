@@ -0,0 +1,122 @@
+package com.signaling.global.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.JsonGeneratorDelegate;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class RawJsonTest {
+
+    private final ObjectMapper json = new ObjectMapper();
+    private final ObjectMapper cbor = new ObjectMapper(new CBORFactory());
+
+    @Test
+    void jsonPayloadIsEmbeddedVerbatim() throws Exception {
+        RawJson payload = json.readValue("{\"hostId\":\"h-1\",\"nested\":{\"a\":[1,2]}}", RawJson.class);
+
+        assertThat(payload.text()).isEqualTo("{\"hostId\":\"h-1\",\"nested\":{\"a\":[1,2]}}");
+        assertThat(json.writeValueAsString(Map.of("payload", payload)))
+                .isEqualTo("{\"payload\":{\"hostId\":\"h-1\",\"nested\":{\"a\":[1,2]}}}");
+    }
+
+    @Test
+    void binaryFormatsRoundTripThroughTokens() throws Exception {
+        RawJson payload = RawJson.of("{\"userId\":\"u-1\",\"count\":3}");
+
+        byte[] encoded = cbor.writeValueAsBytes(payload);
+
+        assertThat(cbor.readValue(encoded, RawJson.class)).isEqualTo(payload);
+    }
+
+    @Test
+    void smileRoundTripsThroughTokens() throws Exception {
+        ObjectMapper smile = new ObjectMapper(new SmileFactory());
+        RawJson payload = RawJson.of("{\"userId\":\"u-1\",\"tags\":[\"a\",\"b\"]}");
+
+        byte[] encoded = smile.writeValueAsBytes(payload);
+
+        assertThat(smile.readValue(encoded, RawJson.class)).isEqualTo(payload);
+    }
+
+    @Test
+    void treeConversionCopiesTokensInsteadOfEmbeddingText() {
+        RawJson payload = RawJson.of("{\"hostId\":\"h-1\",\"count\":2}");
+
+        JsonNode tree = json.valueToTree(Map.of("payload", payload));
+
+        assertThat(tree.get("payload").isObject()).isTrue();
+        assertThat(tree.get("payload").get("count").asInt()).isEqualTo(2);
+    }
+
+    @Test
+    void delegatingJsonGeneratorStillWritesVerbatim() throws Exception {
+        RawJson payload = RawJson.of("{\"a\" : 1}");
+        StringWriter writer = new StringWriter();
+
+        try (JsonGenerator generator = new JsonGeneratorDelegate(json.getFactory().createGenerator(writer))) {
+            json.writeValue(generator, payload);
+        }
+
+        // 원문 공백이 그대로 남으면 토큰 복사가 아니라 원문 쓰기로 처리된 것이다.
+        assertThat(writer.toString()).isEqualTo("{\"a\" : 1}");
+    }
+
+    @Test
+    void delegatingBinaryGeneratorCopiesTokens() throws Exception {
+        RawJson payload = RawJson.of("{\"userId\":\"u-1\"}");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (JsonGenerator generator = new JsonGeneratorDelegate(cbor.getFactory().createGenerator(out))) {
+            cbor.writeValue(generator, payload);
+        }
+
+        assertThat(cbor.readValue(out.toByteArray(), RawJson.class)).isEqualTo(payload);
+    }
+
+    @Test
+    void delegatingTokenBufferCopiesTokens() throws Exception {
+        RawJson payload = RawJson.of("{\"count\":2}");
+        TokenBuffer buffer = new TokenBuffer(json, false);
+
+        json.writeValue(new JsonGeneratorDelegate(buffer), payload);
+
+        JsonNode tree = json.readTree(buffer.asParser());
+        assertThat(tree.isObject()).isTrue();
+        assertThat(tree.get("count").asInt()).isEqualTo(2);
+    }
+
+    @Test
+    void onlyJacksonJsonGeneratorsWriteRawText() throws Exception {
+        assertThat(RawJson.writesJsonText(json.getFactory().createGenerator(new StringWriter()))).isTrue();
+        assertThat(RawJson.writesJsonText(new TokenBuffer(json, false))).isFalse();
+        assertThat(RawJson.writesJsonText(cbor.getFactory().createGenerator(new ByteArrayOutputStream())))
+                .isFalse();
+    }
+
+    @Test
+    void stringFieldReadsTopLevelScalarsOnly() {
+        RawJson payload = RawJson.of("{\"nested\":{\"hostId\":\"inner\"},\"hostId\":42,\"name\":null}");
+
+        assertThat(payload.stringField("hostId")).isEqualTo("42");
+        assertThat(payload.stringField("name")).isNull();
+        assertThat(payload.stringField("nested")).isNull();
+        assertThat(payload.stringField("missing")).isNull();
+    }
+
+    @Test
+    void nonObjectPayloadIsRejected() {
+        assertThatThrownBy(() -> json.readValue("[1,2]", RawJson.class))
+                .isInstanceOf(MismatchedInputException.class);
+    }
+}
@@ -1,9 +1,12 @@
 package com.signaling.server;
 
+import com.signaling.TestcontainersConfiguration;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
 
 @SpringBootTest
+@Import(TestcontainersConfiguration.class)
 class SignalingServerApplicationTests {
 
 	@Test